@@ -0,0 +1,256 @@
+package com.ead.gearup.config;
+
+import com.ead.gearup.exception.ChatbotUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Resilience layer applied to every call made through the chatbot WebClient.
+ * <ul>
+ *   <li>Circuit breaker: opens when the failure rate over the last calls crosses the threshold,
+ *       rejects calls while open, then lets a few probe calls through (half-open) and closes
+ *       again only if they all succeed.</li>
+ *   <li>Bulkhead: caps in-flight calls (including body transfer) and rejects the excess
+ *       instead of queueing it behind a degraded service.</li>
+ *   <li>Retries: idempotent GETs are retried with backoff on transport errors.</li>
+ * </ul>
+ * Rejections fail with {@link ChatbotUnavailableException} immediately, so callers can
+ * fall back without waiting for a timeout.
+ */
+@Component
+@Slf4j
+public class ChatbotResilienceFilter implements ExchangeFilterFunction {
+
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final ChatbotResilienceProperties properties;
+    private final Semaphore bulkhead;
+
+    // Ring buffer of recent outcomes (true = failure), guarded by this
+    private final boolean[] window;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+
+    private State state = State.CLOSED;
+    // Bumped on every state change; outcomes of calls admitted under an earlier state are ignored
+    private long generation;
+    private long openedAtNanos;
+    private int halfOpenInFlight;
+    private int halfOpenSuccesses;
+
+    private final Counter successes;
+    private final Counter failures;
+    private final Counter rejectedOpen;
+    private final Counter rejectedBulkhead;
+    private final Counter retries;
+
+    public ChatbotResilienceFilter(ChatbotResilienceProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.bulkhead = new Semaphore(properties.getMaxConcurrentCalls());
+        this.window = new boolean[properties.getSlidingWindowSize()];
+
+        this.successes = callCounter(meterRegistry, "success");
+        this.failures = callCounter(meterRegistry, "failure");
+        this.rejectedOpen = callCounter(meterRegistry, "circuit_open");
+        this.rejectedBulkhead = callCounter(meterRegistry, "bulkhead_full");
+        this.retries = Counter.builder("chatbot.calls.retries")
+                .description("Retried idempotent calls to the chatbot service")
+                .register(meterRegistry);
+        Gauge.builder("chatbot.circuit.state", this, filter -> filter.getState().ordinal())
+                .description("Chatbot circuit breaker state (0 closed, 1 open, 2 half-open)")
+                .register(meterRegistry);
+        Gauge.builder("chatbot.bulkhead.available", bulkhead, Semaphore::availablePermits)
+                .description("Free chatbot call slots")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        Mono<ClientResponse> guarded = Mono.defer(() -> guardedExchange(request, next));
+        if (!HttpMethod.GET.equals(request.method()) || properties.getMaxGetRetries() <= 0) {
+            return guarded;
+        }
+        return guarded.retryWhen(Retry.backoff(properties.getMaxGetRetries(),
+                        Duration.ofMillis(properties.getRetryBackoffMillis()))
+                .filter(error -> !(error instanceof ChatbotUnavailableException))
+                .doBeforeRetry(signal -> retries.increment())
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+    }
+
+    public synchronized State getState() {
+        // Report an expired open circuit as half-open so the gauge reflects what the next call sees
+        if (state == State.OPEN && openWaitElapsed()) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    // Private helper methods
+
+    private Mono<ClientResponse> guardedExchange(ClientRequest request, ExchangeFunction next) {
+        long admittedIn = tryAcquirePermission();
+        if (admittedIn < 0) {
+            rejectedOpen.increment();
+            return Mono.error(new ChatbotUnavailableException("Chatbot service circuit is open"));
+        }
+        if (!bulkhead.tryAcquire()) {
+            releaseProbe(admittedIn);
+            rejectedBulkhead.increment();
+            return Mono.error(new ChatbotUnavailableException("Too many concurrent chatbot calls"));
+        }
+
+        AtomicBoolean slotReleased = new AtomicBoolean(false);
+        Runnable releaseSlot = () -> {
+            if (slotReleased.compareAndSet(false, true)) {
+                bulkhead.release();
+            }
+        };
+        AtomicBoolean outcomeRecorded = new AtomicBoolean(false);
+
+        return next.exchange(request)
+                .map(response -> {
+                    if (outcomeRecorded.compareAndSet(false, true)) {
+                        if (response.statusCode().is5xxServerError()) {
+                            onFailure(admittedIn);
+                        } else {
+                            onSuccess(admittedIn);
+                        }
+                    }
+                    // Hold the bulkhead slot until the body has been fully read or discarded
+                    return response.mutate()
+                            .body(body -> body.doFinally(signal -> releaseSlot.run()))
+                            .build();
+                })
+                .doOnError(error -> {
+                    if (outcomeRecorded.compareAndSet(false, true)) {
+                        onFailure(admittedIn);
+                    }
+                    releaseSlot.run();
+                })
+                .doOnCancel(() -> {
+                    if (outcomeRecorded.compareAndSet(false, true)) {
+                        releaseProbe(admittedIn);
+                    }
+                    releaseSlot.run();
+                });
+    }
+
+    // Generation the call was admitted in, or -1 if it is rejected
+    private synchronized long tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (!openWaitElapsed()) {
+                return -1;
+            }
+            state = State.HALF_OPEN;
+            generation++;
+            halfOpenInFlight = 0;
+            halfOpenSuccesses = 0;
+            log.info("Chatbot circuit half-open, probing service");
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenInFlight >= properties.getHalfOpenPermittedCalls()) {
+                return -1;
+            }
+            halfOpenInFlight++;
+        }
+        return generation;
+    }
+
+    private synchronized void onSuccess(long admittedIn) {
+        successes.increment();
+        if (admittedIn != generation) {
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            halfOpenInFlight--;
+            halfOpenSuccesses++;
+            if (halfOpenSuccesses >= properties.getHalfOpenPermittedCalls()) {
+                close();
+            }
+            return;
+        }
+        record(false);
+    }
+
+    private synchronized void onFailure(long admittedIn) {
+        failures.increment();
+        if (admittedIn != generation) {
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        record(true);
+        if (windowCount >= properties.getMinimumCalls()
+                && windowFailures * 100 >= properties.getFailureRateThreshold() * windowCount) {
+            open();
+        }
+    }
+
+    // A probe that ended without an outcome frees its half-open slot
+    private synchronized void releaseProbe(long admittedIn) {
+        if (admittedIn == generation && state == State.HALF_OPEN && halfOpenInFlight > 0) {
+            halfOpenInFlight--;
+        }
+    }
+
+    private void record(boolean failed) {
+        if (windowCount == window.length) {
+            if (window[windowIndex]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = failed;
+        if (failed) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private void open() {
+        if (state != State.OPEN) {
+            log.warn("Chatbot circuit opened after {} failures in {} calls", windowFailures, windowCount);
+        }
+        state = State.OPEN;
+        generation++;
+        openedAtNanos = System.nanoTime();
+    }
+
+    private void close() {
+        log.info("Chatbot circuit closed, service recovered");
+        state = State.CLOSED;
+        generation++;
+        windowIndex = 0;
+        windowCount = 0;
+        windowFailures = 0;
+    }
+
+    private boolean openWaitElapsed() {
+        return System.nanoTime() - openedAtNanos >= Duration.ofMillis(properties.getOpenWaitMillis()).toNanos();
+    }
+
+    private static Counter callCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("chatbot.calls")
+                .tag("outcome", outcome)
+                .description("Calls to the chatbot service by outcome")
+                .register(meterRegistry);
+    }
+}
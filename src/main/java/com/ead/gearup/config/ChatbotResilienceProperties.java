@@ -0,0 +1,39 @@
+package com.ead.gearup.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Circuit breaker, bulkhead and retry settings for calls to the Python chatbot service,
+ * bound from the chatbot.resilience.* properties
+ */
+@Component
+@ConfigurationProperties(prefix = "chatbot.resilience")
+@Data
+public class ChatbotResilienceProperties {
+
+    // Open the circuit when at least this percentage of recent calls failed
+    private int failureRateThreshold = 50;
+
+    // Number of most recent calls the failure rate is computed over
+    private int slidingWindowSize = 20;
+
+    // Calls needed in the window before the failure rate is evaluated
+    private int minimumCalls = 10;
+
+    // How long the circuit stays open before letting probe calls through
+    private long openWaitMillis = 15_000;
+
+    // Probe calls allowed while half-open; all must succeed to close the circuit
+    private int halfOpenPermittedCalls = 3;
+
+    // Concurrent in-flight calls allowed before new calls are rejected
+    private int maxConcurrentCalls = 50;
+
+    // Extra attempts for idempotent GETs that fail at the transport level
+    private int maxGetRetries = 2;
+
+    // Initial backoff between those retries, doubled on each attempt
+    private long retryBackoffMillis = 100;
+}
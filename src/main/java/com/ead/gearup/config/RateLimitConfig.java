@@ -1,76 +1,328 @@
 package com.ead.gearup.config;
 
+import com.ead.gearup.enums.RateLimitProfile;
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
 import io.github.bucket4j.Refill;
+import io.github.bucket4j.distributed.ExpirationAfterWriteStrategy;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.github.bucket4j.redis.lettuce.cas.LettuceBasedProxyManager;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.StringCodec;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
 
 /**
  * Rate Limiting Configuration using Bucket4j
  * Implements token bucket algorithm to prevent DoS attacks
+ *
+ * Buckets live in Redis so every replica shares the same limit; only a bounded,
+ * idle-evicted set of bucket handles is kept in memory. If Redis cannot be reached,
+ * limits fall back to per-node buckets and callers move back to Redis once it is
+ * reachable again.
  */
 @Configuration
 @Component
+@Slf4j
 public class RateLimitConfig {
 
-    // In-memory cache for user buckets (use Redis for production distributed systems)
-    private final Map<String, Bucket> cache = new ConcurrentHashMap<>();
+    private static final String REDIS_KEY_PREFIX = "rate-limit:";
+    private static final Duration REDIS_COMMAND_TIMEOUT = Duration.ofSeconds(2);
+
+    private final RateLimitProperties properties;
+    private final Supplier<ProxyManager<String>> proxyManagerFactory;
+
+    private final Map<String, CachedBucket> cache = new ConcurrentHashMap<>();
+    private final ReentrantLock connectLock = new ReentrantLock();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private volatile ProxyManager<String> proxyManager;
+    private volatile long nextRedisAttemptNanos = System.nanoTime();
+
+    private StatefulRedisConnection<String, byte[]> redisConnection;
+
+    @Autowired
+    public RateLimitConfig(RateLimitProperties properties, RedisConnectionFactory redisConnectionFactory) {
+        this.properties = properties;
+        this.proxyManagerFactory = () -> connectRedis(redisConnectionFactory);
+    }
+
+    public RateLimitConfig(RateLimitProperties properties, Supplier<ProxyManager<String>> proxyManagerFactory) {
+        this.properties = properties;
+        this.proxyManagerFactory = proxyManagerFactory;
+    }
 
     /**
-     * Get or create a rate limit bucket for a user
-     *
-     * Rate limits:
-     * - 20 requests per minute per user for chat endpoints
-     * - Refills at 20 tokens per minute
+     * Get or create a rate limit bucket for a user on the chat profile
      *
      * @param userEmail User identifier
      * @return Bucket for the user
      */
     public Bucket resolveBucket(String userEmail) {
-        return cache.computeIfAbsent(userEmail, k -> createNewBucket());
+        return resolveBucket(RateLimitProfile.CHAT, userEmail);
     }
 
     /**
-     * Create a new bucket with rate limit configuration
+     * Get or create the bucket for a caller under the given profile
      *
-     * Configuration:
-     * - Capacity: 20 tokens (burst capacity)
-     * - Refill: 20 tokens per minute (1 token every 3 seconds)
+     * @param profile Endpoint group whose limits apply
+     * @param key     Caller identifier (email, user id or client address)
+     * @return Bucket for the caller
      */
-    private Bucket createNewBucket() {
-        Bandwidth limit = Bandwidth.classic(
-            20,  // capacity - maximum burst
-            Refill.intervally(20, Duration.ofMinutes(1))  // refill rate
-        );
-        return Bucket.builder()
-            .addLimit(limit)
-            .build();
+    public Bucket resolveBucket(RateLimitProfile profile, String key) {
+        return resolveCachedBucket(profile, key).bucket;
     }
 
     /**
-     * Check if request is allowed for a user
+     * Check if request is allowed for a user on the chat profile
      *
      * @param userEmail User identifier
      * @return true if request is allowed, false if rate limit exceeded
      */
     public boolean tryConsume(String userEmail) {
-        Bucket bucket = resolveBucket(userEmail);
-        return bucket.tryConsume(1);
+        return tryConsume(RateLimitProfile.CHAT, userEmail);
+    }
+
+    /**
+     * Check if a request is allowed for a caller under the given profile
+     *
+     * @param profile Endpoint group whose limits apply
+     * @param key     Caller identifier
+     * @return true if request is allowed, false if rate limit exceeded
+     */
+    public boolean tryConsume(RateLimitProfile profile, String key) {
+        CachedBucket cached = resolveCachedBucket(profile, key);
+        try {
+            return cached.bucket.tryConsume(1);
+        } catch (RuntimeException e) {
+            if (!cached.distributed) {
+                throw e;
+            }
+            log.warn("Distributed rate limit unavailable, using local bucket for {}: {}", profile, e.getMessage());
+            markRedisUnavailable();
+            return replaceWithLocal(profile, key, cached).bucket.tryConsume(1);
+        }
     }
 
     /**
-     * Get remaining tokens for a user
+     * Get remaining tokens for a user on the chat profile
      *
      * @param userEmail User identifier
      * @return Number of available tokens
      */
     public long getAvailableTokens(String userEmail) {
-        Bucket bucket = resolveBucket(userEmail);
-        return bucket.getAvailableTokens();
+        return getAvailableTokens(RateLimitProfile.CHAT, userEmail);
+    }
+
+    /**
+     * Get remaining tokens for a caller under the given profile
+     */
+    public long getAvailableTokens(RateLimitProfile profile, String key) {
+        CachedBucket cached = resolveCachedBucket(profile, key);
+        try {
+            return cached.bucket.getAvailableTokens();
+        } catch (RuntimeException e) {
+            if (!cached.distributed) {
+                throw e;
+            }
+            markRedisUnavailable();
+            return replaceWithLocal(profile, key, cached).bucket.getAvailableTokens();
+        }
+    }
+
+    /**
+     * Drop bucket handles that have not been used within the idle window
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.idle-sweep-ms:60000}")
+    public void evictIdleBuckets() {
+        long idleNanos = Duration.ofSeconds(properties.getIdleEvictionSeconds()).toNanos();
+        long now = System.nanoTime();
+        cache.values().removeIf(cached -> now - cached.lastAccessNanos > idleNanos);
+    }
+
+    public int cachedBucketCount() {
+        return cache.size();
+    }
+
+    // The Redis client itself belongs to the Spring connection factory
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (redisConnection != null) {
+            redisConnection.close();
+        }
+    }
+
+    // Private helper methods
+
+    private CachedBucket resolveCachedBucket(RateLimitProfile profile, String key) {
+        String cacheKey = cacheKey(profile, key);
+        CachedBucket cached = cache.get(cacheKey);
+        if (cached == null) {
+            // Reach Redis before touching the map so no lock is held while connecting
+            ProxyManager<String> manager = proxyManager();
+            cached = cache.computeIfAbsent(cacheKey, k -> createBucket(manager, profile, k));
+            evictOverflow();
+        } else if (!cached.distributed && properties.isDistributed() && cached.retryDue(retryIntervalNanos())) {
+            cached = retryDistributed(profile, cacheKey, cached);
+        }
+        cached.lastAccessNanos = System.nanoTime();
+        return cached;
+    }
+
+    // Move a caller that fell back to a local bucket back onto Redis once it is reachable
+    private CachedBucket retryDistributed(RateLimitProfile profile, String cacheKey, CachedBucket local) {
+        ProxyManager<String> manager = proxyManager();
+        if (manager == null) {
+            local.localSinceNanos = System.nanoTime();
+            return local;
+        }
+        CachedBucket distributed = createBucket(manager, profile, cacheKey);
+        return cache.replace(cacheKey, local, distributed) ? distributed : cache.getOrDefault(cacheKey, distributed);
+    }
+
+    private CachedBucket replaceWithLocal(RateLimitProfile profile, String key, CachedBucket failed) {
+        String cacheKey = cacheKey(profile, key);
+        CachedBucket local = new CachedBucket(createLocalBucket(profile), false);
+        cache.replace(cacheKey, failed, local);
+        return local;
+    }
+
+    private CachedBucket createBucket(ProxyManager<String> manager, RateLimitProfile profile, String cacheKey) {
+        if (manager != null) {
+            BucketConfiguration configuration = configurationFor(profile);
+            return new CachedBucket(manager.builder().build(REDIS_KEY_PREFIX + cacheKey, () -> configuration), true);
+        }
+        return new CachedBucket(createLocalBucket(profile), false);
+    }
+
+    /**
+     * Create a new in-memory bucket with the profile's rate limit configuration
+     */
+    private Bucket createLocalBucket(RateLimitProfile profile) {
+        return Bucket.builder()
+            .addLimit(bandwidthFor(profile))
+            .build();
+    }
+
+    private BucketConfiguration configurationFor(RateLimitProfile profile) {
+        return BucketConfiguration.builder()
+            .addLimit(bandwidthFor(profile))
+            .build();
+    }
+
+    private Bandwidth bandwidthFor(RateLimitProfile profile) {
+        RateLimitProperties.Limit limit = properties.getLimit(profile);
+        return Bandwidth.classic(
+            limit.getCapacity(),  // capacity - maximum burst
+            Refill.intervally(limit.getCapacity(), Duration.ofSeconds(limit.getRefillPeriodSeconds()))  // refill rate
+        );
+    }
+
+    // Only one caller connects at a time; the others use local buckets meanwhile
+    private ProxyManager<String> proxyManager() {
+        if (!properties.isDistributed()) {
+            return null;
+        }
+        ProxyManager<String> manager = proxyManager;
+        if (manager != null || System.nanoTime() - nextRedisAttemptNanos < 0 || !connectLock.tryLock()) {
+            return manager;
+        }
+        try {
+            if (proxyManager == null && System.nanoTime() - nextRedisAttemptNanos >= 0) {
+                try {
+                    proxyManager = proxyManagerFactory.get();
+                } catch (RuntimeException e) {
+                    log.warn("Could not connect rate limiter to Redis, using local buckets: {}", e.getMessage());
+                    nextRedisAttemptNanos = System.nanoTime() + retryIntervalNanos();
+                }
+            }
+            return proxyManager;
+        } finally {
+            connectLock.unlock();
+        }
+    }
+
+    private void markRedisUnavailable() {
+        proxyManager = null;
+        nextRedisAttemptNanos = System.nanoTime() + retryIntervalNanos();
+    }
+
+    private long retryIntervalNanos() {
+        return Duration.ofSeconds(properties.getRedisRetrySeconds()).toNanos();
+    }
+
+    // Drop the least recently used handles, a tenth of the bound at a time so a flood of
+    // new callers does not sort the whole map on every request
+    private void evictOverflow() {
+        int maxEntries = properties.getLocalMaxEntries();
+        int overflow = cache.size() - maxEntries;
+        if (overflow <= 0 || !evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            cache.entrySet().stream()
+                    .map(entry -> Map.entry(entry.getKey(), entry.getValue().lastAccessNanos))
+                    .sorted(Map.Entry.comparingByValue())
+                    .limit(Math.max(overflow, maxEntries / 10))
+                    .forEach(entry -> cache.remove(entry.getKey()));
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    // Reuse the client of the Spring connection factory so credentials, SSL and timeouts match
+    private synchronized ProxyManager<String> connectRedis(RedisConnectionFactory connectionFactory) {
+        if (!(connectionFactory instanceof LettuceConnectionFactory lettuce)
+                || !(lettuce.getRequiredNativeClient() instanceof RedisClient redisClient)) {
+            throw new IllegalStateException("Rate limiter needs a standalone Lettuce connection factory");
+        }
+        if (redisConnection != null) {
+            redisConnection.close();
+        }
+        redisConnection = redisClient.connect(RedisCodec.of(StringCodec.UTF8, ByteArrayCodec.INSTANCE));
+        redisConnection.setTimeout(REDIS_COMMAND_TIMEOUT);
+        log.info("Rate limiter using Redis buckets at {}:{}", lettuce.getHostName(), lettuce.getPort());
+        return LettuceBasedProxyManager.builderFor(redisConnection)
+                // Redis drops a bucket's key once it would have refilled completely
+                .withExpirationStrategy(ExpirationAfterWriteStrategy.basedOnTimeForRefillingBucketUpToMax(Duration.ofSeconds(10)))
+                .build();
+    }
+
+    private static String cacheKey(RateLimitProfile profile, String key) {
+        return profile.name().toLowerCase() + ":" + key;
+    }
+
+    private static final class CachedBucket {
+        private final Bucket bucket;
+        private final boolean distributed;
+        private volatile long lastAccessNanos;
+        private volatile long localSinceNanos;
+
+        private CachedBucket(Bucket bucket, boolean distributed) {
+            this.bucket = bucket;
+            this.distributed = distributed;
+            this.lastAccessNanos = System.nanoTime();
+            this.localSinceNanos = lastAccessNanos;
+        }
+
+        private boolean retryDue(long retryIntervalNanos) {
+            return System.nanoTime() - localSinceNanos >= retryIntervalNanos;
+        }
     }
 }
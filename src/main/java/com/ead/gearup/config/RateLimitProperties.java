@@ -0,0 +1,57 @@
+package com.ead.gearup.config;
+
+import com.ead.gearup.enums.RateLimitProfile;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Rate limit settings bound from the rate-limit.* properties
+ */
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+@Data
+public class RateLimitProperties {
+
+    // Share buckets across replicas through Redis; falls back to per-node buckets when Redis is unavailable
+    private boolean distributed = true;
+
+    // Upper bound on bucket handles kept in memory
+    private int localMaxEntries = 10_000;
+
+    // Bucket handles untouched for this long are dropped from memory
+    private long idleEvictionSeconds = 600;
+
+    // How long to wait before trying Redis again after it failed
+    private long redisRetrySeconds = 30;
+
+    private Map<RateLimitProfile, Limit> profiles = new EnumMap<>(Map.of(
+            RateLimitProfile.CHAT, new Limit(20, 60),
+            RateLimitProfile.AUTH, new Limit(10, 60),
+            RateLimitProfile.SEARCH, new Limit(60, 60)
+    ));
+
+    public Limit getLimit(RateLimitProfile profile) {
+        Limit limit = profiles.get(profile);
+        if (limit == null) {
+            throw new IllegalStateException("No rate limit configured for profile: " + profile);
+        }
+        return limit;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limit {
+
+        // Maximum burst, refilled in full every refill period
+        private long capacity;
+
+        private long refillPeriodSeconds;
+    }
+}
@@ -1,5 +1,6 @@
 package com.ead.gearup.config;
 
+import com.ead.gearup.service.ChatResponseCache;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -9,6 +10,8 @@ import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -67,4 +70,20 @@ public class RedisConfig {
                 .transactionAware()
                 .build();
     }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       ChatResponseCache chatResponseCache) {
+        // Started by RedisListenerStarter instead, so an unreachable Redis does not abort startup
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer() {
+            @Override
+            public boolean isAutoStartup() {
+                return false;
+            }
+        };
+        container.setConnectionFactory(connectionFactory);
+        // Keeps every instance's local chat near-cache in step with Redis
+        container.addMessageListener(chatResponseCache, new ChannelTopic(ChatResponseCache.INVALIDATION_CHANNEL));
+        return container;
+    }
 }
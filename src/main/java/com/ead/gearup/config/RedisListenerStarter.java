@@ -0,0 +1,43 @@
+package com.ead.gearup.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Starts the Redis listener container once Redis is reachable and keeps retrying while it is not.
+ * Until then the chat near-cache only misses invalidations from other instances, which its TTL bounds.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class RedisListenerStarter {
+
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private boolean failureLogged;
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${chatbot.cache.invalidation.retry-interval-ms:30000}")
+    public synchronized void ensureListening() {
+        if (redisMessageListenerContainer.isListening()) {
+            return;
+        }
+        try {
+            redisMessageListenerContainer.start();
+            log.info("Subscribed to Redis chat cache invalidations");
+            failureLogged = false;
+        } catch (RuntimeException e) {
+            // A failed start leaves the container marked as started, so reset it for the next attempt
+            redisMessageListenerContainer.stop();
+            if (!failureLogged) {
+                log.warn("Redis unavailable, chat cache invalidations are not received until it is back: {}",
+                        e.getMessage());
+                failureLogged = true;
+            } else {
+                log.debug("Redis still unavailable: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.ead.gearup.config;
 
 import com.ead.gearup.dto.response.ApiResponseDTO;
 import com.ead.gearup.filter.JwtAuthenticationFilter;
+import com.ead.gearup.filter.RateLimitFilter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import jakarta.servlet.http.HttpServletResponse;
@@ -35,6 +36,7 @@ import java.util.List;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
     private final ObjectMapper objectMapper;
 
     @Value("${cors.allowed.origins:http://localhost:3000,http://localhost:3001}")
@@ -110,6 +112,9 @@ public class SecurityConfig {
                 // Add JWT filter before UsernamePasswordAuthenticationFilter
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
 
+                // Rate limit after JWT so per-user profiles can key on the authenticated user
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class)
+
                 .build();
     }
 
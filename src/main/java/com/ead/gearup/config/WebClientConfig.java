@@ -7,10 +7,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
@@ -28,16 +30,57 @@ public class WebClientConfig {
     @Value("${chatbot.python.service.timeout:30}")
     private int timeoutSeconds;
 
+    @Value("${chatbot.python.service.max-connections:200}")
+    private int maxConnections;
+
+    @Value("${chatbot.python.service.pending-acquire-max-count:1000}")
+    private int pendingAcquireMaxCount;
+
+    @Value("${chatbot.python.service.pending-acquire-timeout-seconds:5}")
+    private int pendingAcquireTimeoutSeconds;
+
+    @Value("${chatbot.stream.max-connections:50}")
+    private int maxStreamConnections;
+
+    @Bean
+    @Primary
+    public WebClient chatbotWebClient(ChatbotResilienceFilter resilienceFilter) {
+        log.info("Configuring WebClient for Python chatbot service at: {}", pythonServiceUrl);
+
+        return webClientBuilder("chatbot", maxConnections)
+                // Circuit breaker, bulkhead and GET retries around every call
+                .filter(resilienceFilter)
+                .build();
+    }
+
+    /**
+     * Client for SSE chat streams. Streams stay open for minutes, so they get their own
+     * connection pool and skip the bulkhead and circuit breaker instead of holding permits
+     * that ordinary chat calls need; they are bounded by the stream idle and duration limits.
+     */
     @Bean
-    public WebClient chatbotWebClient() {
+    public WebClient chatbotStreamWebClient() {
+        return webClientBuilder("chatbot-stream", maxStreamConnections).build();
+    }
+
+    private WebClient.Builder webClientBuilder(String poolName, int poolMaxConnections) {
         if (pythonServiceUrl == null || pythonServiceUrl.trim().isEmpty()) {
             throw new IllegalStateException("CHATBOT_PYTHON_SERVICE_URL environment variable must be set for chatbot integration");
         }
-        
-        log.info("Configuring WebClient for Python chatbot service at: {}", pythonServiceUrl);
+
+        // Pooled so concurrent chats reuse keep-alive connections
+        ConnectionProvider connectionProvider = ConnectionProvider.builder(poolName)
+                .maxConnections(poolMaxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                // Fail quickly when the pool is exhausted instead of holding callers for the full timeout
+                .pendingAcquireTimeout(Duration.ofSeconds(pendingAcquireTimeoutSeconds))
+                .maxIdleTime(Duration.ofSeconds(60))
+                .evictInBackground(Duration.ofSeconds(120))
+                .metrics(true)
+                .build();
 
         // Configure HTTP client with timeouts
-        HttpClient httpClient = HttpClient.create()
+        HttpClient httpClient = HttpClient.create(connectionProvider)
                 .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, timeoutSeconds * 1000)
                 .responseTimeout(Duration.ofSeconds(timeoutSeconds))
                 .doOnConnected(conn -> conn
@@ -52,7 +95,6 @@ public class WebClientConfig {
         return WebClient.builder()
                 .baseUrl(pythonServiceUrl)
                 .clientConnector(new ReactorClientHttpConnector(httpClient))
-                .exchangeStrategies(strategies)
-                .build();
+                .exchangeStrategies(strategies);
     }
 }
@@ -0,0 +1,90 @@
+package com.ead.gearup.controller;
+
+import com.ead.gearup.dto.analytics.MetricSeriesDTO;
+import com.ead.gearup.dto.response.ApiResponseDTO;
+import com.ead.gearup.enums.MetricGranularity;
+import com.ead.gearup.enums.MetricSubject;
+import com.ead.gearup.service.AnalyticsService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/admin/analytics")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearerAuth")
+@Tag(name = "Admin Analytics", description = "Time-bucketed project and appointment metrics")
+public class AnalyticsController {
+
+    private final AnalyticsService analyticsService;
+
+    @GetMapping("/{subject}")
+    @Operation(
+        summary = "Get a metric series",
+        description = "Transitions into a status per day, week or month, with average time from creation and revenue. "
+                + "Subject is 'projects' or 'appointments'; omit status to count every status."
+    )
+    public ResponseEntity<ApiResponseDTO<MetricSeriesDTO>> getSeries(
+            @PathVariable String subject,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "MONTH") MetricGranularity granularity,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Long employeeId,
+            HttpServletRequest request) {
+
+        MetricSeriesDTO series = analyticsService.getSeries(parseSubject(subject), status, employeeId, from, to, granularity);
+
+        ApiResponseDTO<MetricSeriesDTO> response = ApiResponseDTO.<MetricSeriesDTO>builder()
+                .status("success")
+                .message("Metric series retrieved successfully")
+                .timestamp(Instant.now())
+                .path(request.getRequestURI())
+                .data(series)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/rebuild")
+    @Operation(
+        summary = "Rebuild metric rollups",
+        description = "Recompute the daily rollups for a date range from current project and appointment rows."
+    )
+    public ResponseEntity<ApiResponseDTO<Map<String, Integer>>> rebuild(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            HttpServletRequest request) {
+
+        int rows = analyticsService.rebuild(from, to);
+
+        ApiResponseDTO<Map<String, Integer>> response = ApiResponseDTO.<Map<String, Integer>>builder()
+                .status("success")
+                .message("Metric rollups rebuilt successfully")
+                .timestamp(Instant.now())
+                .path(request.getRequestURI())
+                .data(Map.of("rows", rows))
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    private static MetricSubject parseSubject(String subject) {
+        return switch (subject.toLowerCase()) {
+            case "projects" -> MetricSubject.PROJECT;
+            case "appointments" -> MetricSubject.APPOINTMENT;
+            default -> throw new IllegalArgumentException("Unknown metric subject: " + subject);
+        };
+    }
+}
@@ -1,5 +1,7 @@
 package com.ead.gearup.controller;
 
+import com.ead.gearup.dto.chat.ChatHistorySliceDTO;
+import com.ead.gearup.dto.chat.ChatHistorySummaryProjection;
 import com.ead.gearup.dto.chat.ChatRequestDTO;
 import com.ead.gearup.dto.chat.ChatResponseDTO;
 import com.ead.gearup.dto.chat.ChatStreamChunkDTO;
@@ -170,13 +172,69 @@ public class ChatController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/history/{sessionId}/feed")
+    @Operation(
+        summary = "Get chat history by session (paginated)",
+        description = "Retrieve a session's conversation newest-first using cursor pagination"
+    )
+    public ResponseEntity<ApiResponseDTO<ChatHistorySliceDTO<ChatHistory>>> getChatHistoryFeed(
+            @PathVariable String sessionId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            HttpServletRequest request) {
+
+        ChatHistorySliceDTO<ChatHistory> history = chatService.getChatHistoryFeed(sessionId, cursor, size);
+
+        ApiResponseDTO<ChatHistorySliceDTO<ChatHistory>> response = ApiResponseDTO.<ChatHistorySliceDTO<ChatHistory>>builder()
+                .status("success")
+                .message("Chat history retrieved successfully")
+                .data(history)
+                .timestamp(Instant.now())
+                .path(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/history/user/feed")
+    @Operation(
+        summary = "Get user's chat history (paginated previews)",
+        description = "Retrieve the authenticated user's conversations newest-first as truncated previews, using cursor pagination"
+    )
+    public ResponseEntity<ApiResponseDTO<ChatHistorySliceDTO<ChatHistorySummaryProjection>>> getUserChatHistoryFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            Authentication authentication,
+            HttpServletRequest request) {
+
+        Long userId = getUserIdFromAuthentication(authentication);
+        ChatHistorySliceDTO<ChatHistorySummaryProjection> history = chatService.getUserChatHistoryFeed(userId, cursor, size);
+
+        ApiResponseDTO<ChatHistorySliceDTO<ChatHistorySummaryProjection>> response =
+                ApiResponseDTO.<ChatHistorySliceDTO<ChatHistorySummaryProjection>>builder()
+                        .status("success")
+                        .message("User chat history retrieved successfully")
+                        .data(history)
+                        .timestamp(Instant.now())
+                        .path(request.getRequestURI())
+                        .build();
+
+        return ResponseEntity.ok(response);
+    }
+
     @DeleteMapping("/cache/clear")
     @Operation(
         summary = "Clear chat cache",
-        description = "Clear all cached chat responses (Admin only)"
+        description = "Clear all cached chat responses, optionally for one knowledge-base namespace (Admin only)"
     )
-    public ResponseEntity<ApiResponseDTO<Void>> clearCache(HttpServletRequest request) {
-        chatService.clearAllCache();
+    public ResponseEntity<ApiResponseDTO<Void>> clearCache(
+            @RequestParam(required = false) String namespace,
+            HttpServletRequest request) {
+        if (namespace != null && !namespace.isBlank()) {
+            chatService.clearNamespaceCache(namespace);
+        } else {
+            chatService.clearAllCache();
+        }
 
         ApiResponseDTO<Void> response = ApiResponseDTO.<Void>builder()
                 .status("success")
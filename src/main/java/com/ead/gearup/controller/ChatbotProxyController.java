@@ -2,8 +2,10 @@ package com.ead.gearup.controller;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.Authentication;
@@ -12,10 +14,12 @@ import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
 import com.ead.gearup.config.RateLimitConfig;
+import com.ead.gearup.exception.ChatbotUnavailableException;
 import com.ead.gearup.dto.chatbot.ChatRequest;
 import com.ead.gearup.dto.chatbot.ChatResponse;
 import com.ead.gearup.dto.response.ApiResponseDTO;
 import com.ead.gearup.service.AuditLogService;
+import com.ead.gearup.service.ChatbotStreamProxyService;
 import com.ead.gearup.service.CustomerService;
 import com.ead.gearup.repository.UserRepository;
 import com.ead.gearup.model.User;
@@ -26,10 +30,17 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.time.Instant;
 import java.util.Map;
 
+/**
+ * Proxy to the Python RAG chatbot service.
+ * Endpoints return Mono/Flux so a slow upstream call does not hold a servlet thread;
+ * the security context is read on the request thread before the reactive call starts.
+ */
 @RestController
 @RequestMapping("/api/v1/rag-chat")
 @RequiredArgsConstructor
@@ -38,11 +49,12 @@ import java.util.Map;
 @Slf4j
 public class ChatbotProxyController {
 
-    private final WebClient.Builder webClientBuilder;
+    private final WebClient chatbotWebClient;
     private final CustomerService customerService;
     private final RateLimitConfig rateLimitConfig;
     private final AuditLogService auditLogService;
     private final UserRepository userRepository;
+    private final ChatbotStreamProxyService chatbotStreamProxyService;
 
     @Value("${chatbot.python.service.url:http://localhost:8000}")
     private String chatbotServiceUrl;
@@ -64,11 +76,14 @@ public class ChatbotProxyController {
         summary = "Send chat message",
         description = "Process chat message through RAG chatbot service with customer context"
     )
-    public ResponseEntity<ApiResponseDTO<ChatResponse>> chat(
+    public Mono<ResponseEntity<ApiResponseDTO<ChatResponse>>> chat(
             @RequestBody ChatRequest request,
             HttpServletRequest httpRequest,
             @RequestHeader("Authorization") String authorizationHeader) {
 
+        String path = httpRequest.getRequestURI();
+        String customerEmail = null;
+
         try {
             // Validate chatbot service configuration
             validateChatbotServiceUrl();
@@ -77,19 +92,14 @@ public class ChatbotProxyController {
             log.info("Processing chat request: {}", questionPreview);
 
             // Get authenticated customer context
-            String customerEmail = getCurrentCustomerEmail();
+            customerEmail = getCurrentCustomerEmail();
 
             // Rate limiting check
             if (!rateLimitConfig.tryConsume(customerEmail)) {
                 log.warn("Rate limit exceeded for user: {}", customerEmail);
                 auditLogService.logRateLimitViolation(customerEmail, "/chat");
-                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
-                        .body(ApiResponseDTO.<ChatResponse>builder()
-                                .status("error")
-                                .message("Rate limit exceeded. Please try again in a few moments.")
-                                .timestamp(Instant.now())
-                                .path(httpRequest.getRequestURI())
-                                .build());
+                return Mono.just(errorResponse(HttpStatus.TOO_MANY_REQUESTS,
+                        "Rate limit exceeded. Please try again in a few moments.", path));
             }
 
             Long customerId = customerService.getCustomerIdByEmail(customerEmail);
@@ -112,101 +122,93 @@ public class ChatbotProxyController {
                     .authToken(jwtToken)
                     .build();
 
-            // Call Python chatbot service
-            WebClient webClient = webClientBuilder.build();
-            ChatResponse chatbotResponse = webClient
+            // Call Python chatbot service without blocking the request thread
+            String auditEmail = customerEmail;
+            return chatbotWebClient
                     .post()
-                    .uri(chatbotServiceUrl + "/chat")
+                    .uri("/chat")
                     .contentType(MediaType.APPLICATION_JSON)
                     .bodyValue(chatbotRequest)
                     .retrieve()
                     .bodyToMono(ChatResponse.class)
-                    .block();
-
-            ApiResponseDTO<ChatResponse> response = ApiResponseDTO.<ChatResponse>builder()
-                    .status("success")
-                    .message("Chat response generated successfully")
-                    .data(chatbotResponse)
-                    .timestamp(Instant.now())
-                    .path(httpRequest.getRequestURI())
-                    .build();
-
-            return ResponseEntity.ok(response);
+                    .map(chatbotResponse -> successResponse("Chat response generated successfully", chatbotResponse, path))
+                    .onErrorResume(e -> {
+                        auditLogService.logChatRequest(auditEmail, "", false);
+                        return Mono.just(upstreamErrorResponse(e, "Chatbot service error: ", path));
+                    });
 
-        } catch (WebClientResponseException e) {
-            log.error("Error calling chatbot service: {}", e.getMessage());
-            try {
-                String customerEmail = getCurrentCustomerEmail();
-                auditLogService.logChatRequest(customerEmail, "", false);
-            } catch (Exception ignored) {
-                // Best effort audit logging
-            }
-            return ResponseEntity.status(e.getStatusCode())
-                    .body(ApiResponseDTO.<ChatResponse>builder()
-                            .status("error")
-                            .message("Chatbot service error: " + e.getResponseBodyAsString())
-                            .timestamp(Instant.now())
-                            .path(httpRequest.getRequestURI())
-                            .build());
         } catch (Exception e) {
             log.error("Error processing chat request", e);
-            try {
-                String customerEmail = getCurrentCustomerEmail();
+            if (customerEmail != null) {
                 auditLogService.logChatRequest(customerEmail, "", false);
-            } catch (Exception ignored) {
-                // Best effort audit logging
             }
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(ApiResponseDTO.<ChatResponse>builder()
-                            .status("error")
-                            .message("Internal server error: " + e.getMessage())
-                            .timestamp(Instant.now())
-                            .path(httpRequest.getRequestURI())
-                            .build());
+            return Mono.just(errorResponse(HttpStatus.INTERNAL_SERVER_ERROR,
+                    "Internal server error: " + e.getMessage(), path));
         }
     }
 
     /**
      * Stream chat response through RAG service
      */
-    @PostMapping("/stream")
+    @PostMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     @Operation(
         summary = "Stream chat message",
         description = "Process chat message with streaming response through RAG chatbot service"
     )
-    public ResponseEntity<String> streamChat(
+    public ResponseEntity<Flux<ServerSentEvent<String>>> streamChat(
             @RequestBody ChatRequest request,
-            HttpServletRequest httpRequest) {
+            @RequestHeader("Authorization") String authorizationHeader) {
 
         try {
             // Validate chatbot service configuration
             validateChatbotServiceUrl();
             
-            log.info("Processing stream chat request: {}", request.getQuestion().substring(0, Math.min(50, request.getQuestion().length())));
+            String questionPreview = request.getQuestion().substring(0, Math.min(50, request.getQuestion().length()));
+            log.info("Processing stream chat request: {}", questionPreview);
 
-            // Get authenticated customer context
+            // Get authenticated customer context (resolved here, before the stream leaves the request thread)
             String customerEmail = getCurrentCustomerEmail();
 
             // Rate limiting check
             if (!rateLimitConfig.tryConsume(customerEmail)) {
                 log.warn("Rate limit exceeded for user: {}", customerEmail);
+                auditLogService.logRateLimitViolation(customerEmail, "/chat/stream");
                 return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
-                        .body("Rate limit exceeded. Please try again in a few moments.");
+                        .body(errorEvent("Rate limit exceeded. Please try again in a few moments."));
             }
 
-            // For now, redirect to Python service directly
-            // TODO: Implement proper streaming proxy that includes authentication context
-            return ResponseEntity.status(HttpStatus.TEMPORARY_REDIRECT)
-                    .header("Location", chatbotServiceUrl + "/chat/stream")
-                    .body("Redirecting to streaming endpoint");
+            Long customerId = customerService.getCustomerIdByEmail(customerEmail);
+            Long userId = getCurrentUserId();
+
+            // Audit log - chat request initiated
+            auditLogService.logChatRequest(customerEmail, questionPreview, true);
+
+            var chatbotRequest = com.ead.gearup.dto.chatbot.ChatbotServiceRequest.builder()
+                    .question(request.getQuestion())
+                    .sessionId(request.getSessionId())
+                    .conversationHistory(request.getConversationHistory())
+                    .customerId(customerId)
+                    .userId(userId)
+                    .customerEmail(customerEmail)
+                    .authToken(extractJwtToken(authorizationHeader))
+                    .build();
+
+            return ResponseEntity.ok(chatbotStreamProxyService.stream(chatbotRequest));
 
         } catch (Exception e) {
             log.error("Error processing stream chat request", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body("Internal server error: " + e.getMessage());
+                    .body(errorEvent("Internal server error: " + e.getMessage()));
         }
     }
 
+    private Flux<ServerSentEvent<String>> errorEvent(String message) {
+        return Flux.just(ServerSentEvent.<String>builder()
+                .event("error")
+                .data(message)
+                .build());
+    }
+
     /**
      * Get chat history for current customer
      */
@@ -215,41 +217,24 @@ public class ChatbotProxyController {
         summary = "Get chat history",
         description = "Retrieve chat history for a session"
     )
-    public ResponseEntity<ApiResponseDTO<Object>> getChatHistory(
+    public Mono<ResponseEntity<ApiResponseDTO<Object>>> getChatHistory(
             @PathVariable String sessionId,
             HttpServletRequest httpRequest) {
 
-        try {
-            log.info("Getting chat history for session: {}", sessionId);
-
-            WebClient webClient = webClientBuilder.build();
-            Object history = webClient
-                    .get()
-                    .uri(chatbotServiceUrl + "/chat/history/" + sessionId)
-                    .retrieve()
-                    .bodyToMono(Object.class)
-                    .block();
-
-            ApiResponseDTO<Object> response = ApiResponseDTO.<Object>builder()
-                    .status("success")
-                    .message("Chat history retrieved successfully")
-                    .data(history)
-                    .timestamp(Instant.now())
-                    .path(httpRequest.getRequestURI())
-                    .build();
-
-            return ResponseEntity.ok(response);
-
-        } catch (Exception e) {
-            log.error("Error getting chat history", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(ApiResponseDTO.<Object>builder()
-                            .status("error")
-                            .message("Error getting chat history: " + e.getMessage())
-                            .timestamp(Instant.now())
-                            .path(httpRequest.getRequestURI())
-                            .build());
-        }
+        String path = httpRequest.getRequestURI();
+        log.info("Getting chat history for session: {}", sessionId);
+
+        return chatbotWebClient
+                .get()
+                .uri("/chat/history/{sessionId}", sessionId)
+                .retrieve()
+                .bodyToMono(Object.class)
+                .map(history -> successResponse("Chat history retrieved successfully", history, path))
+                .onErrorResume(e -> {
+                    log.error("Error getting chat history", e);
+                    return Mono.just(errorResponse(HttpStatus.INTERNAL_SERVER_ERROR,
+                            "Error getting chat history: " + e.getMessage(), path));
+                });
     }
 
     /**
@@ -260,10 +245,12 @@ public class ChatbotProxyController {
         summary = "Get chat sessions",
         description = "Retrieve all chat sessions for the current customer"
     )
-    public ResponseEntity<ApiResponseDTO<Object>> getChatSessions(
+    public Mono<ResponseEntity<ApiResponseDTO<Object>>> getChatSessions(
             @RequestParam(defaultValue = "20") int limit,
             HttpServletRequest httpRequest) {
 
+        String path = httpRequest.getRequestURI();
+
         try {
             // Validate chatbot service configuration
             validateChatbotServiceUrl();
@@ -272,38 +259,30 @@ public class ChatbotProxyController {
             Long userId = getCurrentUserId();
             log.info("Getting chat sessions for customer: {} (user_id: {})", customerEmail, userId);
 
-            WebClient webClient = webClientBuilder.build();
-            String sessionsUri = chatbotServiceUrl + "/chat/sessions?limit=" + limit + "&customerEmail=" + customerEmail;
-            if (userId != null) {
-                sessionsUri += "&user_id=" + userId;
-            }
-
-            Object sessions = webClient
+            return chatbotWebClient
                     .get()
-                    .uri(sessionsUri)
+                    .uri(uriBuilder -> {
+                        uriBuilder.path("/chat/sessions")
+                                .queryParam("limit", limit)
+                                .queryParam("customerEmail", customerEmail);
+                        if (userId != null) {
+                            uriBuilder.queryParam("user_id", userId);
+                        }
+                        return uriBuilder.build();
+                    })
                     .retrieve()
                     .bodyToMono(Object.class)
-                    .block();
-
-            ApiResponseDTO<Object> response = ApiResponseDTO.<Object>builder()
-                    .status("success")
-                    .message("Chat sessions retrieved successfully")
-                    .data(sessions)
-                    .timestamp(Instant.now())
-                    .path(httpRequest.getRequestURI())
-                    .build();
-
-            return ResponseEntity.ok(response);
+                    .map(sessions -> successResponse("Chat sessions retrieved successfully", sessions, path))
+                    .onErrorResume(e -> {
+                        log.error("Error getting chat sessions", e);
+                        return Mono.just(errorResponse(HttpStatus.INTERNAL_SERVER_ERROR,
+                                "Error getting chat sessions: " + e.getMessage(), path));
+                    });
 
         } catch (Exception e) {
             log.error("Error getting chat sessions", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(ApiResponseDTO.<Object>builder()
-                            .status("error")
-                            .message("Error getting chat sessions: " + e.getMessage())
-                            .timestamp(Instant.now())
-                            .path(httpRequest.getRequestURI())
-                            .build());
+            return Mono.just(errorResponse(HttpStatus.INTERNAL_SERVER_ERROR,
+                    "Error getting chat sessions: " + e.getMessage(), path));
         }
     }
 
@@ -315,66 +294,45 @@ public class ChatbotProxyController {
         summary = "Create chat session",
         description = "Create a new chat session for the current customer"
     )
-    public ResponseEntity<ApiResponseDTO<Object>> createChatSession(
+    public Mono<ResponseEntity<ApiResponseDTO<Object>>> createChatSession(
             @RequestParam(required = false) String title,
             HttpServletRequest httpRequest) {
 
+        String path = httpRequest.getRequestURI();
+
         try {
             // Validate chatbot service configuration
             validateChatbotServiceUrl();
             
             String customerEmail = getCurrentCustomerEmail();
             log.info("Creating new chat session for customer: {}", customerEmail);
-            log.info("Calling Python service at: {}/chat/sessions", chatbotServiceUrl);
 
             // Audit log - session creation
             auditLogService.logSessionOperation(customerEmail, "CREATE", "new", true);
 
-            WebClient webClient = webClientBuilder.build();
-            
             Map<String, String> requestBody = Map.of(
                 "customerEmail", customerEmail,
                 "title", title != null ? title : "New Chat"
             );
             log.info("Request body: {}", requestBody);
             
-            Object session = webClient
+            return chatbotWebClient
                     .post()
-                    .uri(chatbotServiceUrl + "/chat/sessions")
+                    .uri("/chat/sessions")
                     .contentType(MediaType.APPLICATION_JSON)
                     .bodyValue(requestBody)
                     .retrieve()
                     .bodyToMono(Object.class)
-                    .block();
-
-            ApiResponseDTO<Object> response = ApiResponseDTO.<Object>builder()
-                    .status("success")
-                    .message("Chat session created successfully")
-                    .data(session)
-                    .timestamp(Instant.now())
-                    .path(httpRequest.getRequestURI())
-                    .build();
+                    .map(session -> successResponse("Chat session created successfully", session, path))
+                    .onErrorResume(e -> {
+                        log.error("Error creating chat session", e);
+                        return Mono.just(upstreamErrorResponse(e, "Python service error: ", path));
+                    });
 
-            return ResponseEntity.ok(response);
-
-        } catch (WebClientResponseException e) {
-            log.error("Python service error - Status: {}, Response: {}", e.getStatusCode(), e.getResponseBodyAsString());
-            return ResponseEntity.status(e.getStatusCode())
-                    .body(ApiResponseDTO.<Object>builder()
-                            .status("error")
-                            .message("Python service error: " + e.getResponseBodyAsString())
-                            .timestamp(Instant.now())
-                            .path(httpRequest.getRequestURI())
-                            .build());
         } catch (Exception e) {
             log.error("Error creating chat session", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(ApiResponseDTO.<Object>builder()
-                            .status("error")
-                            .message("Error creating chat session: " + e.getMessage())
-                            .timestamp(Instant.now())
-                            .path(httpRequest.getRequestURI())
-                            .build());
+            return Mono.just(errorResponse(HttpStatus.INTERNAL_SERVER_ERROR,
+                    "Error creating chat session: " + e.getMessage(), path));
         }
     }
 
@@ -386,10 +344,12 @@ public class ChatbotProxyController {
         summary = "Delete chat session",
         description = "Delete a chat session and its history"
     )
-    public ResponseEntity<ApiResponseDTO<Object>> deleteChatSession(
+    public Mono<ResponseEntity<ApiResponseDTO<Object>>> deleteChatSession(
             @PathVariable String sessionId,
             HttpServletRequest httpRequest) {
 
+        String path = httpRequest.getRequestURI();
+
         try {
             // Validate chatbot service configuration
             validateChatbotServiceUrl();
@@ -402,38 +362,29 @@ public class ChatbotProxyController {
             auditLogService.logSessionOperation(authenticatedEmail, "DELETE", sessionId, false);
 
             // Proceed with deletion directly without ownership verification
-            WebClient webClient = webClientBuilder.build();
-            Object result = webClient
+            return chatbotWebClient
                     .delete()
-                    .uri(chatbotServiceUrl + "/chat/sessions/" + sessionId)
+                    .uri("/chat/sessions/{sessionId}", sessionId)
                     .retrieve()
                     .bodyToMono(Object.class)
-                    .block();
+                    .map(result -> {
+                        log.info("Successfully deleted session {} for user {}", sessionId, authenticatedEmail);
 
-            log.info("Successfully deleted session {} for user {}", sessionId, authenticatedEmail);
+                        // Audit log - successful deletion
+                        auditLogService.logSessionOperation(authenticatedEmail, "DELETE", sessionId, true);
 
-            // Audit log - successful deletion
-            auditLogService.logSessionOperation(authenticatedEmail, "DELETE", sessionId, true);
-
-            ApiResponseDTO<Object> response = ApiResponseDTO.<Object>builder()
-                    .status("success")
-                    .message("Chat session deleted successfully")
-                    .data(result)
-                    .timestamp(Instant.now())
-                    .path(httpRequest.getRequestURI())
-                    .build();
-
-            return ResponseEntity.ok(response);
+                        return successResponse("Chat session deleted successfully", result, path);
+                    })
+                    .onErrorResume(e -> {
+                        log.error("Error deleting chat session", e);
+                        return Mono.just(errorResponse(HttpStatus.INTERNAL_SERVER_ERROR,
+                                "Error deleting chat session: " + e.getMessage(), path));
+                    });
 
         } catch (Exception e) {
             log.error("Error deleting chat session", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(ApiResponseDTO.<Object>builder()
-                            .status("error")
-                            .message("Error deleting chat session: " + e.getMessage())
-                            .timestamp(Instant.now())
-                            .path(httpRequest.getRequestURI())
-                            .build());
+            return Mono.just(errorResponse(HttpStatus.INTERNAL_SERVER_ERROR,
+                    "Error deleting chat session: " + e.getMessage(), path));
         }
     }
 
@@ -463,39 +414,69 @@ public class ChatbotProxyController {
         summary = "Chatbot service health check",
         description = "Check the health status of the chatbot service"
     )
-    public ResponseEntity<ApiResponseDTO<Object>> healthCheck(HttpServletRequest httpRequest) {
+    public Mono<ResponseEntity<ApiResponseDTO<Object>>> healthCheck(HttpServletRequest httpRequest) {
+        String path = httpRequest.getRequestURI();
+
         try {
             // Validate chatbot service configuration
             validateChatbotServiceUrl();
-            
-            WebClient webClient = webClientBuilder.build();
-            Object health = webClient
-                    .get()
-                    .uri(chatbotServiceUrl + "/health")
-                    .retrieve()
-                    .bodyToMono(Object.class)
-                    .block();
-
-            ApiResponseDTO<Object> response = ApiResponseDTO.<Object>builder()
-                    .status("success")
-                    .message("Chatbot service is healthy")
-                    .data(health)
-                    .timestamp(Instant.now())
-                    .path(httpRequest.getRequestURI())
-                    .build();
-
-            return ResponseEntity.ok(response);
-
         } catch (Exception e) {
             log.error("Chatbot service health check failed", e);
-            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
-                    .body(ApiResponseDTO.<Object>builder()
-                            .status("error")
-                            .message("Chatbot service is unavailable: " + e.getMessage())
-                            .timestamp(Instant.now())
-                            .path(httpRequest.getRequestURI())
-                            .build());
+            return Mono.just(errorResponse(HttpStatus.SERVICE_UNAVAILABLE,
+                    "Chatbot service is unavailable: " + e.getMessage(), path));
+        }
+
+        return chatbotWebClient
+                .get()
+                .uri("/health")
+                .retrieve()
+                .bodyToMono(Object.class)
+                .map(health -> successResponse("Chatbot service is healthy", health, path))
+                .onErrorResume(e -> {
+                    log.error("Chatbot service health check failed", e);
+                    return Mono.just(errorResponse(HttpStatus.SERVICE_UNAVAILABLE,
+                            "Chatbot service is unavailable: " + e.getMessage(), path));
+                });
+    }
+
+    private <T> ResponseEntity<ApiResponseDTO<T>> successResponse(String message, T data, String path) {
+        return ResponseEntity.ok(ApiResponseDTO.<T>builder()
+                .status("success")
+                .message(message)
+                .data(data)
+                .timestamp(Instant.now())
+                .path(path)
+                .build());
+    }
+
+    private <T> ResponseEntity<ApiResponseDTO<T>> errorResponse(HttpStatusCode status, String message, String path) {
+        return ResponseEntity.status(status)
+                .body(ApiResponseDTO.<T>builder()
+                        .status("error")
+                        .message(message)
+                        .timestamp(Instant.now())
+                        .path(path)
+                        .build());
+    }
+
+    /**
+     * Map an upstream failure to a response, keeping the Python service's status code when it sent one
+     */
+    private <T> ResponseEntity<ApiResponseDTO<T>> upstreamErrorResponse(Throwable e, String prefix, String path) {
+        if (e instanceof ChatbotUnavailableException) {
+            // Circuit open or bulkhead full: fail fast with a retryable status
+            log.warn("Chatbot call rejected: {}", e.getMessage());
+            return errorResponse(HttpStatus.SERVICE_UNAVAILABLE,
+                    "I'm sorry, I'm having trouble processing your request right now. Please try again later.", path);
+        }
+        if (e instanceof WebClientResponseException responseException) {
+            log.error("Python service error - Status: {}, Response: {}",
+                    responseException.getStatusCode(), responseException.getResponseBodyAsString());
+            return errorResponse(responseException.getStatusCode(),
+                    prefix + responseException.getResponseBodyAsString(), path);
         }
+        log.error("Error calling chatbot service", e);
+        return errorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Internal server error: " + e.getMessage(), path);
     }
 
     /**
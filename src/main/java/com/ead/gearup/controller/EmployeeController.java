@@ -6,6 +6,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import com.ead.gearup.dto.employee.CreateEmployeeDTO;
+import com.ead.gearup.dto.employee.EmployeeHomeDTO;
 import com.ead.gearup.dto.employee.EmployeeResponseDTO;
 import com.ead.gearup.dto.employee.UpdateEmployeeDTO;
 import com.ead.gearup.dto.response.ApiResponseDTO;
@@ -157,6 +158,21 @@ public class EmployeeController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/home")
+    public ResponseEntity<ApiResponseDTO<EmployeeHomeDTO>> getEmployeeHome(HttpServletRequest request) {
+        EmployeeHomeDTO home = taskService.getEmployeeHome();
+
+        ApiResponseDTO<EmployeeHomeDTO> response = ApiResponseDTO.<EmployeeHomeDTO>builder()
+                .status("success")
+                .message("Employee home retrieved successfully")
+                .timestamp(Instant.now())
+                .path(request.getRequestURI())
+                .data(home)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/me")
     public ResponseEntity<ApiResponseDTO<EmployeeResponseDTO>> getCurrentEmployee(HttpServletRequest request) {
         EmployeeResponseDTO currentEmployee = employeeService.getCurrentEmployee();
@@ -2,6 +2,7 @@ package com.ead.gearup.controller;
 
 import com.ead.gearup.dto.notification.CreateNotificationDTO;
 import com.ead.gearup.dto.notification.NotificationDTO;
+import com.ead.gearup.dto.notification.NotificationSliceDTO;
 import com.ead.gearup.dto.response.ApiResponseDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -63,6 +64,27 @@ public class NotificationController {
                 .build());
     }
 
+    @GetMapping("/feed")
+    @Operation(summary = "Get notification feed", 
+               description = "Retrieve notifications newest-first using cursor pagination, without a total count (for infinite scroll)")
+    public ResponseEntity<ApiResponseDTO<NotificationSliceDTO>> getNotificationFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) Boolean isRead) {
+
+        // Get user ID from JWT token
+        String userId = currentUserService.getCurrentUserId().toString();
+        
+        NotificationSliceDTO feed = notificationService.getNotificationFeed(userId, cursor, size, type, isRead);
+        
+        return ResponseEntity.ok(ApiResponseDTO.<NotificationSliceDTO>builder()
+                .status("success")
+                .message("Notifications retrieved successfully")
+                .data(feed)
+                .build());
+    }
+
     @GetMapping("/unread")
     @Operation(summary = "Get unread notifications", 
                description = "Retrieve all unread notifications for the authenticated user")
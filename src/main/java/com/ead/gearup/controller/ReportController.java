@@ -0,0 +1,94 @@
+package com.ead.gearup.controller;
+
+import com.ead.gearup.dto.response.ApiResponseDTO;
+import com.ead.gearup.dto.timelog.EmployeeTimesheetDTO;
+import com.ead.gearup.enums.MetricGranularity;
+import com.ead.gearup.service.TimesheetReportService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/admin/reports")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearerAuth")
+@Tag(name = "Admin Reports", description = "Employee timesheet and utilisation reports")
+public class ReportController {
+
+    private final TimesheetReportService timesheetReportService;
+
+    @GetMapping("/timesheets")
+    @Operation(
+        summary = "Get the timesheet report",
+        description = "Logged, available, billable and overtime hours with utilisation per employee and day, week or month."
+    )
+    public ResponseEntity<ApiResponseDTO<List<EmployeeTimesheetDTO>>> getTimesheets(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "WEEK") MetricGranularity granularity,
+            @RequestParam(required = false) Long employeeId,
+            HttpServletRequest request) {
+
+        List<EmployeeTimesheetDTO> rows = timesheetReportService.getReport(from, to, granularity, employeeId);
+
+        ApiResponseDTO<List<EmployeeTimesheetDTO>> response = ApiResponseDTO.<List<EmployeeTimesheetDTO>>builder()
+                .status("success")
+                .message("Timesheet report retrieved successfully")
+                .timestamp(Instant.now())
+                .path(request.getRequestURI())
+                .data(rows)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/timesheets/export")
+    @Operation(
+        summary = "Export the timesheet report",
+        description = "Download the timesheet report as 'csv' or 'json'. Rows are streamed as they are read."
+    )
+    public ResponseEntity<StreamingResponseBody> exportTimesheets(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "WEEK") MetricGranularity granularity,
+            @RequestParam(required = false) Long employeeId,
+            @RequestParam(defaultValue = "csv") String format) {
+
+        boolean json = parseFormat(format);
+        // Fail with a normal error response before the body starts streaming
+        timesheetReportService.validateRange(from, to);
+
+        StreamingResponseBody body = json
+                ? out -> timesheetReportService.writeJson(from, to, granularity, employeeId, out)
+                : out -> timesheetReportService.writeCsv(from, to, granularity, employeeId, out);
+        String filename = "timesheets_" + from + "_" + to + (json ? ".json" : ".csv");
+
+        return ResponseEntity.ok()
+                .contentType(json ? MediaType.APPLICATION_JSON : new MediaType("text", "csv"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
+    private static boolean parseFormat(String format) {
+        return switch (format.toLowerCase()) {
+            case "json" -> true;
+            case "csv" -> false;
+            default -> throw new IllegalArgumentException("Unknown export format: " + format);
+        };
+    }
+}
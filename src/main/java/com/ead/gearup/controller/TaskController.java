@@ -5,6 +5,7 @@ import java.util.List;
 
 import com.ead.gearup.dto.task.TaskUpdateDTO;
 
+import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -14,6 +15,7 @@ import com.ead.gearup.dto.response.ApiResponseDTO;
 import com.ead.gearup.dto.task.EmployeeRecentActivityDTO;
 import com.ead.gearup.dto.task.TaskCreateDTO;
 import com.ead.gearup.dto.task.TaskResponseDTO;
+import com.ead.gearup.enums.TaskStatus;
 import com.ead.gearup.service.TaskService;
 
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -65,10 +67,14 @@ public class TaskController {
    }
 
    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
-   public ResponseEntity<ApiResponseDTO<List<TaskResponseDTO>>> getAllTasks(HttpServletRequest request) {
-        List<TaskResponseDTO> tasks = taskService.getAllTasks();
+   public ResponseEntity<ApiResponseDTO<Page<TaskResponseDTO>>> getTasks(
+           @RequestParam(required = false) TaskStatus status,
+           @RequestParam(defaultValue = "0") int page,
+           @RequestParam(defaultValue = "20") int size,
+           HttpServletRequest request) {
+        Page<TaskResponseDTO> tasks = taskService.getTasks(status, page, size);
 
-        ApiResponseDTO<List<TaskResponseDTO>> response = ApiResponseDTO.<List<TaskResponseDTO>>builder()
+        ApiResponseDTO<Page<TaskResponseDTO>> response = ApiResponseDTO.<Page<TaskResponseDTO>>builder()
                 .status("success")
                .message("Task fetched successfully")
                .data(tasks)
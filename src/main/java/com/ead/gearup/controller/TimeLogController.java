@@ -11,12 +11,14 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
+import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.Instant;
-import java.util.List;
+import java.time.LocalDate;
 
 @RestController
 @RequestMapping("/api/v1/timelogs")
@@ -50,11 +52,17 @@ public class TimeLogController {
 
     // @RequiresRole({UserRole.ADMIN, UserRole.EMPLOYEE})
     @GetMapping
-    public ResponseEntity<ApiResponseDTO<List<TimeLogResponseDTO>>> getAllTimeLogs(HttpServletRequest request) {
+    public ResponseEntity<ApiResponseDTO<Page<TimeLogResponseDTO>>> getTimeLogs(
+            @RequestParam(required = false) Long employeeId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            HttpServletRequest request) {
 
-        List<TimeLogResponseDTO> timeLogs = timeLogService.getAllTimeLogs();
+        Page<TimeLogResponseDTO> timeLogs = timeLogService.getTimeLogs(employeeId, from, to, page, size);
 
-        ApiResponseDTO<List<TimeLogResponseDTO>> response = ApiResponseDTO.<List<TimeLogResponseDTO>>builder()
+        ApiResponseDTO<Page<TimeLogResponseDTO>> response = ApiResponseDTO.<Page<TimeLogResponseDTO>>builder()
                 .status("success")
                 .message("Time logs retrieved successfully")
                 .timestamp(Instant.now())
@@ -142,15 +150,38 @@ public class TimeLogController {
         return ResponseEntity.ok(response);
     }
 
+    // @RequiresRole({UserRole.ADMIN, UserRole.EMPLOYEE})
+    @GetMapping("/project/{projectId}")
+    public ResponseEntity<ApiResponseDTO<Page<TimeLogResponseDTO>>> getTimeLogsByProject(
+            @PathVariable Long projectId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            HttpServletRequest request) {
+
+        Page<TimeLogResponseDTO> timeLogs = timeLogService.getTimeLogsByProject(projectId, page, size);
+
+        ApiResponseDTO<Page<TimeLogResponseDTO>> response = ApiResponseDTO.<Page<TimeLogResponseDTO>>builder()
+                .status("success")
+                .message("Project time logs retrieved successfully")
+                .timestamp(Instant.now())
+                .path(request.getRequestURI())
+                .data(timeLogs)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
     // @RequiresRole({UserRole.ADMIN, UserRole.EMPLOYEE})
     @GetMapping("/appointment/{appointmentId}")
-    public ResponseEntity<ApiResponseDTO<List<TimeLogResponseDTO>>> getTimeLogsByAppointment(
+    public ResponseEntity<ApiResponseDTO<Page<TimeLogResponseDTO>>> getTimeLogsByAppointment(
             @PathVariable Long appointmentId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
             HttpServletRequest request) {
 
-        List<TimeLogResponseDTO> timeLogs = timeLogService.getTimeLogsByAppointment(appointmentId);
+        Page<TimeLogResponseDTO> timeLogs = timeLogService.getTimeLogsByAppointment(appointmentId, page, size);
 
-        ApiResponseDTO<List<TimeLogResponseDTO>> response = ApiResponseDTO.<List<TimeLogResponseDTO>>builder()
+        ApiResponseDTO<Page<TimeLogResponseDTO>> response = ApiResponseDTO.<Page<TimeLogResponseDTO>>builder()
                 .status("success")
                 .message("Appointment time logs retrieved successfully")
                 .timestamp(Instant.now())
@@ -1,5 +1,6 @@
 package com.ead.gearup.dto.admin;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import lombok.Builder;
@@ -12,5 +13,13 @@ public class AdminDashboardResponseDTO {
     List<ProjectStatusDTO> projectStatus;
     List<MonthlyMetricDTO> customerRegistrations;
     List<MonthlyMetricDTO> projectCompletions;
+    // When the figures were last fully recomputed from the database
+    LocalDateTime reconciledAt;
+    // When the figures last changed, incrementally or by reconciliation
+    LocalDateTime updatedAt;
+    // Seconds since the last full recomputation; bounded by admin.dashboard.max-staleness-seconds
+    long stalenessSeconds;
+    // Sections whose last reload failed or timed out; their figures may be older or missing
+    List<String> unavailableSections;
 }
 
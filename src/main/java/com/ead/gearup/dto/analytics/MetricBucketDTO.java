@@ -0,0 +1,16 @@
+package com.ead.gearup.dto.analytics;
+
+import java.time.LocalDate;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class MetricBucketDTO {
+    LocalDate bucketStart;
+    long count;
+    // Average hours from creation to the status, null when the bucket is empty
+    Double averageHoursToStatus;
+    double revenue;
+}
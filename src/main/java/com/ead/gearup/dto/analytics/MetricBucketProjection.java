@@ -0,0 +1,14 @@
+package com.ead.gearup.dto.analytics;
+
+import java.time.LocalDate;
+
+// One bucket of an aggregated metric_rollups series
+public interface MetricBucketProjection {
+    LocalDate getBucketStart();
+
+    long getEventCount();
+
+    long getDurationSecondsSum();
+
+    double getRevenueSum();
+}
@@ -0,0 +1,25 @@
+package com.ead.gearup.dto.analytics;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.ead.gearup.enums.MetricGranularity;
+import com.ead.gearup.enums.MetricSubject;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class MetricSeriesDTO {
+    MetricSubject subject;
+    String status;
+    Long employeeId;
+    MetricGranularity granularity;
+    LocalDate from;
+    LocalDate to;
+    long totalCount;
+    double totalRevenue;
+    Double averageHoursToStatus;
+    List<MetricBucketDTO> buckets;
+}
@@ -0,0 +1,29 @@
+package com.ead.gearup.dto.chat;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One keyset-paginated slice of chat history (no total count)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatHistorySliceDTO<T> {
+
+    private List<T> content;
+
+    private int size;
+
+    private boolean hasNext;
+
+    /**
+     * Opaque cursor to pass back for the next slice; null when there are no more results
+     */
+    private String nextCursor;
+}
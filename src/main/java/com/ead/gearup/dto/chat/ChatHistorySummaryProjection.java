@@ -0,0 +1,18 @@
+package com.ead.gearup.dto.chat;
+
+import java.time.LocalDateTime;
+
+// Lightweight chat history row with truncated question/answer text for history lists
+public interface ChatHistorySummaryProjection {
+    Long getId();
+
+    String getSessionId();
+
+    String getQuestionPreview();
+
+    String getAnswerPreview();
+
+    Boolean getFromCache();
+
+    LocalDateTime getCreatedAt();
+}
@@ -11,7 +11,7 @@ import java.time.Instant;
  * DTO for chat responses sent to frontend
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class ChatResponseDTO {
@@ -0,0 +1,16 @@
+package com.ead.gearup.dto.customer;
+
+import java.time.LocalDateTime;
+
+// One entry of a customer's recent activity: a project update, notification or appointment
+public interface CustomerActivityProjection {
+    Long getId();
+
+    String getKind();
+
+    String getTitle();
+
+    String getDescription();
+
+    LocalDateTime getOccurredAt();
+}
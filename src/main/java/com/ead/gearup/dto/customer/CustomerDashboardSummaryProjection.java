@@ -0,0 +1,26 @@
+package com.ead.gearup.dto.customer;
+
+import java.time.LocalDate;
+
+// Profile and appointment/project counts of one customer, read in a single query
+public interface CustomerDashboardSummaryProjection {
+    Long getCustomerId();
+
+    Long getUserId();
+
+    String getName();
+
+    String getEmail();
+
+    String getProfileImage();
+
+    long getUpcomingAppointmentsCount();
+
+    LocalDate getNextAppointmentDate();
+
+    long getOngoingProjectsCount();
+
+    long getCompletedServicesCount();
+
+    long getPendingRequestsCount();
+}
@@ -0,0 +1,20 @@
+package com.ead.gearup.dto.customer;
+
+import java.time.LocalDate;
+
+// A customer's vehicle with its next booked and last completed service dates
+public interface CustomerVehicleServiceProjection {
+    Long getId();
+
+    String getMake();
+
+    String getModel();
+
+    Integer getYear();
+
+    String getLicensePlate();
+
+    LocalDate getNextScheduledDate();
+
+    LocalDate getLastServiceDate();
+}
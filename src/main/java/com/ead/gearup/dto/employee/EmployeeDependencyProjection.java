@@ -0,0 +1,20 @@
+package com.ead.gearup.dto.employee;
+
+// Rows referencing one employee, counted in a single statement
+public interface EmployeeDependencyProjection {
+    long getAppointmentCount();
+
+    long getOpenAppointmentCount();
+
+    long getTaskCount();
+
+    long getOpenTaskCount();
+
+    long getProjectCount();
+
+    long getOpenProjectCount();
+
+    long getTimeLogCount();
+
+    long getProjectUpdateCount();
+}
@@ -0,0 +1,30 @@
+package com.ead.gearup.dto.employee;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeeDependencyReportDTO {
+    private Long employeeId;
+    private long appointmentCount;
+    // Pending, confirmed or in progress
+    private long openAppointmentCount;
+    private long taskCount;
+    // Not yet completed
+    private long openTaskCount;
+    // Projects the employee is assigned to, represents or created
+    private long projectCount;
+    // Not yet completed or cancelled
+    private long openProjectCount;
+    private long timeLogCount;
+    private long projectUpdateCount;
+    private boolean hasAppointments;
+    // True only when nothing references the employee
+    private boolean canDelete;
+    private String warningMessage;
+}
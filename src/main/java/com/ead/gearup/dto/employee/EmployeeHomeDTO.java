@@ -0,0 +1,22 @@
+package com.ead.gearup.dto.employee;
+
+import java.util.List;
+import java.util.Map;
+
+import com.ead.gearup.dto.task.EmployeeRecentActivityDTO;
+import com.ead.gearup.enums.TaskStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeeHomeDTO {
+    private Long employeeId;
+    // Same keys as the task summary endpoint: assigned, inprogress, completedToday
+    private Map<String, Long> taskSummary;
+    private Map<TaskStatus, Long> tasksByStatus;
+    private List<EmployeeRecentActivityDTO> recentActivities;
+}
@@ -0,0 +1,22 @@
+package com.ead.gearup.dto.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// One keyset-paginated slice of a user's notification history (no total count)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationSliceDTO {
+
+    private List<NotificationDTO> content;
+    private int size;
+    private boolean hasNext;
+    // Opaque cursor to pass back for the next slice; null when there are no more results
+    private String nextCursor;
+}
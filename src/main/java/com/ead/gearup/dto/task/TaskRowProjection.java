@@ -0,0 +1,32 @@
+package com.ead.gearup.dto.task;
+
+import java.time.LocalDateTime;
+
+import com.ead.gearup.enums.TaskStatus;
+
+// Task list row read in the listing query itself, without loading the task's associations
+public interface TaskRowProjection {
+    Long getTaskId();
+
+    Long getAppointmentId();
+
+    String getName();
+
+    String getDescription();
+
+    Integer getEstimatedHours();
+
+    Double getEstimatedCost();
+
+    TaskStatus getStatus();
+
+    String getCategory();
+
+    String getPriority();
+
+    String getNotes();
+
+    String getRequestedBy();
+
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,12 @@
+package com.ead.gearup.dto.task;
+
+import com.ead.gearup.enums.TaskStatus;
+
+// Tasks of one employee in one status, and how many of them were completed today
+public interface TaskStatusCountProjection {
+    TaskStatus getStatus();
+
+    long getTaskCount();
+
+    long getCompletedToday();
+}
@@ -0,0 +1,27 @@
+package com.ead.gearup.dto.timelog;
+
+import java.time.LocalDate;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class EmployeeTimesheetDTO {
+    Long employeeId;
+    String employeeName;
+    // First and last day of the period, clipped to the requested range
+    LocalDate periodStart;
+    LocalDate periodEnd;
+    double loggedHours;
+    // Shop opening hours on working days of the period
+    double availableHours;
+    // Logged hours as a percentage of available hours, null when the shop had no working days
+    Double utilizationPercent;
+    double projectHours;
+    double appointmentHours;
+    double billableHours;
+    double nonBillableHours;
+    double overtimeHours;
+    long logCount;
+}
@@ -0,0 +1,12 @@
+package com.ead.gearup.dto.timelog;
+
+// A project's running hour totals together with its name
+public interface ProjectTimeBudgetProjection {
+    Long getProjectId();
+
+    String getProjectName();
+
+    Integer getEstimatedHours();
+
+    Double getLoggedHours();
+}
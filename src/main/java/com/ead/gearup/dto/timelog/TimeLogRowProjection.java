@@ -0,0 +1,35 @@
+package com.ead.gearup.dto.timelog;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Time log row with employee, project and appointment details read in the same query
+public interface TimeLogRowProjection {
+    Long getLogId();
+
+    String getDescription();
+
+    LocalDateTime getStartTime();
+
+    LocalDateTime getEndTime();
+
+    Double getHoursWorked();
+
+    LocalDateTime getLoggedAt();
+
+    Long getTaskId();
+
+    Long getEmployeeId();
+
+    String getEmployeeName();
+
+    String getEmployeeEmail();
+
+    Long getProjectId();
+
+    String getProjectName();
+
+    Long getAppointmentId();
+
+    LocalDate getAppointmentDate();
+}
@@ -0,0 +1,24 @@
+package com.ead.gearup.dto.timelog;
+
+import java.time.LocalDate;
+
+// One employee and period of the aggregated timesheet report
+public interface TimesheetRowProjection {
+    Long getEmployeeId();
+
+    String getEmployeeName();
+
+    LocalDate getPeriodStart();
+
+    double getLoggedHours();
+
+    double getProjectHours();
+
+    double getAppointmentHours();
+
+    double getBillableHours();
+
+    double getOvertimeHours();
+
+    long getLogCount();
+}
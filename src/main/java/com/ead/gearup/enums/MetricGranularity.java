@@ -0,0 +1,7 @@
+package com.ead.gearup.enums;
+
+public enum MetricGranularity {
+    DAY,
+    WEEK,
+    MONTH
+}
@@ -0,0 +1,6 @@
+package com.ead.gearup.enums;
+
+public enum MetricSubject {
+    PROJECT,
+    APPOINTMENT
+}
@@ -0,0 +1,7 @@
+package com.ead.gearup.enums;
+
+public enum RateLimitProfile {
+    CHAT,
+    AUTH,
+    SEARCH
+}
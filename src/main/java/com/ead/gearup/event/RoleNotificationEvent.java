@@ -0,0 +1,23 @@
+package com.ead.gearup.event;
+
+import com.ead.gearup.enums.UserRole;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+// Event fired for notifications addressed to every user holding a role
+@Getter
+public class RoleNotificationEvent extends ApplicationEvent {
+
+    private final UserRole role;
+    private final String title;
+    private final String message;
+    private final String type;
+
+    public RoleNotificationEvent(Object source, UserRole role, String title, String message, String type) {
+        super(source);
+        this.role = role;
+        this.title = title;
+        this.message = message;
+        this.type = type;
+    }
+}
@@ -0,0 +1,260 @@
+package com.ead.gearup.event.listener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import com.ead.gearup.enums.AppointmentStatus;
+import com.ead.gearup.enums.MetricSubject;
+import com.ead.gearup.enums.ProjectStatus;
+import com.ead.gearup.enums.UserRole;
+import com.ead.gearup.model.Appointment;
+import com.ead.gearup.model.Customer;
+import com.ead.gearup.model.Employee;
+import com.ead.gearup.model.Notification;
+import com.ead.gearup.model.Project;
+import com.ead.gearup.model.ProjectUpdate;
+import com.ead.gearup.model.Task;
+import com.ead.gearup.model.User;
+import com.ead.gearup.model.Vehicle;
+import com.ead.gearup.service.AdminDashboardAggregates;
+import com.ead.gearup.service.AdminDashboardAggregates.Total;
+import com.ead.gearup.service.CustomerDashboardCache;
+import com.ead.gearup.service.MetricRollupWriter;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hibernate post-commit listener that feeds committed entity changes into the admin dashboard
+ * aggregates. Updates carry the previous column values, so each change is applied as
+ * "remove old contribution, add new contribution"; rolled-back writes are never seen.
+ * Project and appointment status transitions are also recorded in the daily metric rollups, and
+ * cached customer dashboards touched by a change are invalidated.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardAggregateListener
+        implements PostCommitInsertEventListener, PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private static final Set<Class<?>> TRACKED = Set.of(Project.class, Appointment.class, User.class,
+            Employee.class, Customer.class, Task.class, Vehicle.class, ProjectUpdate.class, Notification.class);
+
+    private final EntityManagerFactory entityManagerFactory;
+    // Resolved lazily: both depend on repositories built from the same EntityManagerFactory
+    private final ObjectProvider<AdminDashboardAggregates> aggregates;
+    private final ObjectProvider<MetricRollupWriter> metricRollupWriter;
+    private final ObjectProvider<CustomerDashboardCache> customerDashboardCache;
+
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return TRACKED.contains(persister.getMappedClass());
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        apply(event.getPersister(), null, event.getState());
+        recordTransition(event.getPersister(), null, event.getState());
+        invalidateCustomerDashboard(event.getPersister(), event.getId(), event.getState());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        // A reassigned vehicle, appointment or project leaves the old customer's dashboard too
+        invalidateCustomerDashboard(event.getPersister(), event.getId(), event.getOldState());
+        invalidateCustomerDashboard(event.getPersister(), event.getId(), event.getState());
+        if (event.getOldState() == null) {
+            // Detached update without a prior snapshot: the delta is unknown
+            aggregates.ifAvailable(AdminDashboardAggregates::requestReconcile);
+            return;
+        }
+        apply(event.getPersister(), event.getOldState(), event.getState());
+        recordTransition(event.getPersister(), event.getOldState(), event.getState());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        apply(event.getPersister(), event.getDeletedState(), null);
+        invalidateCustomerDashboard(event.getPersister(), event.getId(), event.getDeletedState());
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    // Private helper methods
+
+    private void apply(EntityPersister persister, Object[] oldState, Object[] newState) {
+        AdminDashboardAggregates target = aggregates.getIfAvailable();
+        if (target == null) {
+            return;
+        }
+        try {
+            Class<?> type = persister.getMappedClass();
+            long delta = oldState == null ? 1 : newState == null ? -1 : 0;
+            if (type == Project.class) {
+                target.onProjectChanged(
+                        (ProjectStatus) value(persister, oldState, "status"),
+                        (LocalDateTime) value(persister, oldState, "updatedAt"),
+                        (ProjectStatus) value(persister, newState, "status"),
+                        (LocalDateTime) value(persister, newState, "updatedAt"));
+            } else if (type == Appointment.class) {
+                target.onAppointmentChanged(
+                        (LocalDate) value(persister, oldState, "date"),
+                        (AppointmentStatus) value(persister, oldState, "status"),
+                        (LocalDate) value(persister, newState, "date"),
+                        (AppointmentStatus) value(persister, newState, "status"));
+            } else if (type == User.class) {
+                target.onUserChanged(
+                        (UserRole) value(persister, oldState, "role"),
+                        (LocalDateTime) value(persister, oldState, "createdAt"),
+                        (UserRole) value(persister, newState, "role"),
+                        (LocalDateTime) value(persister, newState, "createdAt"));
+            } else if (type == Employee.class) {
+                target.adjust(Total.EMPLOYEES, delta);
+            } else if (type == Customer.class) {
+                target.adjust(Total.CUSTOMERS, delta);
+            } else if (type == Task.class) {
+                target.adjust(Total.SERVICES, delta);
+            }
+        } catch (RuntimeException e) {
+            // Never let dashboard bookkeeping affect the write itself
+            log.warn("Could not apply {} change to dashboard aggregates: {}",
+                    persister.getMappedClass().getSimpleName(), e.getMessage());
+            target.requestReconcile();
+        }
+    }
+
+    // Feed status transitions of projects and appointments into the daily metric rollups
+    private void recordTransition(EntityPersister persister, Object[] oldState, Object[] newState) {
+        Class<?> type = persister.getMappedClass();
+        if (type != Project.class && type != Appointment.class) {
+            return;
+        }
+        MetricRollupWriter writer = metricRollupWriter.getIfAvailable();
+        if (writer == null) {
+            return;
+        }
+        try {
+            Object status = value(persister, newState, "status");
+            if (status == null || (oldState != null && status.equals(value(persister, oldState, "status")))) {
+                return;
+            }
+            if (type == Project.class) {
+                Double acceptedCost = (Double) value(persister, newState, "totalAcceptedCost");
+                writer.recordTransition(MetricSubject.PROJECT, status.toString(),
+                        (LocalDateTime) value(persister, newState, "updatedAt"),
+                        employeeId(value(persister, newState, "mainRepresentativeEmployee")),
+                        (LocalDateTime) value(persister, newState, "createdAt"),
+                        status == ProjectStatus.COMPLETED && acceptedCost != null ? acceptedCost : 0);
+            } else {
+                writer.recordTransition(MetricSubject.APPOINTMENT, status.toString(),
+                        (LocalDateTime) value(persister, newState, "updatedAt"),
+                        employeeId(value(persister, newState, "employee")),
+                        (LocalDateTime) value(persister, newState, "createdAt"),
+                        0);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not record {} transition in metric rollups: {}", type.getSimpleName(), e.getMessage());
+        }
+    }
+
+    // Drop the cached dashboard of the customer a committed change belongs to
+    private void invalidateCustomerDashboard(EntityPersister persister, Object id, Object[] state) {
+        CustomerDashboardCache cache = customerDashboardCache.getIfAvailable();
+        if (cache == null || state == null) {
+            return;
+        }
+        try {
+            Class<?> type = persister.getMappedClass();
+            if (type == Customer.class) {
+                cache.invalidate((Long) id);
+            } else if (type == User.class) {
+                cache.invalidateUser((Long) id);
+            } else if (type == Notification.class) {
+                cache.invalidateUser(Long.valueOf((String) value(persister, state, "userId")));
+            } else if (type == Appointment.class || type == Vehicle.class || type == Project.class) {
+                Long customerId = customerId(value(persister, state, "customer"));
+                if (customerId != null) {
+                    cache.invalidate(customerId);
+                }
+            } else if (type == ProjectUpdate.class) {
+                // The project is normally loaded by the writer; otherwise its customer is unknown here
+                Object project = value(persister, state, "project");
+                Long customerId = project instanceof Project p ? customerId(p.getCustomer()) : null;
+                if (customerId != null) {
+                    cache.invalidate(customerId);
+                } else {
+                    cache.invalidateAll();
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not invalidate customer dashboard for {} change: {}",
+                    persister.getMappedClass().getSimpleName(), e.getMessage());
+            cache.invalidateAll();
+        }
+    }
+
+    // Read the id without initializing a lazy proxy; the session may already be closed
+    private static Long employeeId(Object employee) {
+        if (employee instanceof HibernateProxy proxy) {
+            return (Long) proxy.getHibernateLazyInitializer().getIdentifier();
+        }
+        return employee instanceof Employee e ? e.getEmployeeId() : null;
+    }
+
+    private static Long customerId(Object customer) {
+        if (customer instanceof HibernateProxy proxy) {
+            return (Long) proxy.getHibernateLazyInitializer().getIdentifier();
+        }
+        return customer instanceof Customer c ? c.getCustomerId() : null;
+    }
+
+    private static Object value(EntityPersister persister, Object[] state, String property) {
+        if (state == null) {
+            return null;
+        }
+        String[] names = persister.getPropertyNames();
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(property)) {
+                return state[i];
+            }
+        }
+        throw new IllegalStateException("No property " + property + " on " + persister.getEntityName());
+    }
+}
@@ -2,13 +2,18 @@ package com.ead.gearup.event.listener;
 
 import com.ead.gearup.dto.notification.CreateNotificationDTO;
 import com.ead.gearup.event.NotificationEvent;
+import com.ead.gearup.event.RoleNotificationEvent;
+import com.ead.gearup.service.NotificationCoalescer;
 import com.ead.gearup.service.NotificationService;
+import com.ead.gearup.service.RoleMembershipIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 // Notification event listener to handle all notification events
 @Slf4j
 @Component
@@ -16,6 +21,8 @@ import org.springframework.stereotype.Component;
 public class NotificationEventListener {
 
     private final NotificationService notificationService;
+    private final NotificationCoalescer notificationCoalescer;
+    private final RoleMembershipIndex roleMembershipIndex;
 
     // Handle notification events asynchronously
     @Async
@@ -33,6 +40,13 @@ public class NotificationEventListener {
                 .type(event.getType())
                 .build();
         
+        // High-frequency types go through the coalescer: first one at once, follow-ups as a digest
+        if (notificationCoalescer.submit(notificationDTO)) {
+            log.debug("[NOTIFICATION EVENT] Handed {} to the coalescer, user: {}", 
+                    event.getType(), event.getUserId());
+            return;
+        }
+        
         // Use the async method for event-driven notifications
         notificationService.createAndSendNotificationAsync(notificationDTO);
         
@@ -40,4 +54,23 @@ public class NotificationEventListener {
         log.info("[NOTIFICATION EVENT] Completed in {}ms - Event: {}, User: {}", 
                 duration, event.getClass().getSimpleName(), event.getUserId());
     }
+
+    // Handle role-addressed notification events with a single bulk insert and SSE pass
+    @Async
+    @EventListener
+    public void handleRoleNotificationEvent(RoleNotificationEvent event) {
+        long startTime = System.currentTimeMillis();
+
+        List<String> userIds = roleMembershipIndex.getUserIds(event.getRole());
+        if (userIds.isEmpty()) {
+            log.info("[NOTIFICATION EVENT] No users with role {} to notify", event.getRole());
+            return;
+        }
+
+        notificationService.sendToMultipleUsers(userIds, event.getTitle(), event.getMessage(), event.getType());
+
+        long duration = System.currentTimeMillis() - startTime;
+        log.info("[NOTIFICATION EVENT] Completed in {}ms - Role: {}, Recipients: {}",
+                duration, event.getRole(), userIds.size());
+    }
 }
@@ -0,0 +1,41 @@
+package com.ead.gearup.event.listener;
+
+import com.ead.gearup.service.RoleMembershipIndex;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// JPA entity listener that keeps the role membership index in step with user writes
+@Component
+@RequiredArgsConstructor
+public class UserMembershipListener {
+
+    // Resolved lazily: the index depends on UserRepository, which is built after this listener
+    private final ObjectProvider<RoleMembershipIndex> roleMembershipIndex;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onUserChanged(Object user) {
+        // These callbacks fire at flush, before commit: a reload now could cache the old membership again
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate();
+                }
+            });
+        } else {
+            invalidate();
+        }
+    }
+
+    private void invalidate() {
+        roleMembershipIndex.ifAvailable(RoleMembershipIndex::invalidateAll);
+    }
+}
@@ -0,0 +1,9 @@
+package com.ead.gearup.exception;
+
+// Raised without calling the chatbot service when its circuit is open or its bulkhead is full
+public class ChatbotUnavailableException extends RuntimeException {
+
+    public ChatbotUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,116 @@
+package com.ead.gearup.filter;
+
+import com.ead.gearup.config.RateLimitConfig;
+import com.ead.gearup.dto.response.ApiResponseDTO;
+import com.ead.gearup.enums.RateLimitProfile;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Applies the per-endpoint rate limit profiles.
+ * Auth endpoints are limited per client address (callers are anonymous there);
+ * search and chat endpoints per authenticated user, falling back to the client address.
+ * The RAG chat proxy applies the chat profile itself, keyed by customer email.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private static final List<String> AUTH_PATHS = List.of(
+            "/api/v1/auth/login",
+            "/api/v1/auth/register",
+            "/api/v1/auth/resend-email",
+            "/api/v1/auth/verify-email",
+            "/api/v1/auth/forgot-password",
+            "/api/v1/auth/reset-password",
+            "/api/v1/auth/change-password");
+
+    private static final List<String> SEARCH_PATHS = List.of(
+            "/api/v1/**/search",
+            "/graphql");
+
+    private static final List<String> CHAT_PATHS = List.of(
+            "/api/v1/chat",
+            "/api/v1/chat/stream");
+
+    private final RateLimitConfig rateLimitConfig;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        RateLimitProfile profile = profileFor(request);
+        if (profile != null) {
+            String key = profile == RateLimitProfile.AUTH ? request.getRemoteAddr() : callerKey(request);
+            if (!rateLimitConfig.tryConsume(profile, key)) {
+                log.warn("Rate limit exceeded for {} on {}", key, request.getRequestURI());
+                writeTooManyRequests(request, response);
+                return;
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private RateLimitProfile profileFor(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        if (matches(AUTH_PATHS, path)) {
+            return RateLimitProfile.AUTH;
+        }
+        if (matches(SEARCH_PATHS, path)) {
+            return RateLimitProfile.SEARCH;
+        }
+        if ("POST".equals(request.getMethod()) && matches(CHAT_PATHS, path)) {
+            return RateLimitProfile.CHAT;
+        }
+        return null;
+    }
+
+    private static boolean matches(List<String> patterns, String path) {
+        return patterns.stream().anyMatch(pattern -> PATH_MATCHER.match(pattern, path));
+    }
+
+    private static String callerKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated() && authentication.getName() != null
+                && !"anonymousUser".equals(authentication.getName())) {
+            return authentication.getName();
+        }
+        return request.getRemoteAddr();
+    }
+
+    private void writeTooManyRequests(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+
+        ApiResponseDTO<Object> apiResponse = ApiResponseDTO.builder()
+                .status("error")
+                .message("Rate limit exceeded. Please try again in a few moments.")
+                .timestamp(Instant.now())
+                .path(request.getRequestURI())
+                .data(null)
+                .build();
+
+        response.getWriter().write(objectMapper.writeValueAsString(apiResponse));
+    }
+}
@@ -18,6 +18,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -30,7 +31,11 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "appointment")
+@Table(name = "appointment", indexes = {
+    @Index(name = "idx_appointment_customer_date", columnList = "customer_id, date"),
+    @Index(name = "idx_appointment_vehicle_date", columnList = "vehicle_id, date"),
+    @Index(name = "idx_appointment_mechanic_status", columnList = "mechanic_id, status")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -12,7 +12,10 @@ import java.time.LocalDateTime;
  * Entity for storing chat conversation history
  */
 @Entity
-@Table(name = "chat_history")
+@Table(name = "chat_history", indexes = {
+    @Index(name = "idx_chat_history_user_created_id", columnList = "user_id, created_at DESC, id DESC"),
+    @Index(name = "idx_chat_history_session_created_id", columnList = "session_id, created_at DESC, id DESC")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -49,6 +52,9 @@ public class ChatHistory {
 
     @PrePersist
     protected void onCreate() {
-        this.createdAt = LocalDateTime.now();
+        // Batched writes stamp the row when it is queued
+        if (this.createdAt == null) {
+            this.createdAt = LocalDateTime.now();
+        }
     }
 }
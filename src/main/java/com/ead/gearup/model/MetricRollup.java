@@ -0,0 +1,42 @@
+package com.ead.gearup.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Daily rollup of status transitions for projects and appointments.
+ * One row per day, subject, status entered and employee (0 for all employees), so range
+ * queries scan days rather than raw project or appointment rows.
+ */
+@Entity
+@Table(name = "metric_rollups", indexes = {
+    @Index(name = "idx_metric_rollups_series", columnList = "subject, employeeId, status, bucketDate")
+})
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class MetricRollup {
+
+    @EmbeddedId
+    private MetricRollupId id;
+
+    // Transitions into the status on that day
+    @Column(nullable = false)
+    private long eventCount;
+
+    // Sum of seconds from creation to the transition, for average durations
+    @Column(nullable = false)
+    private long durationSecondsSum;
+
+    // Accepted cost of projects completed that day
+    @Column(nullable = false)
+    private double revenueSum;
+}
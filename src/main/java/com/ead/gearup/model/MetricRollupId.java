@@ -0,0 +1,30 @@
+package com.ead.gearup.model;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MetricRollupId implements Serializable {
+
+    @Column(nullable = false)
+    private LocalDate bucketDate;
+
+    @Column(nullable = false, length = 20)
+    private String subject;
+
+    @Column(nullable = false, length = 50)
+    private String status;
+
+    // 0 holds the total across all employees
+    @Column(nullable = false)
+    private long employeeId;
+}
@@ -20,7 +20,11 @@ import lombok.NoArgsConstructor;
 @Table(name = "notifications", indexes = {
     @Index(name = "idx_user_id", columnList = "userId"),
     @Index(name = "idx_created_at", columnList = "createdAt"),
-    @Index(name = "idx_user_read", columnList = "userId, isRead")
+    @Index(name = "idx_user_read", columnList = "userId, isRead"),
+    @Index(name = "idx_user_created_id", columnList = "userId, createdAt DESC, id DESC"),
+    // Full-index forms of the partial indexes in V14, so ddl-auto=update creates them too
+    @Index(name = "idx_notifications_user_unread", columnList = "userId, isRead, createdAt DESC"),
+    @Index(name = "idx_notifications_read_created_at", columnList = "isRead, createdAt")
 })
 @Data
 @AllArgsConstructor
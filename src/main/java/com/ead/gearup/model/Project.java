@@ -12,7 +12,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "projects")
+@Table(name = "projects", indexes = {
+    @Index(name = "idx_projects_customer_status", columnList = "customer_id, status"),
+    @Index(name = "idx_projects_main_representative", columnList = "main_representative_employee_id"),
+    @Index(name = "idx_projects_created_by", columnList = "created_by")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -69,7 +73,8 @@ public class Project {
     @JoinTable(
             name = "project_assigned_employees",
             joinColumns = @JoinColumn(name = "project_id"),
-            inverseJoinColumns = @JoinColumn(name = "employee_id")
+            inverseJoinColumns = @JoinColumn(name = "employee_id"),
+            indexes = @Index(name = "idx_project_assigned_employees_employee", columnList = "employee_id")
     )
     @Builder.Default
     private List<Employee> assignedEmployees = new ArrayList<>();
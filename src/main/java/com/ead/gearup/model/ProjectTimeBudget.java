@@ -0,0 +1,39 @@
+package com.ead.gearup.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Running totals of a project's estimated and logged hours.
+ * Kept in its own row so time-log writes can lock it without contending with project edits,
+ * and so saving a stale Project never overwrites the totals.
+ */
+@Entity
+@Table(name = "project_time_budgets")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ProjectTimeBudget {
+
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Column(name = "estimated_hours", nullable = false)
+    private Integer estimatedHours;
+
+    @Column(name = "logged_hours", nullable = false)
+    private Double loggedHours;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
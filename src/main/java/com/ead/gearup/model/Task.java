@@ -12,6 +12,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
@@ -22,7 +23,12 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "task")
+@Table(name = "task", indexes = {
+    @Index(name = "idx_task_employee_status", columnList = "employee_id, status"),
+    @Index(name = "idx_task_project", columnList = "project_id"),
+    @Index(name = "idx_task_appointment", columnList = "appointment_id"),
+    @Index(name = "idx_task_status_created", columnList = "status, created_at DESC, task_id DESC")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
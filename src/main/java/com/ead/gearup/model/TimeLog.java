@@ -9,6 +9,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
@@ -20,7 +21,12 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "time_logs")
+@Table(name = "time_logs", indexes = {
+    @Index(name = "idx_time_logs_appointment_start", columnList = "appointment_id, start_time DESC"),
+    @Index(name = "idx_time_logs_project_start", columnList = "project_id, start_time DESC"),
+    @Index(name = "idx_time_logs_employee_start", columnList = "employee_id, start_time DESC"),
+    @Index(name = "idx_time_logs_start", columnList = "start_time DESC")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
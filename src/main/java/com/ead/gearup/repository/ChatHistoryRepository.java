@@ -1,7 +1,12 @@
 package com.ead.gearup.repository;
 
+import com.ead.gearup.dto.chat.ChatHistorySummaryProjection;
 import com.ead.gearup.model.ChatHistory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -28,6 +33,54 @@ public interface ChatHistoryRepository extends JpaRepository<ChatHistory, Long>
      */
     List<ChatHistory> findByCreatedAtAfterOrderByCreatedAtDesc(LocalDateTime since);
 
+    /**
+     * First keyset slice of a session's conversation, newest first
+     */
+    @Query("SELECT h FROM ChatHistory h WHERE h.sessionId = :sessionId " +
+           "ORDER BY h.createdAt DESC, h.id DESC")
+    Slice<ChatHistory> findFirstSliceBySessionId(@Param("sessionId") String sessionId, Pageable pageable);
+
+    /**
+     * Keyset slice of a session's conversation strictly after the (createdAt, id) cursor
+     */
+    @Query("SELECT h FROM ChatHistory h WHERE h.sessionId = :sessionId " +
+           "AND (h.createdAt < :cursorCreatedAt " +
+           "     OR (h.createdAt = :cursorCreatedAt AND h.id < :cursorId)) " +
+           "ORDER BY h.createdAt DESC, h.id DESC")
+    Slice<ChatHistory> findSliceBySessionIdAfterCursor(
+            @Param("sessionId") String sessionId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
+    /**
+     * First keyset slice of a user's history as previews, newest first
+     */
+    @Query(value = "SELECT h.id AS id, h.session_id AS sessionId, " +
+            "LEFT(h.question, 200) AS questionPreview, LEFT(h.answer, 200) AS answerPreview, " +
+            "h.from_cache AS fromCache, h.created_at AS createdAt " +
+            "FROM chat_history h " +
+            "WHERE h.user_id = :userId " +
+            "ORDER BY h.created_at DESC, h.id DESC", nativeQuery = true)
+    Slice<ChatHistorySummaryProjection> findFirstSummarySliceByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * Keyset slice of a user's history previews strictly after the (createdAt, id) cursor
+     */
+    @Query(value = "SELECT h.id AS id, h.session_id AS sessionId, " +
+            "LEFT(h.question, 200) AS questionPreview, LEFT(h.answer, 200) AS answerPreview, " +
+            "h.from_cache AS fromCache, h.created_at AS createdAt " +
+            "FROM chat_history h " +
+            "WHERE h.user_id = :userId " +
+            "AND (h.created_at < :cursorCreatedAt " +
+            "     OR (h.created_at = :cursorCreatedAt AND h.id < :cursorId)) " +
+            "ORDER BY h.created_at DESC, h.id DESC", nativeQuery = true)
+    Slice<ChatHistorySummaryProjection> findSummarySliceByUserIdAfterCursor(
+            @Param("userId") Long userId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
     /**
      * Count total chats by user
      */
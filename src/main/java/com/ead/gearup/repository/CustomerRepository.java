@@ -1,6 +1,9 @@
 package com.ead.gearup.repository;
 
+import com.ead.gearup.dto.customer.CustomerActivityProjection;
+import com.ead.gearup.dto.customer.CustomerDashboardSummaryProjection;
 import com.ead.gearup.dto.customer.CustomerSearchResponseProjection;
+import com.ead.gearup.dto.customer.CustomerVehicleServiceProjection;
 import com.ead.gearup.model.Customer;
 import com.ead.gearup.model.User;
 
@@ -9,6 +12,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,4 +28,79 @@ public interface CustomerRepository extends JpaRepository<Customer, Long> {
             "JOIN users u ON c.user_id = u.user_id " +
             "WHERE u.name ILIKE %:name%", nativeQuery = true)
     List<CustomerSearchResponseProjection> findCustomerSearchResultsNative(@Param("name") String name);
-}
\ No newline at end of file
+
+    // Profile plus every dashboard count and the next appointment date in one pass over the customer's appointments
+    @Query(value = """
+            SELECT c.customer_id AS customerId,
+                   u.user_id AS userId,
+                   u.name AS name,
+                   u.email AS email,
+                   c.profile_image AS profileImage,
+                   COUNT(a.appointment_id) FILTER (WHERE a.date > :today AND a.status <> 'CANCELED') AS upcomingAppointmentsCount,
+                   MIN(a.date) FILTER (WHERE a.date > :today AND a.status <> 'CANCELED') AS nextAppointmentDate,
+                   COUNT(a.appointment_id) FILTER (WHERE a.status = 'COMPLETED') AS completedServicesCount,
+                   COUNT(a.appointment_id) FILTER (WHERE a.status = 'PENDING') AS pendingRequestsCount,
+                   (SELECT COUNT(*) FROM projects p
+                     WHERE p.customer_id = c.customer_id
+                       AND p.status IN ('CONFIRMED', 'IN_PROGRESS')) AS ongoingProjectsCount
+            FROM customers c
+            JOIN users u ON u.user_id = c.user_id
+            LEFT JOIN appointment a ON a.customer_id = c.customer_id
+            WHERE c.customer_id = :customerId
+            GROUP BY c.customer_id, u.user_id
+            """, nativeQuery = true)
+    Optional<CustomerDashboardSummaryProjection> findDashboardSummary(@Param("customerId") Long customerId,
+                                                                      @Param("today") LocalDate today);
+
+    // Latest project updates, notifications and appointment changes, each branch limited before merging
+    @Query(value = """
+            SELECT activity.* FROM (
+                (SELECT pu.id AS id, 'PROJECT_UPDATE' AS kind, p.name AS title, pu.message AS description,
+                        CAST(pu.created_at AS TIMESTAMP) AS occurredAt
+                 FROM project_updates pu
+                 JOIN projects p ON p.project_id = pu.project_id
+                 WHERE p.customer_id = :customerId
+                 ORDER BY pu.created_at DESC
+                 LIMIT :limit)
+                UNION ALL
+                (SELECT n.id, 'NOTIFICATION', n.title, n.message, n.created_at
+                 FROM notifications n
+                 WHERE n.user_id = :userId
+                 ORDER BY n.created_at DESC, n.id DESC
+                 LIMIT :limit)
+                UNION ALL
+                (SELECT a.appointment_id, 'APPOINTMENT', a.status,
+                        CONCAT(v.make, ' ', v.model, ' on ', a.date),
+                        COALESCE(a.updated_at, a.created_at)
+                 FROM appointment a
+                 JOIN vehicle v ON v.vehicle_id = a.vehicle_id
+                 WHERE a.customer_id = :customerId
+                 ORDER BY COALESCE(a.updated_at, a.created_at) DESC
+                 LIMIT :limit)
+            ) activity
+            WHERE activity.occurredAt IS NOT NULL
+            ORDER BY activity.occurredAt DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<CustomerActivityProjection> findRecentActivity(@Param("customerId") Long customerId,
+                                                        @Param("userId") String userId,
+                                                        @Param("limit") int limit);
+
+    // Vehicles with their next booked (not cancelled or completed) and last completed service dates
+    @Query(value = """
+            SELECT v.vehicle_id AS id,
+                   v.make AS make,
+                   v.model AS model,
+                   v.year AS year,
+                   v.license_plate AS licensePlate,
+                   MIN(a.date) FILTER (WHERE a.date >= :today AND a.status NOT IN ('CANCELED', 'COMPLETED')) AS nextScheduledDate,
+                   MAX(a.date) FILTER (WHERE a.status = 'COMPLETED') AS lastServiceDate
+            FROM vehicle v
+            LEFT JOIN appointment a ON a.vehicle_id = v.vehicle_id
+            WHERE v.customer_id = :customerId
+            GROUP BY v.vehicle_id
+            ORDER BY v.vehicle_id
+            """, nativeQuery = true)
+    List<CustomerVehicleServiceProjection> findVehicleServiceDates(@Param("customerId") Long customerId,
+                                                                   @Param("today") LocalDate today);
+}
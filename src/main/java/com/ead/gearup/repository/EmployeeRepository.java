@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.ead.gearup.dto.employee.EmployeeDependencyProjection;
 import com.ead.gearup.dto.employee.EmployeeSearchResponseProjection;
 import com.ead.gearup.model.Employee;
 import com.ead.gearup.model.User;
@@ -17,6 +18,9 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
 
     Optional<Employee> findByUser(User user);
 
+    @Query("SELECT e.employeeId FROM Employee e WHERE e.user.userId = :userId")
+    Optional<Long> findEmployeeIdByUserId(@Param("userId") Long userId);
+
     @Query(value = "SELECT e.employee_id AS employeeId, " +
             "u.name AS name, u.email AS email, " +
             "e.specialization AS specialization, e.hire_date AS hireDate " +
@@ -24,4 +28,44 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
             "JOIN users u ON e.user_id = u.user_id " +
             "WHERE u.name ILIKE %:name%", nativeQuery = true)
     List<EmployeeSearchResponseProjection> findEmployeeSearchResultsNative(@Param("name") String name);
+
+    // Everything that references an employee, each count an index lookup on the employee's own rows;
+    // empty when the employee does not exist
+    @Query(value = """
+            WITH appointments AS (
+                SELECT COUNT(*) AS total,
+                       COUNT(*) FILTER (WHERE a.status IN ('PENDING', 'CONFIRMED', 'IN_PROGRESS')) AS open_count
+                FROM appointment a
+                WHERE a.mechanic_id = :employeeId
+            ), tasks AS (
+                SELECT COUNT(*) AS total,
+                       COUNT(*) FILTER (WHERE t.status <> 'COMPLETED') AS open_count
+                FROM task t
+                WHERE t.employee_id = :employeeId
+            ), employee_projects AS (
+                SELECT COUNT(*) AS total,
+                       COUNT(*) FILTER (WHERE p.status NOT IN ('COMPLETED', 'CANCELLED')) AS open_count
+                FROM projects p
+                WHERE p.project_id IN (
+                    SELECT pa.project_id FROM project_assigned_employees pa WHERE pa.employee_id = :employeeId
+                    UNION
+                    SELECT pm.project_id FROM projects pm WHERE pm.main_representative_employee_id = :employeeId
+                    UNION
+                    SELECT pc.project_id FROM projects pc WHERE pc.created_by = :employeeId)
+            )
+            SELECT appointments.total AS appointmentCount,
+                   appointments.open_count AS openAppointmentCount,
+                   tasks.total AS taskCount,
+                   tasks.open_count AS openTaskCount,
+                   employee_projects.total AS projectCount,
+                   employee_projects.open_count AS openProjectCount,
+                   (SELECT COUNT(*) FROM time_logs tl WHERE tl.employee_id = :employeeId) AS timeLogCount,
+                   (SELECT COUNT(*) FROM project_updates pu WHERE pu.employee_id = :employeeId) AS projectUpdateCount
+            FROM employees e
+            CROSS JOIN appointments
+            CROSS JOIN tasks
+            CROSS JOIN employee_projects
+            WHERE e.employee_id = :employeeId
+            """, nativeQuery = true)
+    Optional<EmployeeDependencyProjection> findDependencyCounts(@Param("employeeId") Long employeeId);
 }
@@ -0,0 +1,124 @@
+package com.ead.gearup.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.ead.gearup.dto.analytics.MetricBucketProjection;
+import com.ead.gearup.model.MetricRollup;
+import com.ead.gearup.model.MetricRollupId;
+
+@Repository
+public interface MetricRollupRepository extends JpaRepository<MetricRollup, MetricRollupId> {
+
+    // Add a delta to a rollup row, creating it if needed
+    @Modifying
+    @Query(value = """
+            INSERT INTO metric_rollups (bucket_date, subject, status, employee_id,
+                                        event_count, duration_seconds_sum, revenue_sum)
+            VALUES (:bucketDate, :subject, :status, :employeeId, :eventCount, :durationSeconds, :revenue)
+            ON CONFLICT (bucket_date, subject, status, employee_id) DO UPDATE SET
+                event_count = metric_rollups.event_count + EXCLUDED.event_count,
+                duration_seconds_sum = metric_rollups.duration_seconds_sum + EXCLUDED.duration_seconds_sum,
+                revenue_sum = metric_rollups.revenue_sum + EXCLUDED.revenue_sum
+            """, nativeQuery = true)
+    int addToRollup(@Param("bucketDate") LocalDate bucketDate,
+                    @Param("subject") String subject,
+                    @Param("status") String status,
+                    @Param("employeeId") long employeeId,
+                    @Param("eventCount") long eventCount,
+                    @Param("durationSeconds") long durationSeconds,
+                    @Param("revenue") double revenue);
+
+    // Sum daily rows into day, week or month buckets; status null means every status
+    @Query(value = """
+            SELECT CAST(DATE_TRUNC(:granularity, r.bucket_date) AS date) AS bucketStart,
+                   CAST(SUM(r.event_count) AS BIGINT) AS eventCount,
+                   CAST(SUM(r.duration_seconds_sum) AS BIGINT) AS durationSecondsSum,
+                   CAST(SUM(r.revenue_sum) AS DOUBLE PRECISION) AS revenueSum
+            FROM metric_rollups r
+            WHERE r.subject = :subject
+              AND r.employee_id = :employeeId
+              AND (CAST(:status AS VARCHAR) IS NULL OR r.status = :status)
+              AND r.bucket_date BETWEEN :fromDate AND :toDate
+            GROUP BY bucketStart
+            ORDER BY bucketStart
+            """, nativeQuery = true)
+    List<MetricBucketProjection> findSeries(@Param("subject") String subject,
+                                            @Param("employeeId") long employeeId,
+                                            @Param("status") String status,
+                                            @Param("fromDate") LocalDate fromDate,
+                                            @Param("toDate") LocalDate toDate,
+                                            @Param("granularity") String granularity);
+
+    @Modifying
+    @Query(value = "DELETE FROM metric_rollups WHERE subject = :subject AND bucket_date >= :fromDate AND bucket_date < :toDate",
+            nativeQuery = true)
+    int deleteRange(@Param("subject") String subject,
+                    @Param("fromDate") LocalDate fromDate,
+                    @Param("toDate") LocalDate toDate);
+
+    // Rebuild project rollups for a range from current rows: creation on created_at,
+    // current status on updated_at (earlier transitions of a project are not recoverable).
+    // Adds to rows another instance flushed after the range was deleted instead of failing on them.
+    @Modifying
+    @Query(value = """
+            INSERT INTO metric_rollups (bucket_date, subject, status, employee_id,
+                                        event_count, duration_seconds_sum, revenue_sum)
+            SELECT e.bucket_date, 'PROJECT', e.status, COALESCE(e.employee_id, 0),
+                   COUNT(*), CAST(SUM(e.duration_seconds) AS BIGINT), SUM(e.revenue)
+            FROM (
+                SELECT CAST(p.created_at AS date) AS bucket_date, 'CREATED' AS status,
+                       p.main_representative_employee_id AS employee_id,
+                       0 AS duration_seconds, 0 AS revenue
+                FROM projects p
+                WHERE p.created_at >= :fromTime AND p.created_at < :toTime
+                UNION ALL
+                SELECT CAST(p.updated_at AS date), p.status, p.main_representative_employee_id,
+                       EXTRACT(EPOCH FROM (p.updated_at - p.created_at)),
+                       CASE WHEN p.status = 'COMPLETED' THEN COALESCE(p.total_accepted_cost, 0) ELSE 0 END
+                FROM projects p
+                WHERE p.status <> 'CREATED' AND p.updated_at >= :fromTime AND p.updated_at < :toTime
+            ) e
+            GROUP BY GROUPING SETS ((e.bucket_date, e.status, e.employee_id), (e.bucket_date, e.status))
+            HAVING GROUPING(e.employee_id) = 1 OR e.employee_id IS NOT NULL
+            ON CONFLICT (bucket_date, subject, status, employee_id) DO UPDATE SET
+                event_count = metric_rollups.event_count + EXCLUDED.event_count,
+                duration_seconds_sum = metric_rollups.duration_seconds_sum + EXCLUDED.duration_seconds_sum,
+                revenue_sum = metric_rollups.revenue_sum + EXCLUDED.revenue_sum
+            """, nativeQuery = true)
+    int rebuildProjectRollups(@Param("fromTime") LocalDateTime fromTime, @Param("toTime") LocalDateTime toTime);
+
+    // Same as rebuildProjectRollups for appointments; bookings count as PENDING on created_at
+    @Modifying
+    @Query(value = """
+            INSERT INTO metric_rollups (bucket_date, subject, status, employee_id,
+                                        event_count, duration_seconds_sum, revenue_sum)
+            SELECT e.bucket_date, 'APPOINTMENT', e.status, COALESCE(e.employee_id, 0),
+                   COUNT(*), CAST(SUM(e.duration_seconds) AS BIGINT), 0
+            FROM (
+                SELECT CAST(a.created_at AS date) AS bucket_date, 'PENDING' AS status,
+                       a.mechanic_id AS employee_id, 0 AS duration_seconds
+                FROM appointment a
+                WHERE a.created_at >= :fromTime AND a.created_at < :toTime
+                UNION ALL
+                SELECT CAST(a.updated_at AS date), a.status, a.mechanic_id,
+                       EXTRACT(EPOCH FROM (a.updated_at - a.created_at))
+                FROM appointment a
+                WHERE a.status <> 'PENDING' AND a.updated_at >= :fromTime AND a.updated_at < :toTime
+            ) e
+            GROUP BY GROUPING SETS ((e.bucket_date, e.status, e.employee_id), (e.bucket_date, e.status))
+            HAVING GROUPING(e.employee_id) = 1 OR e.employee_id IS NOT NULL
+            ON CONFLICT (bucket_date, subject, status, employee_id) DO UPDATE SET
+                event_count = metric_rollups.event_count + EXCLUDED.event_count,
+                duration_seconds_sum = metric_rollups.duration_seconds_sum + EXCLUDED.duration_seconds_sum,
+                revenue_sum = metric_rollups.revenue_sum + EXCLUDED.revenue_sum
+            """, nativeQuery = true)
+    int rebuildAppointmentRollups(@Param("fromTime") LocalDateTime fromTime, @Param("toTime") LocalDateTime toTime);
+}
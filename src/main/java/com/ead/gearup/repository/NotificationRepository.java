@@ -3,11 +3,16 @@ package com.ead.gearup.repository;
 import com.ead.gearup.model.Notification;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -31,6 +36,11 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     // Count unread notifications for a user
     long countByUserIdAndIsReadFalse(String userId);
 
+    // Count unread notifications for a batch of users, one row per user with at least one unread
+    @Query("SELECT n.userId, COUNT(n) FROM Notification n " +
+           "WHERE n.isRead = false AND n.userId IN :userIds GROUP BY n.userId")
+    List<Object[]> countUnreadGroupedByUserId(@Param("userIds") Collection<String> userIds);
+
     // Find notifications with optional filters for type and read status
     @Query("SELECT n FROM Notification n WHERE n.userId = :userId " +
            "AND (:type IS NULL OR n.type = :type) " +
@@ -42,10 +52,59 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
             Pageable pageable
     );
 
+    // First keyset slice of a user's notifications, newest first (no count query)
+    @Query("SELECT n FROM Notification n WHERE n.userId = :userId " +
+           "AND (:type IS NULL OR n.type = :type) " +
+           "AND (:isRead IS NULL OR n.isRead = :isRead) " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    Slice<Notification> findFirstSliceByUserId(
+            @Param("userId") String userId,
+            @Param("type") String type,
+            @Param("isRead") Boolean isRead,
+            Pageable pageable
+    );
+
+    // Keyset slice of a user's notifications strictly after the (createdAt, id) cursor
+    @Query("SELECT n FROM Notification n WHERE n.userId = :userId " +
+           "AND (:type IS NULL OR n.type = :type) " +
+           "AND (:isRead IS NULL OR n.isRead = :isRead) " +
+           "AND (n.createdAt < :cursorCreatedAt " +
+           "     OR (n.createdAt = :cursorCreatedAt AND n.id < :cursorId)) " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    Slice<Notification> findSliceByUserIdAfterCursor(
+            @Param("userId") String userId,
+            @Param("type") String type,
+            @Param("isRead") Boolean isRead,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
     // Delete all notifications for a user
     void deleteByUserId(String userId);
 
+    // Mark every unread notification of a user as read in a single UPDATE
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.userId = :userId AND n.isRead = false")
+    int markAllAsReadByUserId(@Param("userId") String userId);
+
     // Delete read notifications older than a certain date
+    @Modifying
     @Query("DELETE FROM Notification n WHERE n.isRead = true AND n.createdAt < :cutoffDate")
-    void deleteOldReadNotifications(@Param("cutoffDate") java.time.LocalDateTime cutoffDate);
+    int deleteOldReadNotifications(@Param("cutoffDate") LocalDateTime cutoffDate);
+
+    // Delete at most batchSize read notifications older than the cutoff, each call in its own transaction
+    @Transactional
+    @Modifying
+    @Query(value = """
+            DELETE FROM notifications
+            WHERE id IN (
+                SELECT id FROM notifications
+                WHERE is_read = true AND created_at < :cutoffDate
+                ORDER BY created_at
+                LIMIT :batchSize
+            )
+            """, nativeQuery = true)
+    int deleteOldReadNotificationsBatch(@Param("cutoffDate") LocalDateTime cutoffDate,
+                                        @Param("batchSize") int batchSize);
 }
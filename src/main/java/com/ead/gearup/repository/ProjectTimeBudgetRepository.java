@@ -0,0 +1,91 @@
+package com.ead.gearup.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.ead.gearup.dto.timelog.ProjectTimeBudgetProjection;
+import com.ead.gearup.model.ProjectTimeBudget;
+
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface ProjectTimeBudgetRepository extends JpaRepository<ProjectTimeBudget, Long> {
+
+    // SELECT ... FOR UPDATE: serializes time-log writes of one project until the transaction ends
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM ProjectTimeBudget b WHERE b.projectId = :projectId")
+    Optional<ProjectTimeBudget> findByIdForUpdate(@Param("projectId") Long projectId);
+
+    @Query("""
+            SELECT b.projectId AS projectId, p.name AS projectName,
+                   b.estimatedHours AS estimatedHours, b.loggedHours AS loggedHours
+            FROM ProjectTimeBudget b
+            JOIN Project p ON p.projectId = b.projectId
+            WHERE b.projectId = :projectId
+            """)
+    Optional<ProjectTimeBudgetProjection> findSummary(@Param("projectId") Long projectId);
+
+    // Same totals computed from the project's tasks and logs, for projects without a budget row yet
+    @Query("""
+            SELECT p.projectId AS projectId, p.name AS projectName,
+                   CAST(COALESCE((SELECT SUM(t.estimatedHours) FROM Project tp JOIN tp.tasks t
+                                  WHERE tp.projectId = p.projectId), 0) AS Integer) AS estimatedHours,
+                   CAST(COALESCE((SELECT SUM(tl.hoursWorked) FROM TimeLog tl
+                                  WHERE tl.project.projectId = p.projectId), 0) AS Double) AS loggedHours
+            FROM Project p
+            WHERE p.projectId = :projectId
+            """)
+    Optional<ProjectTimeBudgetProjection> computeSummary(@Param("projectId") Long projectId);
+
+    // Create the row from the project's tasks and existing logs; a no-op if it exists or the project does not
+    @Modifying
+    @Query(value = """
+            INSERT INTO project_time_budgets (project_id, estimated_hours, logged_hours, updated_at)
+            SELECT p.project_id,
+                   COALESCE((SELECT SUM(t.estimated_hours)
+                             FROM project_tasks pt
+                             JOIN task t ON t.task_id = pt.task_id
+                             WHERE pt.project_id = p.project_id), 0),
+                   COALESCE((SELECT SUM(tl.hours_worked)
+                             FROM time_logs tl
+                             WHERE tl.project_id = p.project_id), 0),
+                   NOW()
+            FROM projects p
+            WHERE p.project_id = :projectId
+            ON CONFLICT (project_id) DO NOTHING
+            """, nativeQuery = true)
+    int initialize(@Param("projectId") Long projectId);
+
+    // Recompute estimated hours of every project containing a task whose estimate changed
+    @Modifying
+    @Query(value = """
+            UPDATE project_time_budgets b
+            SET estimated_hours = COALESCE((SELECT SUM(t.estimated_hours)
+                                            FROM project_tasks pt
+                                            JOIN task t ON t.task_id = pt.task_id
+                                            WHERE pt.project_id = b.project_id), 0),
+                updated_at = NOW()
+            WHERE b.project_id IN (SELECT pt.project_id FROM project_tasks pt WHERE pt.task_id = :taskId)
+            """, nativeQuery = true)
+    int refreshEstimatedHoursForTask(@Param("taskId") Long taskId);
+
+    // Recompute estimated hours of every project containing a task that is about to be deleted, leaving it out
+    @Modifying
+    @Query(value = """
+            UPDATE project_time_budgets b
+            SET estimated_hours = COALESCE((SELECT SUM(t.estimated_hours)
+                                            FROM project_tasks pt
+                                            JOIN task t ON t.task_id = pt.task_id
+                                            WHERE pt.project_id = b.project_id
+                                              AND t.task_id <> :taskId), 0),
+                updated_at = NOW()
+            WHERE b.project_id IN (SELECT pt.project_id FROM project_tasks pt WHERE pt.task_id = :taskId)
+            """, nativeQuery = true)
+    int refreshEstimatedHoursWithoutTask(@Param("taskId") Long taskId);
+}
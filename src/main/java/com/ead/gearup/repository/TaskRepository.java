@@ -1,24 +1,94 @@
 package com.ead.gearup.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.ead.gearup.enums.TaskStatus;
-import com.ead.gearup.model.Employee;
+import com.ead.gearup.dto.task.TaskRowProjection;
 import com.ead.gearup.dto.task.TaskSearchResponseProjection;
+import com.ead.gearup.dto.task.TaskStatusCountProjection;
 import com.ead.gearup.model.Task;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
 
-    @Query("SELECT COUNT(t) FROM Task t WHERE t.employee = :employee AND t.status = 'COMPLETED' AND FUNCTION('DATE', t.completedAt) = CURRENT_DATE")
-    Long countCompletedToday(@Param("employee") Employee employee);
+    // Shared select list of the task listings; the appointment id is read from the task row itself
+    String ROW_SELECT = """
+            SELECT t.taskId AS taskId, t.appointment.appointmentId AS appointmentId, t.name AS name,
+                   t.description AS description, t.estimatedHours AS estimatedHours,
+                   t.estimatedCost AS estimatedCost, t.status AS status, t.category AS category,
+                   t.priority AS priority, t.notes AS notes, t.requestedBy AS requestedBy,
+                   t.createdAt AS createdAt
+            FROM Task t
+            """;
+
+    String STATUS_FILTER = "(:status IS NULL OR t.status = :status)";
+
+    String NEWEST_FIRST = " ORDER BY t.createdAt DESC, t.taskId DESC";
+
+    // Tasks of the customer's projects or appointments
+    String CUSTOMER_SCOPE = """
+            WHERE (t.project.projectId IN (SELECT cp.projectId FROM Project cp WHERE cp.customer.customerId = :customerId)
+                   OR t.appointment.appointmentId IN (
+                       SELECT ca.appointmentId FROM Appointment ca WHERE ca.customer.customerId = :customerId))
+            """;
+
+    // Tasks assigned to the employee, or on an appointment or project the employee works on
+    String EMPLOYEE_SCOPE = """
+            WHERE (t.employee.employeeId = :employeeId
+                   OR t.appointment.appointmentId IN (
+                       SELECT ea.appointmentId FROM Appointment ea WHERE ea.employee.employeeId = :employeeId)
+                   OR t.project.projectId IN (
+                       SELECT ep.projectId FROM Project ep WHERE ep.mainRepresentativeEmployee.employeeId = :employeeId)
+                   OR t.project.projectId IN (
+                       SELECT ap.projectId FROM Project ap JOIN ap.assignedEmployees ae WHERE ae.employeeId = :employeeId))
+            """;
+
+    @Query(value = ROW_SELECT + "WHERE " + STATUS_FILTER + NEWEST_FIRST,
+            countQuery = "SELECT COUNT(t) FROM Task t WHERE " + STATUS_FILTER)
+    Page<TaskRowProjection> findPage(@Param("status") TaskStatus status, Pageable pageable);
+
+    @Query(value = ROW_SELECT + CUSTOMER_SCOPE + "AND " + STATUS_FILTER + NEWEST_FIRST,
+            countQuery = "SELECT COUNT(t) FROM Task t " + CUSTOMER_SCOPE + "AND " + STATUS_FILTER)
+    Page<TaskRowProjection> findPageByCustomerId(@Param("customerId") Long customerId,
+                                                 @Param("status") TaskStatus status,
+                                                 Pageable pageable);
+
+    @Query(value = ROW_SELECT + EMPLOYEE_SCOPE + "AND " + STATUS_FILTER + NEWEST_FIRST,
+            countQuery = "SELECT COUNT(t) FROM Task t " + EMPLOYEE_SCOPE + "AND " + STATUS_FILTER)
+    Page<TaskRowProjection> findPageByEmployeeId(@Param("employeeId") Long employeeId,
+                                                 @Param("status") TaskStatus status,
+                                                 Pageable pageable);
+
+    // Tasks of an employee per status, with those completed in [dayStart, dayEnd)
+    @Query("""
+            SELECT t.status AS status, COUNT(t) AS taskCount,
+                   SUM(CASE WHEN t.completedAt >= :dayStart AND t.completedAt < :dayEnd THEN 1 ELSE 0 END) AS completedToday
+            FROM Task t
+            WHERE t.employee.employeeId = :employeeId
+            GROUP BY t.status
+            """)
+    List<TaskStatusCountProjection> countByStatusForEmployee(@Param("employeeId") Long employeeId,
+                                                             @Param("dayStart") LocalDateTime dayStart,
+                                                             @Param("dayEnd") LocalDateTime dayEnd);
+
+    @Query("""
+            SELECT t.name FROM Task t
+            WHERE t.employee.employeeId = :employeeId AND t.status = :status
+            ORDER BY t.createdAt DESC, t.taskId DESC
+            """)
+    List<String> findRecentTaskNames(@Param("employeeId") Long employeeId,
+                                     @Param("status") TaskStatus status,
+                                     Limit limit);
 
-    Long countByEmployeeAndStatus(Employee employee, TaskStatus status);
     @Query(value = "SELECT t.task_id AS taskId, t.name AS name, t.description AS description, " +
             "t.estimated_hours AS estimatedHours, t.cost AS cost, t.status AS status, " +
             "t.is_assigned_project AS assignedProject, t.appointment_id AS appointmentId " +
@@ -1,12 +1,120 @@
 package com.ead.gearup.repository;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import com.ead.gearup.dto.timelog.TimeLogRowProjection;
+import com.ead.gearup.dto.timelog.TimesheetRowProjection;
 import com.ead.gearup.model.TimeLog;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
 public interface TimeLogRepository extends JpaRepository<TimeLog, Long> {
-    
-    @Query("SELECT COALESCE(SUM(tl.hoursWorked), 0.0) FROM TimeLog tl WHERE tl.project.projectId = :projectId")
-    Double getTotalLoggedHoursByProjectId(@Param("projectId") Long projectId);
+
+    // Shared select list: each list query reads its rows and their details in one statement
+    String ROW_SELECT = """
+            SELECT tl.logId AS logId, tl.description AS description,
+                   tl.startTime AS startTime, tl.endTime AS endTime,
+                   tl.hoursWorked AS hoursWorked, tl.loggedAt AS loggedAt, t.taskId AS taskId,
+                   e.employeeId AS employeeId, u.name AS employeeName, u.email AS employeeEmail,
+                   p.projectId AS projectId, p.name AS projectName,
+                   a.appointmentId AS appointmentId, a.date AS appointmentDate
+            FROM TimeLog tl
+            JOIN tl.employee e
+            JOIN e.user u
+            LEFT JOIN tl.task t
+            LEFT JOIN tl.project p
+            LEFT JOIN tl.appointment a
+            """;
+
+    String NEWEST_FIRST = " ORDER BY tl.startTime DESC, tl.logId DESC";
+
+    @Query(value = ROW_SELECT + "WHERE tl.appointment.appointmentId = :appointmentId" + NEWEST_FIRST,
+            countQuery = "SELECT COUNT(tl) FROM TimeLog tl WHERE tl.appointment.appointmentId = :appointmentId")
+    Page<TimeLogRowProjection> findPageByAppointmentId(@Param("appointmentId") Long appointmentId, Pageable pageable);
+
+    @Query(value = ROW_SELECT + "WHERE tl.project.projectId = :projectId" + NEWEST_FIRST,
+            countQuery = "SELECT COUNT(tl) FROM TimeLog tl WHERE tl.project.projectId = :projectId")
+    Page<TimeLogRowProjection> findPageByProjectId(@Param("projectId") Long projectId, Pageable pageable);
+
+    @Query(value = ROW_SELECT
+            + "WHERE tl.employee.employeeId = :employeeId AND tl.startTime >= :from AND tl.startTime < :to"
+            + NEWEST_FIRST,
+            countQuery = """
+                    SELECT COUNT(tl) FROM TimeLog tl
+                    WHERE tl.employee.employeeId = :employeeId AND tl.startTime >= :from AND tl.startTime < :to
+                    """)
+    Page<TimeLogRowProjection> findPageByEmployeeId(@Param("employeeId") Long employeeId,
+                                                    @Param("from") LocalDateTime from,
+                                                    @Param("to") LocalDateTime to,
+                                                    Pageable pageable);
+
+    @Query(value = ROW_SELECT + "WHERE tl.startTime >= :from AND tl.startTime < :to" + NEWEST_FIRST,
+            countQuery = "SELECT COUNT(tl) FROM TimeLog tl WHERE tl.startTime >= :from AND tl.startTime < :to")
+    Page<TimeLogRowProjection> findPageByStartTimeRange(@Param("from") LocalDateTime from,
+                                                        @Param("to") LocalDateTime to,
+                                                        Pageable pageable);
+
+    // Locked before the project budget row, so edits of one log cannot both apply the same old hours
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT tl FROM TimeLog tl WHERE tl.logId = :id")
+    Optional<TimeLog> findByIdForUpdate(@Param("id") Long id);
+
+    // Timesheet per employee and day/week/month bucket, ordered by employee. Hours are first summed per
+    // employee and day so overtime is counted per day: hours beyond the shop's daily opening hours on a
+    // working day, and every hour on a non-operating day or closed date. Billable hours are those logged
+    // against accepted or completed tasks. Must be consumed inside a transaction and closed.
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(value = """
+            WITH daily AS (
+                SELECT tl.employee_id,
+                       CAST(tl.start_time AS date) AS work_day,
+                       SUM(tl.hours_worked) AS hours,
+                       COALESCE(SUM(tl.hours_worked) FILTER (WHERE tl.project_id IS NOT NULL), 0) AS project_hours,
+                       COALESCE(SUM(tl.hours_worked) FILTER (WHERE tl.appointment_id IS NOT NULL), 0) AS appointment_hours,
+                       COALESCE(SUM(tl.hours_worked) FILTER (WHERE t.status IN ('ACCEPTED', 'COMPLETED')), 0) AS billable_hours,
+                       COUNT(*) AS log_count
+                FROM time_logs tl
+                LEFT JOIN task t ON t.task_id = tl.task_id
+                WHERE tl.start_time >= :from AND tl.start_time < :to
+                  AND (CAST(:employeeId AS BIGINT) IS NULL OR tl.employee_id = :employeeId)
+                GROUP BY tl.employee_id, CAST(tl.start_time AS date)
+            )
+            SELECT d.employee_id AS employeeId,
+                   u.name AS employeeName,
+                   CAST(DATE_TRUNC(:granularity, d.work_day) AS date) AS periodStart,
+                   CAST(SUM(d.hours) AS DOUBLE PRECISION) AS loggedHours,
+                   CAST(SUM(d.project_hours) AS DOUBLE PRECISION) AS projectHours,
+                   CAST(SUM(d.appointment_hours) AS DOUBLE PRECISION) AS appointmentHours,
+                   CAST(SUM(d.billable_hours) AS DOUBLE PRECISION) AS billableHours,
+                   CAST(SUM(CASE
+                       WHEN CAST(EXTRACT(DOW FROM d.work_day) AS INTEGER)
+                                = ANY (CAST(string_to_array(:operatingDays, ',') AS INTEGER[]))
+                            AND NOT d.work_day = ANY (CAST(string_to_array(:closedDates, ',') AS DATE[]))
+                       THEN GREATEST(d.hours - :dailyHours, 0)
+                       ELSE d.hours
+                   END) AS DOUBLE PRECISION) AS overtimeHours,
+                   CAST(SUM(d.log_count) AS BIGINT) AS logCount
+            FROM daily d
+            JOIN employees e ON e.employee_id = d.employee_id
+            JOIN users u ON u.user_id = e.user_id
+            GROUP BY d.employee_id, u.name, periodStart
+            ORDER BY u.name, d.employee_id, periodStart
+            """, nativeQuery = true)
+    Stream<TimesheetRowProjection> streamTimesheet(@Param("from") LocalDateTime from,
+                                                   @Param("to") LocalDateTime to,
+                                                   @Param("employeeId") Long employeeId,
+                                                   @Param("granularity") String granularity,
+                                                   @Param("operatingDays") String operatingDays,
+                                                   @Param("closedDates") String closedDates,
+                                                   @Param("dailyHours") double dailyHours);
 }
@@ -18,6 +18,9 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmail(String email);
     List<User> findByRole(UserRole role);
 
+    @Query("SELECT u.userId FROM User u WHERE u.role = :role")
+    List<Long> findUserIdsByRole(@Param("role") UserRole role);
+
     @Query(value = """
             SELECT DATE_TRUNC('month', u.created_at) AS month_start, COUNT(*)
             FROM users u
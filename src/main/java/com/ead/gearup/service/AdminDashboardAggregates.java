@@ -0,0 +1,378 @@
+package com.ead.gearup.service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ead.gearup.enums.AppointmentStatus;
+import com.ead.gearup.enums.ProjectStatus;
+import com.ead.gearup.enums.UserRole;
+import com.ead.gearup.repository.AppointmentRepository;
+import com.ead.gearup.repository.CustomerRepository;
+import com.ead.gearup.repository.EmployeeRepository;
+import com.ead.gearup.repository.ProjectRepository;
+import com.ead.gearup.repository.TaskRepository;
+import com.ead.gearup.repository.UserRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory aggregates behind the admin dashboard.
+ * Counters and monthly buckets are adjusted from committed entity changes, so reading the
+ * dashboard costs no queries. A periodic reconciliation reloads everything from SQL to
+ * correct drift (bulk updates, day rollover of upcoming appointments, changes that raced a
+ * reconciliation); a read whose data is older than the staleness bound reconciles first.
+ * Reconciliation fans its independent queries out in parallel with a timeout per section.
+ */
+@Service
+@Slf4j
+public class AdminDashboardAggregates {
+
+    public static final int MONTH_RANGE = 6;
+
+    static final List<AppointmentStatus> UPCOMING_STATUSES =
+            List.of(AppointmentStatus.PENDING, AppointmentStatus.CONFIRMED, AppointmentStatus.IN_PROGRESS);
+
+    public enum Total { EMPLOYEES, CUSTOMERS, SERVICES }
+
+    // Independently loaded parts of the dashboard
+    public enum Section {
+        EMPLOYEES, CUSTOMERS, SERVICES, UPCOMING_APPOINTMENTS,
+        PROJECT_STATUS, CUSTOMER_REGISTRATIONS, PROJECT_COMPLETIONS
+    }
+
+    private final EmployeeRepository employeeRepository;
+    private final ProjectRepository projectRepository;
+    private final AppointmentRepository appointmentRepository;
+    private final CustomerRepository customerRepository;
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final Duration maxStaleness;
+    private final boolean parallelQueries;
+    private final Duration sectionTimeout;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ExecutorService queryExecutor;
+    private final Object reconcileLock = new Object();
+
+    // All state below is guarded by this
+    private final Map<Total, Long> totals = new EnumMap<>(Total.class);
+    private final Map<ProjectStatus, Long> projectsByStatus = new EnumMap<>(ProjectStatus.class);
+    private final Map<YearMonth, Long> customerRegistrations = new HashMap<>();
+    private final Map<YearMonth, Long> projectCompletions = new HashMap<>();
+    private long upcomingAppointments;
+    private LocalDateTime reconciledAt;
+    private LocalDateTime updatedAt;
+    private boolean reconcileRequested;
+    private final Set<Section> unavailableSections = EnumSet.noneOf(Section.class);
+
+    public AdminDashboardAggregates(
+            EmployeeRepository employeeRepository,
+            ProjectRepository projectRepository,
+            AppointmentRepository appointmentRepository,
+            CustomerRepository customerRepository,
+            TaskRepository taskRepository,
+            UserRepository userRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${admin.dashboard.max-staleness-seconds:900}") long maxStalenessSeconds,
+            @Value("${admin.dashboard.parallel-queries:true}") boolean parallelQueries,
+            @Value("${admin.dashboard.query-threads:4}") int queryThreads,
+            @Value("${admin.dashboard.section-timeout-ms:2000}") long sectionTimeoutMs) {
+        this.employeeRepository = employeeRepository;
+        this.projectRepository = projectRepository;
+        this.appointmentRepository = appointmentRepository;
+        this.customerRepository = customerRepository;
+        this.taskRepository = taskRepository;
+        this.userRepository = userRepository;
+        this.maxStaleness = Duration.ofSeconds(maxStalenessSeconds);
+        this.parallelQueries = parallelQueries;
+        this.sectionTimeout = Duration.ofMillis(sectionTimeoutMs);
+
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        // Applied as the JDBC query timeout, so a section that gave up does not leave its statement running
+        readOnlyTransaction.setTimeout((int) Math.max(1, Math.ceil(sectionTimeoutMs / 1000.0)));
+
+        // Virtual threads, but a fixed number of them so the fan-out cannot drain the connection pool
+        this.queryExecutor = Executors.newFixedThreadPool(queryThreads,
+                Thread.ofVirtual().name("dashboard-query-", 0).factory());
+    }
+
+    /**
+     * Current aggregates, reconciling first if they were never loaded or are past the staleness bound
+     */
+    public Snapshot snapshot() {
+        if (mustReconcile()) {
+            synchronized (reconcileLock) {
+                // Concurrent readers wait for one reconciliation instead of each running their own
+                if (mustReconcile()) {
+                    reconcile();
+                }
+            }
+        }
+        synchronized (this) {
+            return new Snapshot(
+                    new EnumMap<>(totals),
+                    upcomingAppointments,
+                    new EnumMap<>(projectsByStatus),
+                    window(customerRegistrations),
+                    window(projectCompletions),
+                    reconciledAt,
+                    updatedAt,
+                    unavailableSections.isEmpty() ? Set.of() : EnumSet.copyOf(unavailableSections));
+        }
+    }
+
+    /**
+     * Reload every aggregate from SQL and replace the maintained values.
+     * Each section runs in its own read-only transaction, concurrently when parallel queries are
+     * enabled. A section that fails or exceeds its timeout keeps its previous value and is
+     * reported as unavailable until a later reconciliation loads it.
+     */
+    @Scheduled(fixedDelayString = "${admin.dashboard.reconcile-interval-ms:300000}",
+            initialDelayString = "${admin.dashboard.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        synchronized (reconcileLock) {
+            long started = System.currentTimeMillis();
+            LocalDateTime windowStart = monthWindowStart();
+
+            CompletableFuture<Long> employees = load(employeeRepository::count);
+            CompletableFuture<Long> customers = load(customerRepository::count);
+            CompletableFuture<Long> services = load(taskRepository::count);
+            CompletableFuture<Long> upcoming = load(() ->
+                    appointmentRepository.countUpcomingAppointments(LocalDate.now(), UPCOMING_STATUSES));
+            CompletableFuture<Map<ProjectStatus, Long>> statuses = load(() ->
+                    toStatusCountMap(projectRepository.countProjectsByStatus()));
+            CompletableFuture<Map<YearMonth, Long>> registrations = load(() -> toMonthCountMap(
+                    userRepository.countUsersByRoleGroupedByMonth(UserRole.CUSTOMER.name(), windowStart)));
+            CompletableFuture<Map<YearMonth, Long>> completions = load(() -> toMonthCountMap(
+                    projectRepository.countProjectsByMonthAndStatus(ProjectStatus.COMPLETED.name(), windowStart)));
+
+            // Every section completes or times out once started, so this wait is bounded
+            // by the section timeout times the number of rounds the pool needs
+            CompletableFuture.allOf(employees, customers, services, upcoming, statuses, registrations, completions)
+                    .exceptionally(error -> null)
+                    .join();
+
+            synchronized (this) {
+                unavailableSections.clear();
+                apply(Section.EMPLOYEES, employees, value -> totals.put(Total.EMPLOYEES, value));
+                apply(Section.CUSTOMERS, customers, value -> totals.put(Total.CUSTOMERS, value));
+                apply(Section.SERVICES, services, value -> totals.put(Total.SERVICES, value));
+                apply(Section.UPCOMING_APPOINTMENTS, upcoming, value -> upcomingAppointments = value);
+                apply(Section.PROJECT_STATUS, statuses, value -> replace(projectsByStatus, value));
+                apply(Section.CUSTOMER_REGISTRATIONS, registrations, value -> replace(customerRegistrations, value));
+                apply(Section.PROJECT_COMPLETIONS, completions, value -> replace(projectCompletions, value));
+                reconciledAt = LocalDateTime.now();
+                updatedAt = reconciledAt;
+                reconcileRequested = false;
+            }
+            log.debug("Reconciled admin dashboard aggregates in {}ms", System.currentTimeMillis() - started);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        queryExecutor.shutdownNow();
+    }
+
+    /**
+     * Ask for a reconciliation on the next read, for changes whose effect cannot be computed
+     */
+    public synchronized void requestReconcile() {
+        reconcileRequested = true;
+    }
+
+    public synchronized void adjust(Total total, long delta) {
+        if (reconciledAt == null) {
+            return;
+        }
+        totals.merge(total, delta, Long::sum);
+        touch();
+    }
+
+    /**
+     * Apply a project insert, update or delete. A null status means the row did not exist on that side.
+     */
+    public synchronized void onProjectChanged(ProjectStatus oldStatus, LocalDateTime oldUpdatedAt,
+                                              ProjectStatus newStatus, LocalDateTime newUpdatedAt) {
+        if (reconciledAt == null) {
+            return;
+        }
+        if (oldStatus != null) {
+            projectsByStatus.merge(oldStatus, -1L, Long::sum);
+            if (oldStatus == ProjectStatus.COMPLETED && oldUpdatedAt != null) {
+                projectCompletions.merge(YearMonth.from(oldUpdatedAt), -1L, Long::sum);
+            }
+        }
+        if (newStatus != null) {
+            projectsByStatus.merge(newStatus, 1L, Long::sum);
+            if (newStatus == ProjectStatus.COMPLETED && newUpdatedAt != null) {
+                projectCompletions.merge(YearMonth.from(newUpdatedAt), 1L, Long::sum);
+            }
+        }
+        touch();
+    }
+
+    /**
+     * Apply an appointment insert, update or delete. A null status means the row did not exist on that side.
+     */
+    public synchronized void onAppointmentChanged(LocalDate oldDate, AppointmentStatus oldStatus,
+                                                  LocalDate newDate, AppointmentStatus newStatus) {
+        if (reconciledAt == null) {
+            return;
+        }
+        upcomingAppointments += (isUpcoming(newDate, newStatus) ? 1 : 0) - (isUpcoming(oldDate, oldStatus) ? 1 : 0);
+        touch();
+    }
+
+    /**
+     * Apply a user insert, update or delete. A null role means the row did not exist on that side.
+     */
+    public synchronized void onUserChanged(UserRole oldRole, LocalDateTime oldCreatedAt,
+                                           UserRole newRole, LocalDateTime newCreatedAt) {
+        if (reconciledAt == null) {
+            return;
+        }
+        if (oldRole == UserRole.CUSTOMER && oldCreatedAt != null) {
+            customerRegistrations.merge(YearMonth.from(oldCreatedAt), -1L, Long::sum);
+        }
+        if (newRole == UserRole.CUSTOMER && newCreatedAt != null) {
+            customerRegistrations.merge(YearMonth.from(newCreatedAt), 1L, Long::sum);
+        }
+        touch();
+    }
+
+    // Private helper methods
+
+    private void touch() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    private synchronized boolean mustReconcile() {
+        return reconcileRequested || reconciledAt == null
+                || reconciledAt.plus(maxStaleness).isBefore(LocalDateTime.now());
+    }
+
+    private <T> CompletableFuture<T> load(Supplier<T> query) {
+        Supplier<T> transactional = () -> readOnlyTransaction.execute(status -> query.get());
+        if (!parallelQueries) {
+            try {
+                return CompletableFuture.completedFuture(transactional.get());
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> task;
+        try {
+            task = queryExecutor.submit(() -> {
+                // The timeout counts from when the section starts, not while it waits for a thread
+                result.orTimeout(sectionTimeout.toMillis(), TimeUnit.MILLISECONDS);
+                try {
+                    result.complete(transactional.get());
+                } catch (RuntimeException e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        // A section that gave up frees its thread; the transaction timeout ends the statement itself
+        result.whenComplete((value, error) -> {
+            if (error instanceof TimeoutException) {
+                task.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    // Called with this locked; a failed section keeps its previous value
+    private <T> void apply(Section section, CompletableFuture<T> result, Consumer<T> setter) {
+        try {
+            setter.accept(result.join());
+        } catch (CompletionException | CancellationException e) {
+            unavailableSections.add(section);
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            log.warn("Admin dashboard section {} could not be reloaded: {}", section,
+                    cause instanceof TimeoutException ? "timed out after " + sectionTimeout.toMillis() + "ms" : cause.getMessage());
+        }
+    }
+
+    private static <K, V> void replace(Map<K, V> target, Map<K, V> values) {
+        target.clear();
+        target.putAll(values);
+    }
+
+    private static boolean isUpcoming(LocalDate date, AppointmentStatus status) {
+        return status != null && date != null && !date.isBefore(LocalDate.now()) && UPCOMING_STATUSES.contains(status);
+    }
+
+    // Buckets for the dashboard's month range only; older months are dropped
+    private static Map<YearMonth, Long> window(Map<YearMonth, Long> buckets) {
+        YearMonth earliest = YearMonth.now().minusMonths(MONTH_RANGE - 1);
+        buckets.keySet().removeIf(month -> month.isBefore(earliest));
+        return Map.copyOf(buckets);
+    }
+
+    private static Map<ProjectStatus, Long> toStatusCountMap(List<Object[]> rows) {
+        Map<ProjectStatus, Long> result = new EnumMap<>(ProjectStatus.class);
+        for (Object[] row : rows) {
+            result.put(ProjectStatus.valueOf(row[0].toString()), ((Number) row[1]).longValue());
+        }
+        return result;
+    }
+
+    private static Map<YearMonth, Long> toMonthCountMap(List<Object[]> rows) {
+        Map<YearMonth, Long> result = new HashMap<>();
+        for (Object[] row : rows) {
+            Timestamp timestamp = (Timestamp) row[0];
+            result.put(YearMonth.from(timestamp.toLocalDateTime()), ((Number) row[1]).longValue());
+        }
+        return result;
+    }
+
+    private static LocalDateTime monthWindowStart() {
+        return YearMonth.now().minusMonths(MONTH_RANGE - 1).atDay(1).atStartOfDay();
+    }
+
+    public record Snapshot(
+            Map<Total, Long> totals,
+            long upcomingAppointments,
+            Map<ProjectStatus, Long> projectsByStatus,
+            Map<YearMonth, Long> customerRegistrations,
+            Map<YearMonth, Long> projectCompletions,
+            LocalDateTime reconciledAt,
+            LocalDateTime updatedAt,
+            Set<Section> unavailableSections) {
+
+        public long total(Total total) {
+            return totals.getOrDefault(total, 0L);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.ead.gearup.service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ead.gearup.dto.analytics.MetricBucketDTO;
+import com.ead.gearup.dto.analytics.MetricBucketProjection;
+import com.ead.gearup.dto.analytics.MetricSeriesDTO;
+import com.ead.gearup.enums.AppointmentStatus;
+import com.ead.gearup.enums.MetricGranularity;
+import com.ead.gearup.enums.MetricSubject;
+import com.ead.gearup.enums.ProjectStatus;
+import com.ead.gearup.repository.MetricRollupRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Time-bucketed project and appointment metrics served from the daily rollups, so the cost
+ * of a query depends on the number of days in the range, not on the size of the raw tables.
+ */
+@Service
+@Slf4j
+public class AnalyticsService {
+
+    private final MetricRollupRepository metricRollupRepository;
+    private final MetricRollupWriter metricRollupWriter;
+    private final long maxRangeDays;
+
+    public AnalyticsService(MetricRollupRepository metricRollupRepository,
+                            MetricRollupWriter metricRollupWriter,
+                            @Value("${analytics.max-range-days:3660}") long maxRangeDays) {
+        this.metricRollupRepository = metricRollupRepository;
+        this.metricRollupWriter = metricRollupWriter;
+        this.maxRangeDays = maxRangeDays;
+    }
+
+    /**
+     * Get a metric series
+     *
+     * @param subject     Projects or appointments
+     * @param status      Status whose transitions are counted; null counts every status
+     * @param employeeId  Restrict to one employee's work; null for everyone
+     * @param from        First day of the range (inclusive)
+     * @param to          Last day of the range (inclusive)
+     * @param granularity Bucket size
+     */
+    @Transactional(readOnly = true)
+    public MetricSeriesDTO getSeries(MetricSubject subject, String status, Long employeeId,
+                                     LocalDate from, LocalDate to, MetricGranularity granularity) {
+        validateRange(from, to);
+        String normalizedStatus = normalizeStatus(subject, status);
+
+        List<MetricBucketProjection> rows = metricRollupRepository.findSeries(
+                subject.name(),
+                employeeId != null ? employeeId : MetricRollupWriter.ALL_EMPLOYEES,
+                normalizedStatus,
+                from,
+                to,
+                granularity.name().toLowerCase(Locale.ROOT));
+
+        long totalCount = rows.stream().mapToLong(MetricBucketProjection::getEventCount).sum();
+        long totalDurationSeconds = rows.stream().mapToLong(MetricBucketProjection::getDurationSecondsSum).sum();
+
+        return MetricSeriesDTO.builder()
+                .subject(subject)
+                .status(normalizedStatus)
+                .employeeId(employeeId)
+                .granularity(granularity)
+                .from(from)
+                .to(to)
+                .totalCount(totalCount)
+                .totalRevenue(rows.stream().mapToDouble(MetricBucketProjection::getRevenueSum).sum())
+                .averageHoursToStatus(averageHours(totalDurationSeconds, totalCount))
+                .buckets(rows.stream().map(this::toBucket).toList())
+                .build();
+    }
+
+    /**
+     * Recompute rollups for a date range from the current project and appointment rows.
+     * Only each record's creation and current status are recoverable, so earlier intermediate
+     * transitions inside the range are lost; intended for backfilling before rollups existed.
+     */
+    @Transactional
+    public int rebuild(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        LocalDate end = to.plusDays(1);
+        int rows = metricRollupWriter.rebuilding(from, end, () -> {
+            for (MetricSubject subject : MetricSubject.values()) {
+                metricRollupRepository.deleteRange(subject.name(), from, end);
+            }
+            return metricRollupRepository.rebuildProjectRollups(from.atStartOfDay(), end.atStartOfDay())
+                    + metricRollupRepository.rebuildAppointmentRollups(from.atStartOfDay(), end.atStartOfDay());
+        });
+        log.info("Rebuilt {} metric rollup rows for {} to {}", rows, from, to);
+        return rows;
+    }
+
+    // Private helper methods
+
+    private MetricBucketDTO toBucket(MetricBucketProjection row) {
+        return MetricBucketDTO.builder()
+                .bucketStart(row.getBucketStart())
+                .count(row.getEventCount())
+                .averageHoursToStatus(averageHours(row.getDurationSecondsSum(), row.getEventCount()))
+                .revenue(row.getRevenueSum())
+                .build();
+    }
+
+    private static Double averageHours(long durationSeconds, long count) {
+        return count == 0 ? null : durationSeconds / 3600.0 / count;
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Both from and to dates are required");
+        }
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("The to date must not be before the from date");
+        }
+        if (ChronoUnit.DAYS.between(from, to) > maxRangeDays) {
+            throw new IllegalArgumentException("Date range must not exceed " + maxRangeDays + " days");
+        }
+    }
+
+    private static String normalizeStatus(MetricSubject subject, String status) {
+        if (status == null || status.isBlank()) {
+            return null;
+        }
+        String upper = status.trim().toUpperCase(Locale.ROOT);
+        try {
+            return subject == MetricSubject.PROJECT
+                    ? ProjectStatus.valueOf(upper).name()
+                    : AppointmentStatus.valueOf(upper).name();
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown " + subject.name().toLowerCase(Locale.ROOT) + " status: " + status);
+        }
+    }
+}
@@ -27,7 +27,6 @@ import com.ead.gearup.model.User;
 import com.ead.gearup.model.Vehicle;
 import com.ead.gearup.repository.AppointmentRepository;
 import com.ead.gearup.repository.CustomerRepository;
-import com.ead.gearup.repository.UserRepository;
 import com.ead.gearup.repository.VehicleRepository;
 import com.ead.gearup.service.auth.CurrentUserService;
 import com.ead.gearup.util.AppointmentDTOConverter;
@@ -49,7 +48,6 @@ public class AppointmentService {
     private final AppointmentDTOConverter converter;
     private final AppointmentRepository appointmentRepository;
     private final NotificationPublisher notificationPublisher;
-    private final UserRepository userRepository;
     private final ShopSettingsService shopSettingsService;
 
     @RequiresRole(UserRole.CUSTOMER)
@@ -379,23 +377,14 @@ public class AppointmentService {
      */
     private void notifyAdminsAboutNewAppointment(Appointment appointment) {
         try {
-            List<User> adminUsers = userRepository.findByRole(UserRole.ADMIN);
-            if (!adminUsers.isEmpty() && appointment.getCustomer() != null 
-                && appointment.getCustomer().getUser() != null) {
-                
+            if (appointment.getCustomer() != null && appointment.getCustomer().getUser() != null) {
                 String customerName = appointment.getCustomer().getUser().getName();
                 String appointmentDate = appointment.getDate().toString();
                 String title = "New Appointment Request";
                 String message = "Customer " + customerName + " created an appointment for " + appointmentDate;
                 
-                for (User admin : adminUsers) {
-                    notificationPublisher.publishAppointmentNotification(
-                        admin.getUserId().toString(),
-                        title,
-                        message
-                    );
-                }
-                log.info("Notified {} admin(s) about new appointment request", adminUsers.size());
+                notificationPublisher.publishRoleNotification(UserRole.ADMIN, title, message, "APPOINTMENT");
+                log.info("Published new appointment request notification to admins");
             }
         } catch (Exception e) {
             log.error("Failed to send new appointment notifications to admins", e);
@@ -467,27 +456,15 @@ public class AppointmentService {
             }
 
             // Notify all admins
-            List<User> adminUsers = userRepository.findByRole(UserRole.ADMIN);
-            log.info("Found {} admin(s) to notify", adminUsers.size());
+            String customerName = appointment.getCustomer() != null 
+                && appointment.getCustomer().getUser() != null 
+                ? appointment.getCustomer().getUser().getName() 
+                : "Customer";
+            String adminTitle = "Appointment Completed";
+            String adminMessage = "Appointment with " + customerName + " on " + appointment.getDate().toString() + " has been completed";
             
-            if (!adminUsers.isEmpty()) {
-                String customerName = appointment.getCustomer() != null 
-                    && appointment.getCustomer().getUser() != null 
-                    ? appointment.getCustomer().getUser().getName() 
-                    : "Customer";
-                String title = "Appointment Completed";
-                String message = "Appointment with " + customerName + " on " + appointment.getDate().toString() + " has been completed";
-                
-                for (User admin : adminUsers) {
-                    log.info("Sending completion notification to admin user ID: {}", admin.getUserId());
-                    notificationPublisher.publishAppointmentNotification(
-                        admin.getUserId().toString(),
-                        title,
-                        message
-                    );
-                }
-                log.info("Notified {} admin(s) about appointment completion", adminUsers.size());
-            }
+            notificationPublisher.publishRoleNotification(UserRole.ADMIN, adminTitle, adminMessage, "APPOINTMENT");
+            log.info("Published appointment completion notification to admins");
         } catch (Exception e) {
             log.error("Failed to send appointment completion notifications", e);
         }
@@ -0,0 +1,155 @@
+package com.ead.gearup.service;
+
+import com.ead.gearup.model.ChatHistory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Writes chat history off the request path.
+ * Rows are queued in a bounded buffer and inserted as one JDBC batch on a dedicated thread, either
+ * every flush interval or as soon as a full batch is waiting. The insert bypasses JPA: with IDENTITY
+ * ids Hibernate would issue one INSERT per row. When the buffer is full new
+ * rows are dropped and counted rather than blocking the chat response.
+ */
+@Service
+@Slf4j
+public class ChatHistoryWriter {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO chat_history (session_id, question, answer, user_id, from_cache,
+                                      processing_time_ms, confidence_score, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final BlockingQueue<ChatHistory> queue;
+    private final ScheduledExecutorService executor;
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+
+    private final Counter written;
+    private final Counter dropped;
+    private final Counter failed;
+
+    public ChatHistoryWriter(
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${chatbot.history.batch-size:100}") int batchSize,
+            @Value("${chatbot.history.flush-interval-ms:50}") long flushIntervalMs,
+            @Value("${chatbot.history.queue-capacity:10000}") int queueCapacity) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        this.written = Counter.builder("chat.history.rows").tag("outcome", "written").register(meterRegistry);
+        this.dropped = Counter.builder("chat.history.rows").tag("outcome", "dropped").register(meterRegistry);
+        this.failed = Counter.builder("chat.history.rows").tag("outcome", "failed").register(meterRegistry);
+        Gauge.builder("chat.history.queue.size", queue, BlockingQueue::size)
+                .description("Chat history rows waiting to be written")
+                .register(meterRegistry);
+
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "chat-history-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::flushSafely, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Queue a history row for writing. Never blocks; returns false if the row was dropped.
+     */
+    public boolean enqueue(ChatHistory history) {
+        if (history.getCreatedAt() == null) {
+            // Stamp now so the row reflects when the chat happened, not when the batch ran
+            history.setCreatedAt(LocalDateTime.now());
+        }
+        if (!queue.offer(history)) {
+            dropped.increment();
+            log.warn("Chat history buffer full, dropping entry for session: {}", history.getSessionId());
+            return false;
+        }
+        if (queue.size() >= batchSize && flushScheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::flushSafely);
+            } catch (Exception e) {
+                flushScheduled.set(false);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Write everything currently buffered, one batch at a time
+     */
+    public void flush() {
+        flushScheduled.set(false);
+        List<ChatHistory> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            try {
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), ChatHistoryWriter::bind);
+                written.increment(batch.size());
+                log.debug("Saved {} chat history entries", batch.size());
+            } catch (Exception e) {
+                failed.increment(batch.size());
+                log.error("Error saving {} chat history entries", batch.size(), e);
+            }
+            batch.clear();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        // Anything still buffered is written on the shutting-down thread
+        flush();
+        log.info("Chat history writer stopped");
+    }
+
+    private static void bind(PreparedStatement statement, ChatHistory history) throws SQLException {
+        statement.setString(1, history.getSessionId());
+        statement.setString(2, history.getQuestion());
+        statement.setString(3, history.getAnswer());
+        statement.setObject(4, history.getUserId(), Types.BIGINT);
+        statement.setObject(5, history.getFromCache(), Types.BOOLEAN);
+        statement.setObject(6, history.getProcessingTimeMs(), Types.BIGINT);
+        statement.setObject(7, history.getConfidenceScore(), Types.DOUBLE);
+        statement.setTimestamp(8, Timestamp.valueOf(history.getCreatedAt()));
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("Unexpected error flushing chat history", e);
+        }
+    }
+}
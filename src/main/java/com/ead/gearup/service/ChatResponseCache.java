@@ -0,0 +1,298 @@
+package com.ead.gearup.service;
+
+import com.ead.gearup.dto.chat.ChatResponseDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Two-tier cache for chatbot answers: a bounded in-process near-cache in front of Redis.
+ * Hot answers are served from memory without a Redis round-trip or JSON deserialization.
+ * Invalidations are broadcast on a Redis channel so every instance drops its local copy.
+ * <p>
+ * Keys are scoped by namespace (e.g. knowledge-base version) and generation:
+ * {@code chat:response:<namespace>:g<generation>:<hash>}. Clearing a namespace increments
+ * its generation, so old answers become unreachable in O(1) and expire with their TTL,
+ * without scanning the keyspace.
+ */
+@Service
+@Slf4j
+public class ChatResponseCache implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "chat:cache:invalidate";
+    private static final String KEY_PREFIX = "chat:response:";
+    private static final String GENERATION_KEY_PREFIX = "chat:cache:generation:";
+    private static final String NAMESPACE_MESSAGE_PREFIX = "namespace:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final String defaultNamespace;
+    private final Duration generationRefresh;
+    private final boolean localEnabled;
+    private final int localMaxEntries;
+    private final Duration localTtl;
+
+    // Access-ordered so the eldest entry is the least recently used one
+    private final LinkedHashMap<String, LocalEntry> localEntries = new LinkedHashMap<>(16, 0.75f, true);
+
+    // Last generation seen per namespace; re-read periodically in case a broadcast was missed
+    private final Map<String, Generation> generations = new ConcurrentHashMap<>();
+
+    private final Counter localHits;
+    private final Counter localMisses;
+    private final Counter redisHits;
+    private final Counter redisMisses;
+    private final Timer localLatency;
+    private final Timer redisLatency;
+
+    public ChatResponseCache(
+            RedisTemplate<String, Object> redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${chatbot.cache.local.enabled:true}") boolean localEnabled,
+            @Value("${chatbot.cache.local.max-entries:1000}") int localMaxEntries,
+            @Value("${chatbot.cache.local.ttl-seconds:300}") long localTtlSeconds,
+            @Value("${chatbot.cache.namespace:default}") String defaultNamespace,
+            @Value("${chatbot.cache.generation-refresh-seconds:30}") long generationRefreshSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.defaultNamespace = defaultNamespace;
+        this.generationRefresh = Duration.ofSeconds(generationRefreshSeconds);
+        this.localEnabled = localEnabled;
+        this.localMaxEntries = localMaxEntries;
+        this.localTtl = Duration.ofSeconds(localTtlSeconds);
+
+        this.localHits = lookupCounter(meterRegistry, "local", "hit");
+        this.localMisses = lookupCounter(meterRegistry, "local", "miss");
+        this.redisHits = lookupCounter(meterRegistry, "redis", "hit");
+        this.redisMisses = lookupCounter(meterRegistry, "redis", "miss");
+        this.localLatency = lookupTimer(meterRegistry, "local");
+        this.redisLatency = lookupTimer(meterRegistry, "redis");
+        Gauge.builder("chat.cache.local.entries", this, ChatResponseCache::localSize)
+                .description("Answers currently held in the local chat near-cache")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Look up an answer, trying the local tier before Redis.
+     * Returns a copy so callers can adjust session fields without touching the cached instance.
+     */
+    public ChatResponseDTO get(String cacheKey) {
+        ChatResponseDTO local = localEnabled ? localLatency.record(() -> getLocal(cacheKey)) : null;
+        if (local != null) {
+            localHits.increment();
+            return local.toBuilder().build();
+        }
+        if (localEnabled) {
+            localMisses.increment();
+        }
+
+        ChatResponseDTO remote = redisLatency.record(() -> getRemote(cacheKey));
+        if (remote == null) {
+            redisMisses.increment();
+            return null;
+        }
+        redisHits.increment();
+        putLocal(cacheKey, remote);
+        return remote.toBuilder().build();
+    }
+
+    /**
+     * Store an answer in both tiers
+     */
+    public void put(String cacheKey, ChatResponseDTO response, Duration ttl) {
+        try {
+            redisTemplate.opsForValue().set(cacheKey, response, ttl);
+            log.debug("Cached response for key: {}", cacheKey);
+        } catch (Exception e) {
+            log.error("Error caching response", e);
+        }
+        putLocal(cacheKey, response.toBuilder().build());
+    }
+
+    /**
+     * Remove an answer from Redis and from every instance's local tier
+     */
+    public void evict(String cacheKey) {
+        try {
+            redisTemplate.delete(cacheKey);
+        } catch (Exception e) {
+            log.error("Error evicting cached response", e);
+        }
+        evictLocal(cacheKey);
+        broadcast(cacheKey);
+    }
+
+    /**
+     * Key prefix for answers in the default namespace at its current generation
+     */
+    public String currentKeyPrefix() {
+        return currentKeyPrefix(defaultNamespace);
+    }
+
+    /**
+     * Key prefix for answers in the given namespace at its current generation
+     */
+    public String currentKeyPrefix(String namespace) {
+        return KEY_PREFIX + namespace + ":g" + currentGeneration(namespace) + ":";
+    }
+
+    public String getDefaultNamespace() {
+        return defaultNamespace;
+    }
+
+    /**
+     * Logically clear every answer in a namespace by moving it to a new generation.
+     * Old keys are left to expire through their TTL instead of being scanned and deleted.
+     */
+    public void invalidateNamespace(String namespace) {
+        try {
+            Long generation = redisTemplate.opsForValue().increment(GENERATION_KEY_PREFIX + namespace);
+            if (generation != null) {
+                generations.put(namespace, new Generation(generation, System.nanoTime()));
+            }
+        } catch (Exception e) {
+            log.error("Error advancing chat cache generation for namespace {}", namespace, e);
+        }
+        evictLocalNamespace(namespace);
+        broadcast(NAMESPACE_MESSAGE_PREFIX + namespace);
+    }
+
+    /**
+     * Invalidation broadcast from another instance (or this one)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Object payload = redisTemplate.getValueSerializer().deserialize(message.getBody());
+        if (!(payload instanceof String text)) {
+            return;
+        }
+        if (text.startsWith(NAMESPACE_MESSAGE_PREFIX)) {
+            String namespace = text.substring(NAMESPACE_MESSAGE_PREFIX.length());
+            // Force the next lookup to read the new generation
+            generations.remove(namespace);
+            evictLocalNamespace(namespace);
+        } else {
+            evictLocal(text);
+        }
+    }
+
+    public int localSize() {
+        synchronized (localEntries) {
+            return localEntries.size();
+        }
+    }
+
+    // Private helper methods
+
+    private ChatResponseDTO getLocal(String cacheKey) {
+        synchronized (localEntries) {
+            LocalEntry entry = localEntries.get(cacheKey);
+            if (entry == null) {
+                return null;
+            }
+            if (System.nanoTime() - entry.storedAtNanos() > localTtl.toNanos()) {
+                localEntries.remove(cacheKey);
+                return null;
+            }
+            return entry.response();
+        }
+    }
+
+    private ChatResponseDTO getRemote(String cacheKey) {
+        try {
+            return (ChatResponseDTO) redisTemplate.opsForValue().get(cacheKey);
+        } catch (Exception e) {
+            log.error("Error retrieving from cache", e);
+            return null;
+        }
+    }
+
+    private void putLocal(String cacheKey, ChatResponseDTO response) {
+        if (!localEnabled) {
+            return;
+        }
+        synchronized (localEntries) {
+            localEntries.put(cacheKey, new LocalEntry(response, System.nanoTime()));
+            Iterator<Map.Entry<String, LocalEntry>> iterator = localEntries.entrySet().iterator();
+            while (localEntries.size() > localMaxEntries && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+    }
+
+    private void evictLocal(String cacheKey) {
+        synchronized (localEntries) {
+            localEntries.remove(cacheKey);
+        }
+    }
+
+    private void evictLocalNamespace(String namespace) {
+        String namespacePrefix = KEY_PREFIX + namespace + ":";
+        synchronized (localEntries) {
+            localEntries.keySet().removeIf(key -> key.startsWith(namespacePrefix));
+        }
+    }
+
+    private long currentGeneration(String namespace) {
+        Generation cached = generations.get(namespace);
+        if (cached != null && System.nanoTime() - cached.loadedAtNanos() < generationRefresh.toNanos()) {
+            return cached.value();
+        }
+
+        long value = cached != null ? cached.value() : 0L;
+        try {
+            Object stored = redisTemplate.opsForValue().get(GENERATION_KEY_PREFIX + namespace);
+            if (stored instanceof Number number) {
+                value = number.longValue();
+            } else if (stored != null) {
+                value = Long.parseLong(stored.toString());
+            }
+        } catch (Exception e) {
+            log.error("Error reading chat cache generation for namespace {}", namespace, e);
+        }
+        generations.put(namespace, new Generation(value, System.nanoTime()));
+        return value;
+    }
+
+    private void broadcast(String payload) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, payload);
+        } catch (Exception e) {
+            log.warn("Could not broadcast chat cache invalidation: {}", e.getMessage());
+        }
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String tier, String result) {
+        return Counter.builder("chat.cache.lookups")
+                .tag("tier", tier)
+                .tag("result", result)
+                .description("Chat answer cache lookups per tier")
+                .register(meterRegistry);
+    }
+
+    private static Timer lookupTimer(MeterRegistry meterRegistry, String tier) {
+        return Timer.builder("chat.cache.lookup.latency")
+                .tag("tier", tier)
+                .description("Chat answer cache lookup latency per tier")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private record Generation(long value, long loadedAtNanos) {
+    }
+
+    private record LocalEntry(ChatResponseDTO response, long storedAtNanos) {
+    }
+}
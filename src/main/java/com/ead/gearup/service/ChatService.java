@@ -1,14 +1,19 @@
 package com.ead.gearup.service;
 
+import com.ead.gearup.dto.chat.ChatHistorySliceDTO;
+import com.ead.gearup.dto.chat.ChatHistorySummaryProjection;
 import com.ead.gearup.dto.chat.ChatRequestDTO;
 import com.ead.gearup.dto.chat.ChatResponseDTO;
 import com.ead.gearup.dto.chat.ChatStreamChunkDTO;
 import com.ead.gearup.model.ChatHistory;
 import com.ead.gearup.repository.ChatHistoryRepository;
+import com.ead.gearup.util.KeysetCursor;
 import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Flux;
@@ -21,7 +26,9 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Service for handling chat operations with RAG chatbot
@@ -32,11 +39,16 @@ import java.util.UUID;
 public class ChatService {
 
     private final WebClient chatbotWebClient;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final ChatResponseCache chatResponseCache;
     private final ChatHistoryRepository chatHistoryRepository;
+    private final ChatHistoryWriter chatHistoryWriter;
+    private final SemanticChatCache semanticChatCache;
 
-    private static final String CACHE_PREFIX = "chat:response:";
     private static final Duration CACHE_TTL = Duration.ofHours(1);
+    private static final int MAX_HISTORY_SLICE_SIZE = 100;
+
+    // Upstream calls currently running, keyed by cache key
+    private final Map<String, Mono<ChatResponseDTO>> inFlightRequests = new ConcurrentHashMap<>();
 
     /**
      * Process chat request with caching
@@ -48,8 +60,11 @@ public class ChatService {
         // Generate cache key from question
         String cacheKey = generateCacheKey(request.getQuestion());
 
-        // Check cache first
+        // Check exact cache first, then fall back to a similar previously answered question
         ChatResponseDTO cachedResponse = getCachedResponse(cacheKey);
+        if (cachedResponse == null) {
+            cachedResponse = getSimilarCachedResponse(request.getQuestion());
+        }
         if (cachedResponse != null) {
             log.info("Cache hit for question: {}", request.getQuestion());
             cachedResponse.setFromCache(true);
@@ -60,29 +75,19 @@ public class ChatService {
             return Mono.just(cachedResponse);
         }
 
-        // Call Python service with userId in header
-        return chatbotWebClient.post()
-                .uri("/chat")
-                .header("X-User-Id", userId.toString())
-                .bodyValue(request)
-                .retrieve()
-                .bodyToMono(JsonNode.class)
-                .map(jsonResponse -> {
-                    long processingTime = System.currentTimeMillis() - startTime;
-                    
+        // Identical questions already in flight share one upstream call
+        return fetchAnswer(cacheKey, request, userId)
+                .map(answer -> {
                     ChatResponseDTO response = ChatResponseDTO.builder()
-                            .answer(jsonResponse.get("answer").asText())
+                            .answer(answer.getAnswer())
                             .sessionId(sessionId)
                             .fromCache(false)
-                            .processingTimeMs(processingTime)
+                            .processingTimeMs(System.currentTimeMillis() - startTime)
                             .timestamp(Instant.now())
-                            .confidence(jsonResponse.has("confidence") ? jsonResponse.get("confidence").asDouble() : null)
-                            .sources(extractSources(jsonResponse))
+                            .confidence(answer.getConfidence())
+                            .sources(answer.getSources())
                             .build();
 
-                    // Cache the response
-                    cacheResponse(cacheKey, response);
-                    
                     // Save to history
                     saveChatHistory(request, response, userId);
 
@@ -107,8 +112,11 @@ public class ChatService {
         String sessionId = request.getSessionId() != null ? request.getSessionId() : UUID.randomUUID().toString();
         String cacheKey = generateCacheKey(request.getQuestion());
 
-        // Check cache first
+        // Check exact cache first, then fall back to a similar previously answered question
         ChatResponseDTO cachedResponse = getCachedResponse(cacheKey);
+        if (cachedResponse == null) {
+            cachedResponse = getSimilarCachedResponse(request.getQuestion());
+        }
         if (cachedResponse != null) {
             log.info("Cache hit for streaming question: {}", request.getQuestion());
             
@@ -162,21 +170,68 @@ public class ChatService {
         return chatHistoryRepository.findByUserIdOrderByCreatedAtDesc(userId);
     }
 
+    /**
+     * Get one cursor-paginated slice of a session's conversation, newest first
+     */
+    public ChatHistorySliceDTO<ChatHistory> getChatHistoryFeed(String sessionId, String cursor, int size) {
+        Pageable pageable = PageRequest.of(0, clampSliceSize(size));
+        Slice<ChatHistory> slice;
+        if (cursor == null || cursor.isBlank()) {
+            slice = chatHistoryRepository.findFirstSliceBySessionId(sessionId, pageable);
+        } else {
+            KeysetCursor position = KeysetCursor.decode(cursor, "Invalid chat history cursor");
+            slice = chatHistoryRepository.findSliceBySessionIdAfterCursor(
+                    sessionId, position.createdAt(), position.id(), pageable);
+        }
+
+        List<ChatHistory> content = slice.getContent();
+        ChatHistory last = content.isEmpty() ? null : content.get(content.size() - 1);
+        return toSlice(slice, last == null ? null : KeysetCursor.encode(last.getCreatedAt(), last.getId()));
+    }
+
+    /**
+     * Get one cursor-paginated slice of a user's history as previews, newest first
+     */
+    public ChatHistorySliceDTO<ChatHistorySummaryProjection> getUserChatHistoryFeed(Long userId, String cursor, int size) {
+        Pageable pageable = PageRequest.of(0, clampSliceSize(size));
+        Slice<ChatHistorySummaryProjection> slice;
+        if (cursor == null || cursor.isBlank()) {
+            slice = chatHistoryRepository.findFirstSummarySliceByUserId(userId, pageable);
+        } else {
+            KeysetCursor position = KeysetCursor.decode(cursor, "Invalid chat history cursor");
+            slice = chatHistoryRepository.findSummarySliceByUserIdAfterCursor(
+                    userId, position.createdAt(), position.id(), pageable);
+        }
+
+        List<ChatHistorySummaryProjection> content = slice.getContent();
+        ChatHistorySummaryProjection last = content.isEmpty() ? null : content.get(content.size() - 1);
+        return toSlice(slice, last == null ? null : KeysetCursor.encode(last.getCreatedAt(), last.getId()));
+    }
+
     /**
      * Clear cache for a specific question
      */
     public void clearCache(String question) {
         String cacheKey = generateCacheKey(question);
-        redisTemplate.delete(cacheKey);
+        chatResponseCache.evict(cacheKey);
+        semanticChatCache.remove(cacheKey);
         log.info("Cleared cache for question: {}", question);
     }
 
     /**
-     * Clear all chat cache
+     * Clear all chat cache for the current knowledge-base namespace
      */
     public void clearAllCache() {
-        redisTemplate.keys(CACHE_PREFIX + "*").forEach(redisTemplate::delete);
-        log.info("Cleared all chat cache");
+        clearNamespaceCache(chatResponseCache.getDefaultNamespace());
+    }
+
+    /**
+     * Clear all cached answers in one namespace, e.g. a knowledge-base version
+     */
+    public void clearNamespaceCache(String namespace) {
+        chatResponseCache.invalidateNamespace(namespace);
+        semanticChatCache.clear();
+        log.info("Cleared chat cache for namespace: {}", namespace);
     }
 
     // Private helper methods
@@ -185,29 +240,64 @@ public class ChatService {
         try {
             MessageDigest digest = MessageDigest.getInstance("SHA-256");
             byte[] hash = digest.digest(question.toLowerCase().trim().getBytes(StandardCharsets.UTF_8));
-            return CACHE_PREFIX + HexFormat.of().formatHex(hash);
+            return chatResponseCache.currentKeyPrefix() + HexFormat.of().formatHex(hash);
         } catch (NoSuchAlgorithmException e) {
             log.error("Error generating cache key", e);
-            return CACHE_PREFIX + question.hashCode();
+            return chatResponseCache.currentKeyPrefix() + question.hashCode();
         }
     }
 
     private ChatResponseDTO getCachedResponse(String cacheKey) {
-        try {
-            return (ChatResponseDTO) redisTemplate.opsForValue().get(cacheKey);
-        } catch (Exception e) {
-            log.error("Error retrieving from cache", e);
-            return null;
-        }
+        return chatResponseCache.get(cacheKey);
+    }
+
+    /**
+     * Ask the Python service once per cache key, sharing the result with every caller
+     * that arrives while the call is running. The answer is cached exactly once and the
+     * entry is dropped as soon as the call settles, so failures are not remembered.
+     */
+    private Mono<ChatResponseDTO> fetchAnswer(String cacheKey, ChatRequestDTO request, Long userId) {
+        return inFlightRequests.computeIfAbsent(cacheKey, key -> chatbotWebClient.post()
+                .uri("/chat")
+                .header("X-User-Id", userId.toString())
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .map(jsonResponse -> {
+                    ChatResponseDTO answer = ChatResponseDTO.builder()
+                            .answer(jsonResponse.get("answer").asText())
+                            .fromCache(false)
+                            .confidence(jsonResponse.has("confidence") ? jsonResponse.get("confidence").asDouble() : null)
+                            .sources(extractSources(jsonResponse))
+                            .build();
+
+                    // Cache the response
+                    cacheResponse(key, answer);
+                    semanticChatCache.put(request.getQuestion(), key);
+
+                    return answer;
+                })
+                // Runs before the error is replayed to subscribers, so a retry never sees the failed call
+                .doOnTerminate(() -> inFlightRequests.remove(key))
+                .cache());
+    }
+
+    private ChatResponseDTO getSimilarCachedResponse(String question) {
+        String currentPrefix = chatResponseCache.currentKeyPrefix();
+        return semanticChatCache.findSimilar(question)
+                .map(similarKey -> {
+                    ChatResponseDTO response = similarKey.startsWith(currentPrefix) ? getCachedResponse(similarKey) : null;
+                    if (response == null) {
+                        // Answer expired or belongs to an older generation, so the index entry is stale
+                        semanticChatCache.remove(similarKey);
+                    }
+                    return response;
+                })
+                .orElse(null);
     }
 
     private void cacheResponse(String cacheKey, ChatResponseDTO response) {
-        try {
-            redisTemplate.opsForValue().set(cacheKey, response, CACHE_TTL);
-            log.debug("Cached response for key: {}", cacheKey);
-        } catch (Exception e) {
-            log.error("Error caching response", e);
-        }
+        chatResponseCache.put(cacheKey, response, CACHE_TTL);
     }
 
     private void saveChatHistory(ChatRequestDTO request, ChatResponseDTO response, Long userId) {
@@ -222,13 +312,26 @@ public class ChatService {
                     .confidenceScore(response.getConfidence())
                     .build();
 
-            chatHistoryRepository.save(history);
-            log.debug("Saved chat history for session: {}", response.getSessionId());
+            // Written in batches off the request thread
+            chatHistoryWriter.enqueue(history);
         } catch (Exception e) {
-            log.error("Error saving chat history", e);
+            log.error("Error queueing chat history", e);
         }
     }
 
+    private int clampSliceSize(int size) {
+        return Math.max(1, Math.min(size, MAX_HISTORY_SLICE_SIZE));
+    }
+
+    private <T> ChatHistorySliceDTO<T> toSlice(Slice<T> slice, String lastCursor) {
+        return ChatHistorySliceDTO.<T>builder()
+                .content(slice.getContent())
+                .size(slice.getNumberOfElements())
+                .hasNext(slice.hasNext())
+                .nextCursor(slice.hasNext() ? lastCursor : null)
+                .build();
+    }
+
     private String[] extractSources(JsonNode jsonResponse) {
         if (jsonResponse.has("sources") && jsonResponse.get("sources").isArray()) {
             return jsonResponse.get("sources").findValuesAsText("source")
@@ -0,0 +1,88 @@
+package com.ead.gearup.service;
+
+import com.ead.gearup.dto.chatbot.ChatbotServiceRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Non-blocking SSE proxy to the Python RAG service's streaming endpoint.
+ * Chunks are relayed as they arrive; the servlet container pulls them one at a time,
+ * so a slow client slows the upstream read instead of buffering the whole answer.
+ */
+@Service
+@Slf4j
+public class ChatbotStreamProxyService {
+
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> SSE_TYPE =
+            new ParameterizedTypeReference<>() {};
+
+    private final WebClient webClient;
+    private final Duration idleTimeout;
+    private final Duration maxDuration;
+
+    public ChatbotStreamProxyService(
+            @Qualifier("chatbotStreamWebClient") WebClient chatbotStreamWebClient,
+            @Value("${chatbot.stream.idle-timeout-seconds:30}") long idleTimeoutSeconds,
+            @Value("${chatbot.stream.max-duration-seconds:180}") long maxDurationSeconds) {
+        this.webClient = chatbotStreamWebClient;
+        this.idleTimeout = Duration.ofSeconds(idleTimeoutSeconds);
+        this.maxDuration = Duration.ofSeconds(maxDurationSeconds);
+    }
+
+    /**
+     * Stream a chat answer from the RAG service.
+     * The returned Flux always completes normally: upstream failures and timeouts
+     * are reported to the client as a final "error" event, and an answer cut off by the
+     * maximum stream duration ends with a "truncated" event.
+     *
+     * @param request Chat request already enriched with the authenticated customer context
+     * @return Server-sent events relayed from the RAG service
+     */
+    public Flux<ServerSentEvent<String>> stream(ChatbotServiceRequest request) {
+        return Flux.defer(() -> {
+            long startTime = System.currentTimeMillis();
+            AtomicBoolean truncated = new AtomicBoolean();
+
+            return webClient.post()
+                    .uri("/chat/stream")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.TEXT_EVENT_STREAM)
+                    .bodyValue(request)
+                    .retrieve()
+                    .bodyToFlux(SSE_TYPE)
+                    .filter(event -> event.data() != null || event.event() != null)
+                    .timeout(idleTimeout)
+                    .takeUntilOther(Mono.delay(maxDuration).doOnNext(tick -> truncated.set(true)))
+                    .doOnComplete(() -> log.info("Chat stream for session {} {} after {}ms", request.getSessionId(),
+                            truncated.get() ? "truncated" : "completed", System.currentTimeMillis() - startTime))
+                    .concatWith(Mono.fromSupplier(() -> truncated.get()
+                            ? ServerSentEvent.<String>builder()
+                                    .event("truncated")
+                                    .data("The answer was cut short because it took too long to generate.")
+                                    .build()
+                            : null))
+                    .onErrorResume(error -> {
+                        log.error("Chat stream for session {} failed: {}", request.getSessionId(), error.getMessage());
+                        String message = error instanceof TimeoutException
+                                ? "The chatbot took too long to respond. Please try again."
+                                : "I'm sorry, I'm having trouble processing your request right now.";
+                        return Flux.just(ServerSentEvent.<String>builder()
+                                .event("error")
+                                .data(message)
+                                .build());
+                    });
+        });
+    }
+}
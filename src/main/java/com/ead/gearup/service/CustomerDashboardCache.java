@@ -0,0 +1,136 @@
+package com.ead.gearup.service;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.ead.gearup.dto.customer.CustomerActivityProjection;
+import com.ead.gearup.dto.customer.CustomerDashboardSummaryProjection;
+import com.ead.gearup.dto.customer.CustomerVehicleServiceProjection;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Bounded per-customer cache of the customer dashboard read model.
+ * Entries are dropped when a committed write touches the customer's appointments, vehicles,
+ * projects, project updates or notifications; the TTL bounds staleness for writes made by
+ * other instances. Relative times are formatted on read, so cached entries never show stale ages.
+ */
+@Service
+public class CustomerDashboardCache {
+
+    private final int maxEntries;
+    private final Duration ttl;
+
+    // Access-ordered so the eldest entry is the least recently used one
+    private final LinkedHashMap<Long, Stored> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    // Bumped by every invalidation; a load that raced with one is not stored
+    private long version;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public CustomerDashboardCache(
+            MeterRegistry meterRegistry,
+            @Value("${customer.dashboard.cache.max-entries:10000}") int maxEntries,
+            @Value("${customer.dashboard.cache.ttl-seconds:60}") long ttlSeconds) {
+        this.maxEntries = maxEntries;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.hits = Counter.builder("customer.dashboard.cache").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("customer.dashboard.cache").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("customer.dashboard.cache.entries", this, CustomerDashboardCache::size)
+                .description("Customer dashboards currently cached")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Cached read model of a customer, or null if absent or expired
+     */
+    public Entry get(Long customerId) {
+        synchronized (entries) {
+            Stored stored = entries.get(customerId);
+            if (stored == null || System.nanoTime() - stored.storedAtNanos() > ttl.toNanos()) {
+                if (stored != null) {
+                    entries.remove(customerId);
+                }
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return stored.entry();
+        }
+    }
+
+    /**
+     * Version to pass to {@link #put} for a read model about to be loaded
+     */
+    public long version() {
+        synchronized (entries) {
+            return version;
+        }
+    }
+
+    /**
+     * Store a read model unless an invalidation happened since {@code loadedAtVersion} was taken
+     */
+    public void put(Long customerId, Entry entry, long loadedAtVersion) {
+        synchronized (entries) {
+            if (loadedAtVersion != version) {
+                return;
+            }
+            entries.put(customerId, new Stored(entry, System.nanoTime()));
+            Iterator<Map.Entry<Long, Stored>> iterator = entries.entrySet().iterator();
+            while (entries.size() > maxEntries && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+    }
+
+    public void invalidate(Long customerId) {
+        synchronized (entries) {
+            version++;
+            entries.remove(customerId);
+        }
+    }
+
+    /**
+     * Drop the dashboard of the customer linked to a user account (e.g. on a new notification)
+     */
+    public void invalidateUser(Long userId) {
+        synchronized (entries) {
+            version++;
+            entries.values().removeIf(stored -> Objects.equals(stored.entry().summary().getUserId(), userId));
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            version++;
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public record Entry(CustomerDashboardSummaryProjection summary,
+                        List<CustomerActivityProjection> activities,
+                        List<CustomerVehicleServiceProjection> vehicles) {
+    }
+
+    private record Stored(Entry entry, long storedAtNanos) {
+    }
+}
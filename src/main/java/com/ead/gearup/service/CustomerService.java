@@ -10,6 +10,9 @@ import com.ead.gearup.dto.customer.CustomerDashboardDTO;
 import com.ead.gearup.dto.customer.CustomerProfileDTO;
 import com.ead.gearup.dto.customer.CustomerSummaryDTO;
 import com.ead.gearup.dto.customer.CustomerActivityDTO;
+import com.ead.gearup.dto.customer.CustomerActivityProjection;
+import com.ead.gearup.dto.customer.CustomerDashboardSummaryProjection;
+import com.ead.gearup.dto.customer.CustomerVehicleServiceProjection;
 import com.ead.gearup.enums.AppointmentStatus;
 import com.ead.gearup.dto.response.UserResponseDTO;
 import com.ead.gearup.exception.CustomerNotFoundException;
@@ -22,7 +25,6 @@ import com.ead.gearup.repository.CustomerRepository;
 import com.ead.gearup.repository.UserRepository;
 import com.ead.gearup.service.auth.CurrentUserService;
 import com.ead.gearup.util.CustomerMapper;
-import com.ead.gearup.model.Appointment;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -32,7 +34,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.Comparator;
+import java.time.Period;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -41,11 +43,15 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class CustomerService {
 
+    private static final int RECENT_ACTIVITY_LIMIT = 5;
+    private static final Period SERVICE_INTERVAL = Period.ofMonths(6);
+
     private final CustomerRepository customerRepository;
     private final UserRepository userRepository;
     private final CustomerMapper customerMapper;
     private final CurrentUserService currentUserService;
     private final EmailService emailService;
+    private final CustomerDashboardCache customerDashboardCache;
 
     public List<CustomerResponseDTO> getAll() {
         return customerRepository.findAll().stream()
@@ -199,87 +205,47 @@ public class CustomerService {
     // Customer Dashboard
     @Transactional(readOnly = true)
     public CustomerDashboardDTO getDashboard(Long id) {
-        Customer customer = customerRepository.findById(id)
-                .orElseThrow(() -> new CustomerNotFoundException("Customer not found with id: " + id));
+        CustomerDashboardCache.Entry entry = customerDashboardCache.get(id);
+        if (entry == null) {
+            entry = loadDashboard(id);
+        }
+        CustomerDashboardSummaryProjection summary = entry.summary();
 
-        // --- Profile ---
         CustomerProfileDTO profile = CustomerProfileDTO.builder()
-                .name(customer.getUser().getName())
-                .email(customer.getUser().getEmail())
-                .profileImage(customer.getProfileImage())
+                .name(summary.getName())
+                .email(summary.getEmail())
+                .profileImage(summary.getProfileImage())
                 .build();
 
-        LocalDate today = LocalDate.now();
-
-        // --- Summary counts ---
-        long upcomingAppointmentsCount = customer.getAppointments().stream()
-                .map(Appointment::getDate)
-                .filter(d -> d.isAfter(today))
-                .count();
-
-        String nextAppointmentDate = customer.getAppointments().stream()
-                .map(Appointment::getDate)
-                .filter(d -> d.isAfter(today))
-                .min(Comparator.naturalOrder())
-                .map(LocalDate::toString)
-                .orElse("No upcoming appointments");
-
-        long ongoingProjectsCount = customer.getAppointments().stream()
-                .filter(a -> a.getStatus() == AppointmentStatus.PENDING) // or IN_PROGRESS depending on your enum
-                .count();
-
-        String ongoingProjectStatus = ongoingProjectsCount > 0 ? "In Progress" : "None";
-
-        long completedServicesCount = customer.getAppointments().stream()
-                .filter(a -> a.getStatus() == AppointmentStatus.COMPLETED)
-                .count();
-
-        long pendingRequestsCount = customer.getAppointments().stream()
-                .filter(a -> a.getStatus() == AppointmentStatus.PENDING)
-                .count();
-
-        CustomerSummaryDTO summary = CustomerSummaryDTO.builder()
-                .upcomingAppointmentsCount(upcomingAppointmentsCount)
-                .nextAppointmentDate(nextAppointmentDate)
-                .ongoingProjectsCount(ongoingProjectsCount)
-                .ongoingProjectStatus(ongoingProjectStatus)
-                .completedServicesCount(completedServicesCount)
-                .pendingRequestsCount(pendingRequestsCount)
+        CustomerSummaryDTO summaryDto = CustomerSummaryDTO.builder()
+                .upcomingAppointmentsCount(summary.getUpcomingAppointmentsCount())
+                .nextAppointmentDate(summary.getNextAppointmentDate() != null
+                        ? summary.getNextAppointmentDate().toString()
+                        : "No upcoming appointments")
+                .ongoingProjectsCount(summary.getOngoingProjectsCount())
+                .ongoingProjectStatus(summary.getOngoingProjectsCount() > 0 ? "In Progress" : "None")
+                .completedServicesCount(summary.getCompletedServicesCount())
+                .pendingRequestsCount(summary.getPendingRequestsCount())
                 .build();
 
-        // --- Recent Activities (mock for now) ---
-        List<CustomerActivityDTO> activities = List.of(
-                CustomerActivityDTO.builder()
-                        .id(1L)
-                        .action("Appointment Booked")
-                        .description("Service appointment for Toyota Axio confirmed.")
-                        .time(formatTimeAgo(LocalDateTime.now().minusHours(4)))
-                        .icon("calendar")
-                        .build(),
-                CustomerActivityDTO.builder()
-                        .id(2L)
-                        .action("Payment Completed")
-                        .description("Payment for last service has been processed.")
-                        .time(formatTimeAgo(LocalDateTime.now().minusDays(2)))
-                        .icon("credit-card")
-                        .build());
-
-        // --- Vehicles list ---
-        List<CustomerVehicleDTO> vehicles = customer.getVehicles().stream()
+        List<CustomerActivityDTO> activities = entry.activities().stream()
+                .map(this::toActivityDto)
+                .collect(Collectors.toList());
+
+        List<CustomerVehicleDTO> vehicles = entry.vehicles().stream()
                 .map(v -> CustomerVehicleDTO.builder()
-                        .id(v.getVehicleId())
+                        .id(v.getId())
                         .make(v.getMake())
                         .model(v.getModel())
-                        .year(v.getYear())
+                        .year(v.getYear() != null ? v.getYear() : 0)
                         .licensePlate(v.getLicensePlate())
-                        .nextService("2025-11-10") // mock for now
+                        .nextService(nextService(v))
                         .build())
                 .collect(Collectors.toList());
 
-        // --- Combine all ---
         return CustomerDashboardDTO.builder()
                 .profile(profile)
-                .summary(summary)
+                .summary(summaryDto)
                 .recentActivities(activities)
                 .vehicles(vehicles)
                 .build();
@@ -345,4 +311,61 @@ public class CustomerService {
         userRepository.save(user);
     }
 
+    // Three queries: profile with counts, merged recent activity, vehicles with service dates
+    private CustomerDashboardCache.Entry loadDashboard(Long id) {
+        long version = customerDashboardCache.version();
+        LocalDate today = LocalDate.now();
+        CustomerDashboardSummaryProjection summary = customerRepository.findDashboardSummary(id, today)
+                .orElseThrow(() -> new CustomerNotFoundException("Customer not found with id: " + id));
+        CustomerDashboardCache.Entry entry = new CustomerDashboardCache.Entry(
+                summary,
+                customerRepository.findRecentActivity(id, String.valueOf(summary.getUserId()), RECENT_ACTIVITY_LIMIT),
+                customerRepository.findVehicleServiceDates(id, today));
+        customerDashboardCache.put(id, entry, version);
+        return entry;
+    }
+
+    private CustomerActivityDTO toActivityDto(CustomerActivityProjection activity) {
+        CustomerActivityDTO.CustomerActivityDTOBuilder builder = CustomerActivityDTO.builder()
+                .id(activity.getId())
+                .time(formatTimeAgo(activity.getOccurredAt()));
+        return switch (activity.getKind()) {
+            case "PROJECT_UPDATE" -> builder
+                    .action("Project Update: " + activity.getTitle())
+                    .description(activity.getDescription())
+                    .icon("wrench")
+                    .build();
+            case "APPOINTMENT" -> builder
+                    .action(appointmentAction(activity.getTitle()))
+                    .description("Service appointment for " + activity.getDescription())
+                    .icon("calendar")
+                    .build();
+            default -> builder
+                    .action(activity.getTitle())
+                    .description(activity.getDescription())
+                    .icon("bell")
+                    .build();
+        };
+    }
+
+    private static String appointmentAction(String status) {
+        return switch (AppointmentStatus.valueOf(status)) {
+            case PENDING -> "Appointment Booked";
+            case CONFIRMED -> "Appointment Confirmed";
+            case IN_PROGRESS -> "Service In Progress";
+            case COMPLETED -> "Service Completed";
+            case CANCELED -> "Appointment Cancelled";
+        };
+    }
+
+    // Next booked appointment, otherwise one service interval after the last completed one (may be overdue)
+    private static String nextService(CustomerVehicleServiceProjection vehicle) {
+        if (vehicle.getNextScheduledDate() != null) {
+            return vehicle.getNextScheduledDate().toString();
+        }
+        if (vehicle.getLastServiceDate() != null) {
+            return vehicle.getLastServiceDate().plus(SERVICE_INTERVAL).toString();
+        }
+        return "Not scheduled";
+    }
 }
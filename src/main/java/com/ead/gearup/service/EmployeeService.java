@@ -5,6 +5,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.ead.gearup.dto.employee.CreateEmployeeDTO;
+import com.ead.gearup.dto.employee.EmployeeDependencyProjection;
+import com.ead.gearup.dto.employee.EmployeeDependencyReportDTO;
 import com.ead.gearup.dto.employee.EmployeeResponseDTO;
 import com.ead.gearup.dto.employee.EmployeeSearchResponseDTO;
 import com.ead.gearup.dto.employee.UpdateEmployeeDTO;
@@ -15,7 +17,6 @@ import com.ead.gearup.exception.UnauthorizedCustomerAccessException;
 import com.ead.gearup.exception.UserNotFoundException;
 import com.ead.gearup.model.Employee;
 import com.ead.gearup.model.User;
-import com.ead.gearup.repository.AppointmentRepository;
 import com.ead.gearup.repository.EmployeeRepository;
 import com.ead.gearup.repository.UserRepository;
 import com.ead.gearup.service.auth.CurrentUserService;
@@ -24,9 +25,8 @@ import com.ead.gearup.validation.RequiresRole;
 
 import lombok.RequiredArgsConstructor;
 
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -36,9 +36,6 @@ public class EmployeeService {
     @Autowired
     private EmployeeRepository employeeRepository;
 
-    @Autowired
-    private AppointmentRepository appointmentRepository;
-
     @Autowired
     private EmployeeDTOConverter converter;
 
@@ -105,33 +102,41 @@ public class EmployeeService {
         return converter.convertToResponseDto(savedEmployee);
     }
 
-    public Map<String, Object> checkEmployeeDependencies(Long employeeId) {
+    /**
+     * Impact report of deleting an employee: every row that references the employee, counted
+     * in one statement. Deleting is only allowed when nothing references the employee.
+     */
+    public EmployeeDependencyReportDTO checkEmployeeDependencies(Long employeeId) {
         if (employeeId == null || employeeId <= 0) {
             throw new IllegalArgumentException("Invalid employee ID");
         }
 
-        // Verify employee exists
-        employeeRepository.findById(employeeId)
+        EmployeeDependencyProjection counts = employeeRepository.findDependencyCounts(employeeId)
                 .orElseThrow(() -> new EmployeeNotFoundException("Employee not found with id: " + employeeId));
 
-        Map<String, Object> dependencies = new HashMap<>();
-
-        // Check appointments assigned to this employee
-        long appointmentCount = appointmentRepository.findAll().stream()
-                .filter(apt -> apt.getEmployee() != null && apt.getEmployee().getEmployeeId().equals(employeeId))
-                .count();
-
-        dependencies.put("appointmentCount", appointmentCount);
-        dependencies.put("hasAppointments", appointmentCount > 0);
-        dependencies.put("canDelete", appointmentCount == 0);
-
-        if (appointmentCount > 0) {
-            dependencies.put("warningMessage",
-                "This employee is assigned to " + appointmentCount + " appointment(s). " +
-                "Please reassign or complete these appointments before deleting the employee.");
-        }
-
-        return dependencies;
+        List<String> references = new ArrayList<>();
+        addReference(references, counts.getAppointmentCount(), "appointment(s)");
+        addReference(references, counts.getTaskCount(), "task(s)");
+        addReference(references, counts.getProjectCount(), "project(s)");
+        addReference(references, counts.getTimeLogCount(), "time log(s)");
+        addReference(references, counts.getProjectUpdateCount(), "project update(s)");
+
+        return EmployeeDependencyReportDTO.builder()
+                .employeeId(employeeId)
+                .appointmentCount(counts.getAppointmentCount())
+                .openAppointmentCount(counts.getOpenAppointmentCount())
+                .taskCount(counts.getTaskCount())
+                .openTaskCount(counts.getOpenTaskCount())
+                .projectCount(counts.getProjectCount())
+                .openProjectCount(counts.getOpenProjectCount())
+                .timeLogCount(counts.getTimeLogCount())
+                .projectUpdateCount(counts.getProjectUpdateCount())
+                .hasAppointments(counts.getAppointmentCount() > 0)
+                .canDelete(references.isEmpty())
+                .warningMessage(references.isEmpty() ? null
+                        : "This employee is referenced by " + String.join(", ", references) + ". "
+                                + "Please reassign or complete this work before deleting the employee.")
+                .build();
     }
 
     @Transactional
@@ -144,12 +149,11 @@ public class EmployeeService {
                 .orElseThrow(() -> new EmployeeNotFoundException("Employee not found with id: " + employeeId));
 
         // Check dependencies before deletion
-        Map<String, Object> dependencies = checkEmployeeDependencies(employeeId);
-        boolean canDelete = (boolean) dependencies.get("canDelete");
+        EmployeeDependencyReportDTO dependencies = checkEmployeeDependencies(employeeId);
 
-        if (!canDelete) {
+        if (!dependencies.isCanDelete()) {
             throw new IllegalStateException(
-                "Cannot delete employee. " + dependencies.get("warningMessage"));
+                "Cannot delete employee. " + dependencies.getWarningMessage());
         }
 
         // Handle linked User
@@ -182,4 +186,10 @@ public class EmployeeService {
                         p.getHireDate()))
                 .collect(Collectors.toList());
     }
+
+    private static void addReference(List<String> references, long count, String label) {
+        if (count > 0) {
+            references.add(count + " " + label);
+        }
+    }
 }
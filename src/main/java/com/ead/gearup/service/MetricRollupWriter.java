@@ -0,0 +1,144 @@
+package com.ead.gearup.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ead.gearup.enums.MetricSubject;
+import com.ead.gearup.repository.MetricRollupRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Maintains the daily metric rollups from committed status transitions.
+ * Transitions are coalesced in memory per rollup row and upserted on a short schedule, so a
+ * burst of changes costs one statement per touched row rather than one per change. A failed
+ * flush puts its deltas back to be retried on the next run.
+ */
+@Service
+@Slf4j
+public class MetricRollupWriter {
+
+    // Employee id of the rollup rows that total every employee
+    public static final long ALL_EMPLOYEES = 0L;
+
+    private final MetricRollupRepository metricRollupRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // Guarded by this; keys are bounded by days x statuses x employees touched between flushes
+    private Map<Key, Delta> pending = new HashMap<>();
+    // Held by a flush in progress and for the duration of a rebuild
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public MetricRollupWriter(MetricRollupRepository metricRollupRepository,
+                              PlatformTransactionManager transactionManager) {
+        this.metricRollupRepository = metricRollupRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Record that a project or appointment entered a status
+     *
+     * @param employeeId Responsible employee, or null if none is assigned
+     * @param createdAt  When the record was created, for time-to-status durations
+     * @param revenue    Revenue recognised by this transition (0 if none)
+     */
+    public void recordTransition(MetricSubject subject, String status, LocalDateTime at,
+                                 Long employeeId, LocalDateTime createdAt, double revenue) {
+        LocalDateTime when = at != null ? at : LocalDateTime.now();
+        long durationSeconds = createdAt != null ? Math.max(0, Duration.between(createdAt, when).toSeconds()) : 0;
+        LocalDate day = when.toLocalDate();
+
+        synchronized (this) {
+            add(new Key(day, subject.name(), status, ALL_EMPLOYEES), 1, durationSeconds, revenue);
+            if (employeeId != null) {
+                add(new Key(day, subject.name(), status, employeeId), 1, durationSeconds, revenue);
+            }
+        }
+    }
+
+    /**
+     * Upsert all coalesced deltas in one transaction
+     */
+    @Scheduled(fixedDelayString = "${analytics.rollup.flush-interval-ms:2000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Run a rebuild of the rollups for [from, toExclusive) with flushes held off. Deltas pending
+     * for those days come from already committed transitions that the rebuild reads back from
+     * the rows, so they are dropped rather than added on top.
+     */
+    public <T> T rebuilding(LocalDate from, LocalDate toExclusive, Supplier<T> rebuild) {
+        flushLock.lock();
+        try {
+            synchronized (this) {
+                pending.keySet().removeIf(key -> !key.day().isBefore(from) && key.day().isBefore(toExclusive));
+            }
+            return rebuild.get();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    // Called with flushLock held
+    private void flushPending() {
+        Map<Key, Delta> batch;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = pending;
+            pending = new HashMap<>();
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> batch.forEach((key, delta) ->
+                    metricRollupRepository.addToRollup(key.day(), key.subject(), key.status(), key.employeeId(),
+                            delta.count, delta.durationSeconds, delta.revenue)));
+            log.debug("Flushed {} metric rollup rows", batch.size());
+        } catch (RuntimeException e) {
+            log.warn("Could not flush {} metric rollup rows, retrying later: {}", batch.size(), e.getMessage());
+            synchronized (this) {
+                batch.forEach((key, delta) -> add(key, delta.count, delta.durationSeconds, delta.revenue));
+            }
+        }
+    }
+
+    // Called with this locked
+    private void add(Key key, long count, long durationSeconds, double revenue) {
+        Delta delta = pending.computeIfAbsent(key, k -> new Delta());
+        delta.count += count;
+        delta.durationSeconds += durationSeconds;
+        delta.revenue += revenue;
+    }
+
+    private record Key(LocalDate day, String subject, String status, long employeeId) {
+    }
+
+    private static final class Delta {
+        private long count;
+        private long durationSeconds;
+        private double revenue;
+    }
+}
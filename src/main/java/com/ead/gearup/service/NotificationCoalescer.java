@@ -0,0 +1,236 @@
+package com.ead.gearup.service;
+
+import com.ead.gearup.dto.notification.CreateNotificationDTO;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Coalesces high-frequency notification events per (user, type). The first event of a burst is
+ * delivered immediately and opens a window; follow-ups arriving within the window are buffered
+ * and delivered as one digest when it closes, optionally capped per user per minute. Each window
+ * keeps a bounded number of follow-ups and counts the rest as "+N more" in the digest. Sits between
+ * the event listener and NotificationService so bursts cost one DB write and one SSE push per window.
+ */
+@Slf4j
+@Service
+public class NotificationCoalescer {
+
+    private static final int MAX_TITLE_LENGTH = 255;
+    private static final int MAX_MESSAGE_LENGTH = 1000;
+    private static final long RATE_WINDOW_MILLIS = 60_000L;
+
+    private final NotificationService notificationService;
+    private final boolean enabled;
+    private final long windowMillis;
+    private final Set<String> coalescedTypes;
+    private final int maxPerUserPerMinute;
+    private final int maxBuffered;
+
+    private final Map<BucketKey, Bucket> buckets = new ConcurrentHashMap<>();
+    private final Map<String, RateWindow> deliveredPerUser = new ConcurrentHashMap<>();
+
+    public NotificationCoalescer(
+            NotificationService notificationService,
+            @Value("${notification.coalescing.enabled:true}") boolean enabled,
+            @Value("${notification.coalescing.window-ms:5000}") long windowMillis,
+            @Value("${notification.coalescing.types:PROJECT_UPDATE,TASK_ASSIGNED}") List<String> coalescedTypes,
+            @Value("${notification.coalescing.max-per-user-per-minute:0}") int maxPerUserPerMinute,
+            @Value("${notification.coalescing.max-buffered:50}") int maxBuffered) {
+        this.notificationService = notificationService;
+        this.enabled = enabled;
+        this.windowMillis = windowMillis;
+        this.coalescedTypes = Set.copyOf(coalescedTypes);
+        this.maxPerUserPerMinute = maxPerUserPerMinute;
+        this.maxBuffered = Math.max(1, maxBuffered);
+    }
+
+    /**
+     * Deliver or buffer a notification. The first one per (user, type) goes out immediately;
+     * later ones within the window are held for the digest.
+     *
+     * @return true if the coalescer took the notification, false if the caller should deliver it directly
+     */
+    public boolean submit(CreateNotificationDTO notification) {
+        if (!enabled || !coalescedTypes.contains(notification.getType())) {
+            return false;
+        }
+
+        BucketKey key = new BucketKey(notification.getUserId(), notification.getType());
+        long now = System.currentTimeMillis();
+        boolean[] leading = new boolean[1];
+        buckets.compute(key, (k, bucket) -> {
+            if (bucket == null) {
+                leading[0] = true;
+                return new Bucket(now);
+            }
+            bucket.add(List.of(notification), 0, maxBuffered);
+            return bucket;
+        });
+
+        if (leading[0]) {
+            deliver(key, List.of(notification), 0, now);
+        }
+        return true;
+    }
+
+    // Close every window that has elapsed, delivering what it buffered
+    @Scheduled(fixedDelayString = "${notification.coalescing.flush-interval-ms:1000}")
+    public void flushDue() {
+        long now = System.currentTimeMillis();
+        for (BucketKey key : new ArrayList<>(buckets.keySet())) {
+            List<CreateNotificationDTO> due = new ArrayList<>();
+            int[] dueOverflow = new int[1];
+            buckets.computeIfPresent(key, (k, bucket) -> {
+                if (now - bucket.openedAt < windowMillis) {
+                    return bucket;
+                }
+                if (bucket.items.isEmpty()) {
+                    // Quiet window: the next event is delivered immediately again
+                    return null;
+                }
+                // Still busy: send the digest and keep holding follow-ups for another window
+                due.addAll(bucket.items);
+                dueOverflow[0] = bucket.overflow;
+                bucket.items.clear();
+                bucket.overflow = 0;
+                bucket.openedAt = now;
+                return bucket;
+            });
+            if (!due.isEmpty()) {
+                deliver(key, due, dueOverflow[0], now);
+            }
+        }
+        deliveredPerUser.values().removeIf(window -> now - window.startedAt() >= RATE_WINDOW_MILLIS);
+    }
+
+    // Deliver everything still buffered so nothing is lost on shutdown
+    @PreDestroy
+    public void flushAll() {
+        for (BucketKey key : new ArrayList<>(buckets.keySet())) {
+            Bucket bucket = buckets.remove(key);
+            if (bucket != null && !bucket.items.isEmpty()) {
+                send(key, bucket.items, bucket.overflow);
+            }
+        }
+    }
+
+    private void deliver(BucketKey key, List<CreateNotificationDTO> items, int overflow, long now) {
+        if (!tryAcquireDelivery(key.userId(), now)) {
+            // Over the per-user cap: hold ahead of anything buffered since and retry next window
+            buckets.compute(key, (k, bucket) -> {
+                Bucket target = bucket != null ? bucket : new Bucket(now);
+                target.prepend(items, overflow, maxBuffered);
+                return target;
+            });
+            log.debug("Rate cap reached for user {}, deferring {} {} notification(s)",
+                    key.userId(), items.size() + overflow, key.type());
+            return;
+        }
+
+        send(key, items, overflow);
+    }
+
+    private void send(BucketKey key, List<CreateNotificationDTO> items, int overflow) {
+        try {
+            notificationService.createAndSendNotification(toDigest(key, items, overflow));
+            if (items.size() + overflow > 1) {
+                log.info("[NOTIFICATION DIGEST] Coalesced {} {} notification(s) for user: {}",
+                        items.size() + overflow, key.type(), key.userId());
+            }
+        } catch (Exception e) {
+            log.error("Failed to deliver coalesced notifications for user: {}", key.userId(), e);
+        }
+    }
+
+    private boolean tryAcquireDelivery(String userId, long now) {
+        if (maxPerUserPerMinute <= 0) {
+            return true;
+        }
+
+        RateWindow window = deliveredPerUser.compute(userId, (id, current) -> {
+            if (current == null || now - current.startedAt >= RATE_WINDOW_MILLIS) {
+                return new RateWindow(now, 1);
+            }
+            return new RateWindow(current.startedAt, current.count + 1);
+        });
+        return window.count <= maxPerUserPerMinute;
+    }
+
+    private CreateNotificationDTO toDigest(BucketKey key, List<CreateNotificationDTO> items, int overflow) {
+        if (items.size() == 1 && overflow == 0) {
+            return items.get(0);
+        }
+
+        Set<String> titles = new LinkedHashSet<>();
+        Set<String> messages = new LinkedHashSet<>();
+        items.forEach(item -> {
+            titles.add(item.getTitle());
+            messages.add(item.getMessage());
+        });
+
+        int total = items.size() + overflow;
+        String title = titles.size() == 1
+                ? titles.iterator().next() + " (" + total + ")"
+                : total + " new updates";
+
+        // Keep the overflow count visible even when the message itself is truncated
+        String more = overflow > 0 ? "\n+" + overflow + " more" : "";
+        return CreateNotificationDTO.builder()
+                .userId(key.userId())
+                .type(key.type())
+                .title(truncate(title, MAX_TITLE_LENGTH))
+                .message(truncate(String.join("\n", messages), MAX_MESSAGE_LENGTH - more.length()) + more)
+                .build();
+    }
+
+    private String truncate(String value, int maxLength) {
+        return value.length() <= maxLength ? value : value.substring(0, maxLength - 3) + "...";
+    }
+
+    private record BucketKey(String userId, String type) {
+    }
+
+    private record RateWindow(long startedAt, int count) {
+    }
+
+    // Mutated only inside map compute calls
+    private static final class Bucket {
+        private final List<CreateNotificationDTO> items = new ArrayList<>();
+        private int overflow;
+        private volatile long openedAt;
+
+        private Bucket(long openedAt) {
+            this.openedAt = openedAt;
+        }
+
+        private void add(List<CreateNotificationDTO> newer, int newerOverflow, int maxItems) {
+            items.addAll(newer);
+            overflow += newerOverflow;
+            trim(maxItems);
+        }
+
+        // Deferred items are older than anything buffered since, so they go first
+        private void prepend(List<CreateNotificationDTO> older, int olderOverflow, int maxItems) {
+            items.addAll(0, older);
+            overflow += olderOverflow;
+            trim(maxItems);
+        }
+
+        private void trim(int maxItems) {
+            while (items.size() > maxItems) {
+                items.remove(items.size() - 1);
+                overflow++;
+            }
+        }
+    }
+}
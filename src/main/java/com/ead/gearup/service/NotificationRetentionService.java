@@ -0,0 +1,62 @@
+package com.ead.gearup.service;
+
+import com.ead.gearup.repository.NotificationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+// Scheduled retention job that purges old read notifications in bounded batches
+@Slf4j
+@Service
+public class NotificationRetentionService {
+
+    private final NotificationRepository notificationRepository;
+    private final int retentionDays;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    public NotificationRetentionService(
+            NotificationRepository notificationRepository,
+            @Value("${notification.retention.read-days:30}") int retentionDays,
+            @Value("${notification.retention.batch-size:1000}") int batchSize,
+            @Value("${notification.retention.max-batches-per-run:500}") int maxBatchesPerRun) {
+        this.notificationRepository = notificationRepository;
+        this.retentionDays = retentionDays;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    /**
+     * Delete read notifications older than the retention window.
+     * Runs every day at 3:00 AM. Each batch commits separately so row locks stay short.
+     */
+    @Scheduled(cron = "${notification.retention.cron:0 0 3 * * *}")
+    public void purgeOldReadNotifications() {
+        LocalDateTime cutoffDate = LocalDateTime.now().minusDays(retentionDays);
+        log.info("Starting notification retention task (cutoff: {}, batch size: {})", cutoffDate, batchSize);
+
+        long startTime = System.currentTimeMillis();
+        long totalDeleted = 0;
+        int batches = 0;
+
+        while (batches < maxBatchesPerRun) {
+            int deleted = notificationRepository.deleteOldReadNotificationsBatch(cutoffDate, batchSize);
+            totalDeleted += deleted;
+            batches++;
+
+            if (deleted < batchSize) {
+                break;
+            }
+        }
+
+        if (batches >= maxBatchesPerRun) {
+            log.warn("Notification retention stopped after {} batches; remaining rows will be purged next run", batches);
+        }
+
+        log.info("Notification retention task completed: {} notification(s) deleted in {} batch(es), {}ms",
+                totalDeleted, batches, System.currentTimeMillis() - startTime);
+    }
+}
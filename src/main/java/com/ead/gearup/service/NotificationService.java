@@ -3,14 +3,17 @@ package com.ead.gearup.service;
 import com.ead.gearup.dto.notification.CreateNotificationDTO;
 import com.ead.gearup.dto.notification.NotificationDTO;
 import com.ead.gearup.dto.notification.NotificationEventDTO;
+import com.ead.gearup.dto.notification.NotificationSliceDTO;
 import com.ead.gearup.exception.ResourceNotFoundException;
 import com.ead.gearup.model.Notification;
 import com.ead.gearup.repository.NotificationRepository;
+import com.ead.gearup.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
@@ -26,8 +29,11 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class NotificationService {
 
+    private static final int MAX_SLICE_SIZE = 100;
+
     private final NotificationRepository notificationRepository;
     private final SseConnectionManager sseConnectionManager;
+    private final UnreadNotificationCounter unreadNotificationCounter;
 
     /**
      * Create and send a notification synchronously (used by REST API)
@@ -50,6 +56,7 @@ public class NotificationService {
         
         Notification savedNotification = notificationRepository.save(notification);
         log.info("Notification saved with ID: {}", savedNotification.getId());
+        unreadNotificationCounter.adjust(savedNotification.getUserId(), 1);
         
         // Send via SSE if user is connected
         NotificationEventDTO eventDTO = convertToEventDTO(savedNotification);
@@ -78,6 +85,7 @@ public class NotificationService {
         Notification savedNotification = notificationRepository.save(notification);
         long saveTime = System.currentTimeMillis() - beforeSave;
         log.info("[DB SAVE] Notification ID: {} saved in {}ms", savedNotification.getId(), saveTime);
+        unreadNotificationCounter.adjust(savedNotification.getUserId(), 1);
         
         // Send via SSE if user is connected
         long beforeSSE = System.currentTimeMillis();
@@ -112,6 +120,7 @@ public class NotificationService {
         savedNotifications.forEach(notification -> {
             NotificationEventDTO eventDTO = convertToEventDTO(notification);
             sseConnectionManager.sendToUser(notification.getUserId(), eventDTO);
+            unreadNotificationCounter.adjust(notification.getUserId(), 1);
         });
     }
 
@@ -145,6 +154,43 @@ public class NotificationService {
         return notificationPage.map(this::convertToDTO);
     }
 
+    // Get a keyset-paginated slice of notifications, newest first, without a total count (infinite scroll)
+    @Transactional(readOnly = true)
+    public NotificationSliceDTO getNotificationFeed(
+            String userId,
+            String cursor,
+            int size,
+            String type,
+            Boolean isRead) {
+        
+        int sliceSize = Math.max(1, Math.min(size, MAX_SLICE_SIZE));
+        log.info("Fetching notification feed for user: {} (cursor: {}, size: {})", userId, cursor, sliceSize);
+        
+        Pageable pageable = PageRequest.of(0, sliceSize);
+        Slice<Notification> slice;
+        
+        if (cursor == null || cursor.isBlank()) {
+            slice = notificationRepository.findFirstSliceByUserId(userId, type, isRead, pageable);
+        } else {
+            KeysetCursor position = KeysetCursor.decode(cursor, "Invalid notification cursor");
+            slice = notificationRepository.findSliceByUserIdAfterCursor(
+                    userId, type, isRead, position.createdAt(), position.id(), pageable);
+        }
+        
+        List<Notification> content = slice.getContent();
+        Notification last = content.isEmpty() ? null : content.get(content.size() - 1);
+        String nextCursor = slice.hasNext() && last != null
+                ? KeysetCursor.encode(last.getCreatedAt(), last.getId())
+                : null;
+        
+        return NotificationSliceDTO.builder()
+                .content(content.stream().map(this::convertToDTO).collect(Collectors.toList()))
+                .size(content.size())
+                .hasNext(slice.hasNext())
+                .nextCursor(nextCursor)
+                .build();
+    }
+
     // Get unread notifications for a user
     @Transactional(readOnly = true)
     public List<NotificationDTO> getUnreadNotifications(String userId) {
@@ -156,10 +202,9 @@ public class NotificationService {
                 .collect(Collectors.toList());
     }
 
-    // Get count of unread notifications
-    @Transactional(readOnly = true)
+    // Get count of unread notifications (served from the in-memory counter)
     public long getUnreadCount(String userId) {
-        return notificationRepository.countByUserIdAndIsReadFalse(userId);
+        return unreadNotificationCounter.get(userId);
     }
 
     // Mark a notification as read
@@ -175,6 +220,10 @@ public class NotificationService {
             throw new IllegalArgumentException("Notification does not belong to user: " + userId);
         }
         
+        if (!notification.isRead()) {
+            unreadNotificationCounter.adjust(userId, -1);
+        }
+        
         notification.setRead(true);
         notificationRepository.save(notification);
     }
@@ -184,11 +233,9 @@ public class NotificationService {
     public void markAllAsRead(String userId) {
         log.info("Marking all notifications as read for user: {}", userId);
         
-        List<Notification> unreadNotifications = 
-                notificationRepository.findByUserIdAndIsReadFalseOrderByCreatedAtDesc(userId);
-        
-        unreadNotifications.forEach(notification -> notification.setRead(true));
-        notificationRepository.saveAll(unreadNotifications);
+        int updated = notificationRepository.markAllAsReadByUserId(userId);
+        log.info("Marked {} notification(s) as read for user: {}", updated, userId);
+        unreadNotificationCounter.reset(userId);
     }
 
     // Delete a specific notification
@@ -205,6 +252,10 @@ public class NotificationService {
         }
         
         notificationRepository.delete(notification);
+        
+        if (!notification.isRead()) {
+            unreadNotificationCounter.adjust(userId, -1);
+        }
     }
 
     // Delete all notifications for a user
@@ -212,6 +263,7 @@ public class NotificationService {
     public void deleteAllForUser(String userId) {
         log.info("Deleting all notifications for user: {}", userId);
         notificationRepository.deleteByUserId(userId);
+        unreadNotificationCounter.reset(userId);
     }
 
     // Cleanup old read notifications
@@ -219,7 +271,8 @@ public class NotificationService {
     public void cleanupOldNotifications(int daysOld) {
         LocalDateTime cutoffDate = LocalDateTime.now().minusDays(daysOld);
         log.info("Cleaning up read notifications older than: {}", cutoffDate);
-        notificationRepository.deleteOldReadNotifications(cutoffDate);
+        int deleted = notificationRepository.deleteOldReadNotifications(cutoffDate);
+        log.info("Deleted {} old read notification(s)", deleted);
     }
 
     // Convert Notification entity to NotificationDTO
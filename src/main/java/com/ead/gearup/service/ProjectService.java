@@ -49,9 +49,9 @@ public class ProjectService {
     private final ProjectDTOConverter projectDTOConverter;
     private final TaskDTOConverter taskDTOConverter;
     private final ProjectUpdateRepository projectUpdateRepository;
+    private final ProjectTimeBudgetRepository projectTimeBudgetRepository;
     private final com.fasterxml.jackson.databind.ObjectMapper objectMapper;
     private final NotificationPublisher notificationPublisher;
-    private final UserRepository userRepository;
 
 
     @Transactional
@@ -266,11 +266,14 @@ public class ProjectService {
                 .toList();
     }
 
+    @Transactional
     @RequiresRole(UserRole.ADMIN)
     public void deleteProject(Long projectId) {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new ProjectNotFoundException("Project not found: " + projectId));
 
+        // The budget row has no foreign key under ddl-auto, so it is removed explicitly
+        projectTimeBudgetRepository.deleteById(projectId);
         projectRepository.delete(project);
     }
 
@@ -1036,22 +1039,13 @@ public class ProjectService {
      */
     private void notifyAdminsAboutNewProject(Project project) {
         try {
-            List<User> adminUsers = userRepository.findByRole(UserRole.ADMIN);
-            if (!adminUsers.isEmpty() && project.getCustomer() != null 
-                && project.getCustomer().getUser() != null) {
-                
+            if (project.getCustomer() != null && project.getCustomer().getUser() != null) {
                 String title = "New Project Created";
                 String message = "Customer " + project.getCustomer().getUser().getName() 
                     + " created project: " + project.getName();
                 
-                for (User admin : adminUsers) {
-                    notificationPublisher.publishProjectNotification(
-                        admin.getUserId().toString(),
-                        title,
-                        message
-                    );
-                }
-                log.info("Notified {} admin(s) about new project creation", adminUsers.size());
+                notificationPublisher.publishRoleNotification(UserRole.ADMIN, title, message, "PROJECT_UPDATE");
+                log.info("Published new project notification to admins");
             }
         } catch (Exception e) {
             log.error("Failed to send new project notifications to admins", e);
@@ -1077,24 +1071,15 @@ public class ProjectService {
             }
 
             // Notify all admins
-            List<User> adminUsers = userRepository.findByRole(UserRole.ADMIN);
-            if (!adminUsers.isEmpty()) {
-                String customerName = project.getCustomer() != null 
-                    && project.getCustomer().getUser() != null 
-                    ? project.getCustomer().getUser().getName() 
-                    : "Customer";
-                String title = "Project Completed";
-                String message = "Project '" + project.getName() + "' for customer " + customerName + " has been completed";
-                
-                for (User admin : adminUsers) {
-                    notificationPublisher.publishProjectNotification(
-                        admin.getUserId().toString(),
-                        title,
-                        message
-                    );
-                }
-                log.info("Notified {} admin(s) about project completion", adminUsers.size());
-            }
+            String customerName = project.getCustomer() != null 
+                && project.getCustomer().getUser() != null 
+                ? project.getCustomer().getUser().getName() 
+                : "Customer";
+            String adminTitle = "Project Completed";
+            String adminMessage = "Project '" + project.getName() + "' for customer " + customerName + " has been completed";
+            
+            notificationPublisher.publishRoleNotification(UserRole.ADMIN, adminTitle, adminMessage, "PROJECT_UPDATE");
+            log.info("Published project completion notification to admins");
         } catch (Exception e) {
             log.error("Failed to send project completion notifications", e);
         }
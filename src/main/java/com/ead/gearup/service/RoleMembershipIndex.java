@@ -0,0 +1,64 @@
+package com.ead.gearup.service;
+
+import com.ead.gearup.enums.UserRole;
+import com.ead.gearup.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Cached index of user IDs per role, used to address role-targeted notifications
+@Slf4j
+@Service
+public class RoleMembershipIndex {
+
+    private final UserRepository userRepository;
+    private final long ttlMillis;
+
+    private final Map<UserRole, Membership> memberships = new ConcurrentHashMap<>();
+
+    public RoleMembershipIndex(UserRepository userRepository,
+                               @Value("${notification.role-index.ttl-seconds:300}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.ttlMillis = ttlSeconds * 1000L;
+    }
+
+    // Get the IDs of all users holding a role, loading them from the database when stale
+    public List<String> getUserIds(UserRole role) {
+        long now = System.currentTimeMillis();
+        Membership membership = memberships.get(role);
+
+        if (!isFresh(membership, now)) {
+            membership = memberships.compute(role, (key, current) -> isFresh(current, now) ? current : load(key));
+        }
+
+        return membership.userIds();
+    }
+
+    // Drop all cached memberships so the next lookup reloads them
+    public void invalidateAll() {
+        if (!memberships.isEmpty()) {
+            log.debug("Invalidating role membership index ({} role(s) cached)", memberships.size());
+            memberships.clear();
+        }
+    }
+
+    // A TTL of zero or less disables caching
+    private boolean isFresh(Membership membership, long now) {
+        return membership != null && now - membership.loadedAt() < ttlMillis;
+    }
+
+    private Membership load(UserRole role) {
+        List<String> userIds = userRepository.findUserIdsByRole(role).stream()
+                .map(String::valueOf)
+                .toList();
+        log.debug("Loaded {} user(s) for role {}", userIds.size(), role);
+        return new Membership(userIds, System.currentTimeMillis());
+    }
+
+    private record Membership(List<String> userIds, long loadedAt) {
+    }
+}
@@ -0,0 +1,352 @@
+package com.ead.gearup.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Near-duplicate index over recently answered chatbot questions.
+ * Questions are normalized, shingled into character trigrams and summarized with a
+ * MinHash signature; LSH banding finds candidates and an exact Jaccard check on the
+ * shingle sets decides whether a candidate is close enough to reuse its cached answer.
+ * Tokens containing digits (times, dates, amounts) must match exactly, since "5pm" and
+ * "6pm" differ by one character but not in meaning.
+ * The index only maps questions to exact-match cache keys - answers stay in Redis.
+ */
+@Service
+@Slf4j
+public class SemanticChatCache {
+
+    private static final int NUM_HASHES = 64;
+    private static final int BANDS = 16;
+    private static final int ROWS_PER_BAND = NUM_HASHES / BANDS;
+    private static final int SHINGLE_SIZE = 3;
+
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^a-z0-9\\s]");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern DIGIT = Pattern.compile("\\d");
+    private static final Map<String, String> CONTRACTIONS = new LinkedHashMap<>();
+
+    static {
+        CONTRACTIONS.put("can't", "cannot");
+        CONTRACTIONS.put("won't", "will not");
+        CONTRACTIONS.put("i'm", "i am");
+        CONTRACTIONS.put("let's", "let us");
+        CONTRACTIONS.put("n't", " not");
+        CONTRACTIONS.put("'re", " are");
+        CONTRACTIONS.put("'ll", " will");
+        CONTRACTIONS.put("'ve", " have");
+        CONTRACTIONS.put("'d", " would");
+        CONTRACTIONS.put("'s", " is");
+    }
+
+    private final boolean enabled;
+    private final double similarityThreshold;
+    private final int maxEntries;
+    private final Duration entryTtl;
+
+    private final long[] hashSeeds = new long[NUM_HASHES];
+
+    // Access-ordered so the eldest entry is the least recently used one
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Long, Set<String>> bandIndex = new HashMap<>();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Timer lookupTimer;
+
+    public SemanticChatCache(
+            MeterRegistry meterRegistry,
+            @Value("${chatbot.cache.semantic.enabled:true}") boolean enabled,
+            @Value("${chatbot.cache.semantic.similarity-threshold:0.9}") double similarityThreshold,
+            @Value("${chatbot.cache.semantic.max-entries:5000}") int maxEntries,
+            @Value("${chatbot.cache.semantic.ttl-seconds:3600}") long ttlSeconds) {
+        this.enabled = enabled;
+        this.similarityThreshold = similarityThreshold;
+        this.maxEntries = maxEntries;
+        this.entryTtl = Duration.ofSeconds(ttlSeconds);
+
+        // Fixed seed so signatures are stable across restarts and instances
+        SplittableRandom random = new SplittableRandom(0x5EED_CAFEL);
+        for (int i = 0; i < NUM_HASHES; i++) {
+            hashSeeds[i] = random.nextLong();
+        }
+
+        this.hits = Counter.builder("chat.cache.semantic.lookups")
+                .tag("result", "hit")
+                .description("Semantic chat cache lookups that found a similar question")
+                .register(meterRegistry);
+        this.misses = Counter.builder("chat.cache.semantic.lookups")
+                .tag("result", "miss")
+                .description("Semantic chat cache lookups that found no similar question")
+                .register(meterRegistry);
+        this.lookupTimer = Timer.builder("chat.cache.semantic.lookup.latency")
+                .description("Time spent searching the semantic chat cache")
+                .register(meterRegistry);
+        Gauge.builder("chat.cache.semantic.entries", this, SemanticChatCache::size)
+                .description("Questions currently held in the semantic chat cache")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Find the cache key of a previously answered question similar to this one
+     */
+    public Optional<String> findSimilar(String question) {
+        if (!enabled || question == null) {
+            return Optional.empty();
+        }
+
+        long start = System.nanoTime();
+        try {
+            String normalized = normalize(question);
+            int[] shingles = shingles(normalized);
+            if (shingles.length == 0) {
+                misses.increment();
+                return Optional.empty();
+            }
+            long[] signature = signature(shingles);
+
+            Optional<String> match = findBestMatch(shingles, numericTokens(normalized), signature);
+            (match.isPresent() ? hits : misses).increment();
+            return match;
+        } finally {
+            lookupTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Remember that the answer for this question is cached under the given key
+     */
+    public void put(String question, String cacheKey) {
+        if (!enabled || question == null) {
+            return;
+        }
+
+        String normalized = normalize(question);
+        int[] shingles = shingles(normalized);
+        if (shingles.length == 0) {
+            return;
+        }
+        long[] signature = signature(shingles);
+        long[] bandKeys = bandKeys(signature);
+
+        synchronized (entries) {
+            Entry previous = entries.remove(cacheKey);
+            if (previous != null) {
+                unindex(cacheKey, previous);
+            }
+            entries.put(cacheKey, new Entry(shingles, numericTokens(normalized), bandKeys, System.nanoTime()));
+            for (long bandKey : bandKeys) {
+                bandIndex.computeIfAbsent(bandKey, k -> new HashSet<>()).add(cacheKey);
+            }
+            evictOverflow();
+        }
+    }
+
+    /**
+     * Drop the entry stored under the given cache key
+     */
+    public void remove(String cacheKey) {
+        synchronized (entries) {
+            Entry removed = entries.remove(cacheKey);
+            if (removed != null) {
+                unindex(cacheKey, removed);
+            }
+        }
+    }
+
+    /**
+     * Drop every entry
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+            bandIndex.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Lowercase, expand common contractions and strip punctuation so that
+     * "When's my appointment?" and "when is my appointment" normalize identically
+     */
+    static String normalize(String question) {
+        String text = question.toLowerCase().replace('’', '\'');
+        for (Map.Entry<String, String> contraction : CONTRACTIONS.entrySet()) {
+            text = text.replace(contraction.getKey(), contraction.getValue());
+        }
+        text = NON_ALPHANUMERIC.matcher(text).replaceAll(" ");
+        return WHITESPACE.matcher(text).replaceAll(" ").trim();
+    }
+
+    // Private helper methods
+
+    private Optional<String> findBestMatch(int[] shingles, Set<String> numericTokens, long[] signature) {
+        long now = System.nanoTime();
+        long ttlNanos = entryTtl.toNanos();
+
+        synchronized (entries) {
+            Set<String> candidates = new LinkedHashSet<>();
+            for (long bandKey : bandKeys(signature)) {
+                Set<String> bucket = bandIndex.get(bandKey);
+                if (bucket != null) {
+                    candidates.addAll(bucket);
+                }
+            }
+
+            String bestKey = null;
+            double bestScore = similarityThreshold;
+            for (String candidateKey : candidates) {
+                Entry candidate = entries.get(candidateKey);
+                if (candidate == null) {
+                    continue;
+                }
+                if (now - candidate.createdAtNanos() > ttlNanos) {
+                    entries.remove(candidateKey);
+                    unindex(candidateKey, candidate);
+                    continue;
+                }
+                if (!numericTokens.equals(candidate.numericTokens())) {
+                    continue;
+                }
+                double score = jaccard(shingles, candidate.shingles());
+                if (score >= bestScore) {
+                    bestScore = score;
+                    bestKey = candidateKey;
+                }
+            }
+
+            if (bestKey != null) {
+                log.debug("Semantic cache match {} with similarity {}", bestKey, bestScore);
+            }
+            return Optional.ofNullable(bestKey);
+        }
+    }
+
+    private void evictOverflow() {
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (entries.size() > maxEntries && iterator.hasNext()) {
+            Map.Entry<String, Entry> eldest = iterator.next();
+            iterator.remove();
+            unindex(eldest.getKey(), eldest.getValue());
+        }
+    }
+
+    private void unindex(String cacheKey, Entry entry) {
+        for (long bandKey : entry.bandKeys()) {
+            Set<String> bucket = bandIndex.get(bandKey);
+            if (bucket != null) {
+                bucket.remove(cacheKey);
+                if (bucket.isEmpty()) {
+                    bandIndex.remove(bandKey);
+                }
+            }
+        }
+    }
+
+    private static Set<String> numericTokens(String normalized) {
+        Set<String> tokens = new HashSet<>();
+        for (String token : WHITESPACE.split(normalized)) {
+            if (DIGIT.matcher(token).find()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static int[] shingles(String normalized) {
+        if (normalized.isEmpty()) {
+            return new int[0];
+        }
+        if (normalized.length() <= SHINGLE_SIZE) {
+            return new int[]{normalized.hashCode()};
+        }
+        Set<Integer> unique = new HashSet<>();
+        for (int i = 0; i + SHINGLE_SIZE <= normalized.length(); i++) {
+            unique.add(normalized.substring(i, i + SHINGLE_SIZE).hashCode());
+        }
+        return unique.stream().mapToInt(Integer::intValue).sorted().toArray();
+    }
+
+    private long[] signature(int[] shingles) {
+        long[] signature = new long[NUM_HASHES];
+        Arrays.fill(signature, Long.MAX_VALUE);
+        for (int shingle : shingles) {
+            for (int i = 0; i < NUM_HASHES; i++) {
+                long hash = mix(shingle ^ hashSeeds[i]);
+                if (hash < signature[i]) {
+                    signature[i] = hash;
+                }
+            }
+        }
+        return signature;
+    }
+
+    private static long[] bandKeys(long[] signature) {
+        long[] keys = new long[BANDS];
+        for (int band = 0; band < BANDS; band++) {
+            long key = band;
+            for (int row = 0; row < ROWS_PER_BAND; row++) {
+                key = mix(key * 31 + signature[band * ROWS_PER_BAND + row]);
+            }
+            keys[band] = key;
+        }
+        return keys;
+    }
+
+    // Both arrays are sorted, so intersection is a linear merge
+    private static double jaccard(int[] first, int[] second) {
+        if (first.length == 0 && second.length == 0) {
+            return 1.0;
+        }
+        int i = 0;
+        int j = 0;
+        int intersection = 0;
+        while (i < first.length && j < second.length) {
+            if (first[i] == second[j]) {
+                intersection++;
+                i++;
+                j++;
+            } else if (first[i] < second[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return (double) intersection / (first.length + second.length - intersection);
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private record Entry(int[] shingles, Set<String> numericTokens, long[] bandKeys, long createdAtNanos) {
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
@@ -63,6 +64,16 @@ public class SseConnectionManager {
 
     // Send a notification to a specific user
     public void sendToUser(String userId, NotificationEventDTO notification) {
+        sendEvent(userId, "notification", notification);
+    }
+
+    // Push the current unread notification count to a specific user
+    public void sendUnreadCount(String userId, long unreadCount) {
+        sendEvent(userId, "unread-count", Map.of("count", unreadCount));
+    }
+
+    // Send a named event to all active connections of a user
+    private void sendEvent(String userId, String eventName, Object data) {
         List<SseEmitter> emitters = userEmitters.get(userId);
         
         if (emitters == null || emitters.isEmpty()) {
@@ -70,7 +81,7 @@ public class SseConnectionManager {
             return;
         }
         
-        log.info("Sending notification to user {} ({} connection(s))", userId, emitters.size());
+        log.info("Sending {} event to user {} ({} connection(s))", eventName, userId, emitters.size());
         
         // Send to all active connections for this user
         List<SseEmitter> deadEmitters = new CopyOnWriteArrayList<>();
@@ -78,10 +89,10 @@ public class SseConnectionManager {
         for (SseEmitter emitter : emitters) {
             try {
                 emitter.send(SseEmitter.event()
-                        .name("notification")
-                        .data(notification));
+                        .name(eventName)
+                        .data(data));
             } catch (IOException e) {
-                log.error("Failed to send notification to user: {}", userId, e);
+                log.error("Failed to send {} event to user: {}", eventName, userId, e);
                 deadEmitters.add(emitter);
             }
         }
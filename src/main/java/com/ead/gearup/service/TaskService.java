@@ -11,22 +11,30 @@ import com.ead.gearup.repository.AppointmentRepository;
 import com.ead.gearup.service.auth.CurrentUserService;
 import com.ead.gearup.validation.RequiresRole;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import com.ead.gearup.dto.task.EmployeeRecentActivityDTO;
 import com.ead.gearup.dto.task.TaskCreateDTO;
 import com.ead.gearup.dto.task.TaskResponseDTO;
+import com.ead.gearup.dto.task.TaskRowProjection;
+import com.ead.gearup.dto.task.TaskStatusCountProjection;
+import com.ead.gearup.dto.employee.EmployeeHomeDTO;
 import com.ead.gearup.dto.task.TaskSearchResponseDTO;
 import com.ead.gearup.model.Task;
 import com.ead.gearup.repository.TaskRepository;
 import com.ead.gearup.util.TaskDTOConverter;
-import com.ead.gearup.model.Employee;
-import com.ead.gearup.exception.UserNotFoundException;
-import com.ead.gearup.repository.EmployeeRepository;
+import com.ead.gearup.repository.ProjectTimeBudgetRepository;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -36,11 +44,14 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class TaskService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int RECENT_ACTIVITY_LIMIT = 10;
+
     private final TaskDTOConverter taskDTOConverter;
     private final TaskRepository taskRepository;
     private final AppointmentRepository appointmentRepository;
     private final CurrentUserService currentUserService;
-    private final EmployeeRepository employeeRepository;
+    private final ProjectTimeBudgetRepository projectTimeBudgetRepository;
 
     @RequiresRole({ UserRole.EMPLOYEE, UserRole.ADMIN })
     public TaskResponseDTO createTask(TaskCreateDTO taskCreateDTO) {
@@ -92,41 +103,23 @@ public class TaskService {
         return taskDTOConverter.convertToResponseDto(task);
     }
 
+    /**
+     * Get a page of tasks visible to the current user, newest first
+     *
+     * @param status Only tasks in this status; null for every status
+     */
     @RequiresRole({ UserRole.CUSTOMER, UserRole.ADMIN, UserRole.EMPLOYEE })
-    public List<TaskResponseDTO> getAllTasks() {
+    public Page<TaskResponseDTO> getTasks(TaskStatus status, int page, int size) {
         UserRole role = currentUserService.getCurrentUserRole();
+        Pageable pageable = PageRequest.of(Math.max(0, page), Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
 
-        if (role == UserRole.CUSTOMER) {
-            Long customerId = currentUserService.getCurrentEntityId();
-
-            return taskRepository.findAll().stream()
-                    .filter(t ->
-                        // Include tasks with projects belonging to this customer
-                        (t.getProject() != null
-                            && t.getProject().getCustomer().getCustomerId().equals(customerId))
-                        ||
-                        // Also include tasks with appointments belonging to this customer
-                        (t.getAppointment() != null
-                            && t.getAppointment().getCustomer().getCustomerId().equals(customerId))
-                    )
-                    .map(taskDTOConverter::convertToResponseDto)
-                    .toList();
-        }
-
-        // if(role == UserRole.EMPLOYEE) {
-        // Long employeeId = currentUserService.getCurrentEntityId();
-        //
-        // return taskRepository.findAll().stream()
-        // .filter(t->t.getProject() != null
-        // && t.getProject().getAssignedEmployees().stream()
-        // .anyMatch(e->e.getEmployeeId().equals(employeeId)))
-        // .map(taskDTOConverter::convertToResponseDto)
-        // .toList();
-        // }
+        Page<TaskRowProjection> rows = switch (role) {
+            case CUSTOMER -> taskRepository.findPageByCustomerId(currentUserService.getCurrentEntityId(), status, pageable);
+            case EMPLOYEE -> taskRepository.findPageByEmployeeId(currentUserService.getCurrentEntityId(), status, pageable);
+            default -> taskRepository.findPage(status, pageable);
+        };
 
-        return taskRepository.findAll().stream()
-                .map(taskDTOConverter::convertToResponseDto)
-                .toList();
+        return rows.map(taskDTOConverter::convertRowToResponseDto);
     }
 
     @RequiresRole({ UserRole.CUSTOMER, UserRole.ADMIN, UserRole.EMPLOYEE })
@@ -144,6 +137,10 @@ public class TaskService {
 
         Task updatedTask = taskDTOConverter.updateEntityFromDto(task, taskUpdateDTO);
         taskRepository.save(updatedTask);
+        if (taskUpdateDTO.getEstimatedHours() != null) {
+            // Keep the running estimate of every project containing this task in step
+            projectTimeBudgetRepository.refreshEstimatedHoursForTask(taskId);
+        }
 
         return taskDTOConverter.convertToResponseDto(updatedTask);
     }
@@ -159,47 +156,35 @@ public class TaskService {
             throw new UnauthorizedTaskAccessException("Only admins can delete task.");
         }
 
+        // Run first: the budget refresh finds the task's projects through project_tasks
+        projectTimeBudgetRepository.refreshEstimatedHoursWithoutTask(taskId);
         taskRepository.delete(task);
     }
 
     @RequiresRole({UserRole.EMPLOYEE, UserRole.ADMIN})
     public Map<String, Long> getTaskSummaryForEmployee() {
-        Long employeeId = currentUserService.getCurrentEntityId();
-
-        Employee employee = employeeRepository.findById(employeeId)
-                .orElseThrow(() -> new UserNotFoundException("Employee not found with ID: " + employeeId));
-
-        Long assigned = taskRepository.countByEmployeeAndStatus(employee, TaskStatus.ACCEPTED);
-        Long inProgress = taskRepository.countByEmployeeAndStatus(employee, TaskStatus.PENDING);
-        Long completedToday = taskRepository.countCompletedToday(employee);
-
-        return Map.of(
-            "assigned", assigned,
-            "inprogress", inProgress,
-            "completedToday", completedToday
-        );
-
-
+        return summarize(countTasksByStatus(currentUserService.getCurrentEmployeeId()));
     }
-    
+
     @RequiresRole({UserRole.EMPLOYEE})
-    public List<EmployeeRecentActivityDTO> getRecentActivitiesForCurrentEmployee(){
-        Long employeeId = currentUserService.getCurrentEntityId();
-
-        //Get all tasks for this employee
-        List<Task> tasks = employeeRepository.findById(employeeId)
-                .orElseThrow(()-> new UserNotFoundException("Employee not found with ID: "+ employeeId))
-                .getTasks();
-
-        // Filter in-progress tasks
-        List<String> taskNames = tasks.stream()
-                .filter(t->t.getStatus() == TaskStatus.PENDING)
-                .map(Task::getName)
-                .toList();
+    public List<EmployeeRecentActivityDTO> getRecentActivitiesForCurrentEmployee() {
+        return findRecentActivities(currentUserService.getCurrentEmployeeId());
+    }
 
-        return taskNames.stream()
-                .map(name -> new EmployeeRecentActivityDTO(name))
-                .toList();
+    /**
+     * Everything on the employee home screen: one identity lookup, then the grouped
+     * status counts and the recent activity list
+     */
+    @RequiresRole({UserRole.EMPLOYEE})
+    public EmployeeHomeDTO getEmployeeHome() {
+        Long employeeId = currentUserService.getCurrentEmployeeId();
+        List<TaskStatusCountProjection> counts = countTasksByStatus(employeeId);
+
+        return new EmployeeHomeDTO(
+                employeeId,
+                summarize(counts),
+                byStatus(counts),
+                findRecentActivities(employeeId));
     }
 
     public List<TaskSearchResponseDTO> searchTasksByTaskName(String name) {
@@ -216,4 +201,43 @@ public class TaskService {
                 .collect(Collectors.toList());
     }
 
+    // Private helper methods
+
+    private List<TaskStatusCountProjection> countTasksByStatus(Long employeeId) {
+        LocalDateTime startOfToday = LocalDate.now().atStartOfDay();
+        return taskRepository.countByStatusForEmployee(employeeId, startOfToday, startOfToday.plusDays(1));
+    }
+
+    private List<EmployeeRecentActivityDTO> findRecentActivities(Long employeeId) {
+        // In-progress work, newest first
+        return taskRepository.findRecentTaskNames(employeeId, TaskStatus.PENDING, Limit.of(RECENT_ACTIVITY_LIMIT))
+                .stream()
+                .map(EmployeeRecentActivityDTO::new)
+                .toList();
+    }
+
+    private static Map<TaskStatus, Long> byStatus(List<TaskStatusCountProjection> counts) {
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            byStatus.put(status, 0L);
+        }
+        counts.stream()
+                .filter(count -> count.getStatus() != null)
+                .forEach(count -> byStatus.put(count.getStatus(), count.getTaskCount()));
+        return byStatus;
+    }
+
+    private static Map<String, Long> summarize(List<TaskStatusCountProjection> counts) {
+        Map<TaskStatus, Long> byStatus = byStatus(counts);
+        long completedToday = counts.stream()
+                .filter(count -> count.getStatus() == TaskStatus.COMPLETED)
+                .mapToLong(TaskStatusCountProjection::getCompletedToday)
+                .sum();
+
+        return Map.of(
+            "assigned", byStatus.get(TaskStatus.ACCEPTED),
+            "inprogress", byStatus.get(TaskStatus.PENDING),
+            "completedToday", completedToday
+        );
+    }
 }
@@ -8,26 +8,36 @@ import com.ead.gearup.model.Employee;
 import com.ead.gearup.model.Task;
 import com.ead.gearup.model.TimeLog;
 import com.ead.gearup.model.Project;
+import com.ead.gearup.model.ProjectTimeBudget;
 import com.ead.gearup.model.Appointment;
 import com.ead.gearup.repository.EmployeeRepository;
 import com.ead.gearup.repository.ProjectRepository;
+import com.ead.gearup.repository.ProjectTimeBudgetRepository;
 import com.ead.gearup.repository.TaskRepository;
 import com.ead.gearup.repository.TimeLogRepository;
 import com.ead.gearup.repository.AppointmentRepository;
 import com.ead.gearup.service.auth.CurrentUserService;
 import com.ead.gearup.util.TimeLogDTOConverter;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Service
 @Transactional
 public class TimeLogService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    // Open ends of an unbounded date range, kept inside the range of a SQL timestamp
+    private static final LocalDateTime EARLIEST = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime LATEST = LocalDateTime.of(9999, 1, 1, 0, 0);
+
     private final TimeLogRepository timeLogRepository;
     private final TimeLogDTOConverter converter;
     private final EmployeeRepository employeeRepository;
@@ -35,6 +45,7 @@ public class TimeLogService {
     private final ProjectRepository projectRepository;
     private final AppointmentRepository appointmentRepository;
     private final CurrentUserService currentUserService;
+    private final ProjectTimeBudgetRepository projectTimeBudgetRepository;
 
     public TimeLogService(TimeLogRepository timeLogRepository,
             TimeLogDTOConverter converter,
@@ -42,7 +53,8 @@ public class TimeLogService {
             TaskRepository taskRepository,
             ProjectRepository projectRepository,
             AppointmentRepository appointmentRepository,
-            CurrentUserService currentUserService) {
+            CurrentUserService currentUserService,
+            ProjectTimeBudgetRepository projectTimeBudgetRepository) {
         this.timeLogRepository = timeLogRepository;
         this.converter = converter;
         this.employeeRepository = employeeRepository;
@@ -50,6 +62,7 @@ public class TimeLogService {
         this.projectRepository = projectRepository;
         this.appointmentRepository = appointmentRepository;
         this.currentUserService = currentUserService;
+        this.projectTimeBudgetRepository = projectTimeBudgetRepository;
     }
 
     public TimeLogResponseDTO createTimeLog(CreateTimeLogDTO dto) {
@@ -83,15 +96,12 @@ public class TimeLogService {
 
         // Calculate hours for the new time log entry
         double newLogHours = calculateHours(dto.getStartTime(), dto.getEndTime());
-        
-        // Get total logged hours for the project so far
-        Double totalLoggedHours = timeLogRepository.getTotalLoggedHoursByProjectId(project.getProjectId());
-        
-        // Calculate total estimated hours for all services/tasks in the project
-        int totalEstimatedHours = project.getTasks().stream()
-                .mapToInt(Task::getEstimatedHours)
-                .sum();
-        
+
+        // Lock the project's running totals so concurrent logs cannot together exceed the estimate
+        ProjectTimeBudget budget = lockBudget(project.getProjectId());
+        double totalLoggedHours = budget.getLoggedHours();
+        int totalEstimatedHours = budget.getEstimatedHours();
+
         // Check if adding this time log would exceed the estimated hours
         double totalAfterNewLog = totalLoggedHours + newLogHours;
         if (totalAfterNewLog > totalEstimatedHours) {
@@ -108,10 +118,11 @@ public class TimeLogService {
 
         TimeLog timeLog = converter.convertToEntity(dto, employee, task, project, null);
         TimeLog saved = timeLogRepository.save(timeLog);
+        addLoggedHours(budget, newLogHours);
         return converter.convertToResponseDTO(saved);
     }
 
-    private double calculateHours(java.time.LocalDateTime startTime, java.time.LocalDateTime endTime) {
+    private double calculateHours(LocalDateTime startTime, LocalDateTime endTime) {
         if (startTime == null || endTime == null) {
             return 0.0;
         }
@@ -125,32 +136,48 @@ public class TimeLogService {
         return converter.convertToResponseDTO(timeLog);
     }
 
-    public List<TimeLogResponseDTO> getAllTimeLogs() {
-        return timeLogRepository.findAll().stream()
-                .map(converter::convertToResponseDTO)
-                .collect(Collectors.toList());
+    /**
+     * Time logs newest first, optionally restricted to one employee and a date range (inclusive)
+     */
+    @Transactional(readOnly = true)
+    public Page<TimeLogResponseDTO> getTimeLogs(Long employeeId, LocalDate from, LocalDate to, int page, int size) {
+        LocalDateTime start = from != null ? from.atStartOfDay() : EARLIEST;
+        LocalDateTime end = to != null ? to.plusDays(1).atStartOfDay() : LATEST;
+        if (!end.isAfter(start)) {
+            throw new IllegalArgumentException("The to date must not be before the from date");
+        }
+        Pageable pageable = pageRequest(page, size);
+        Page<TimeLogRowProjection> rows = employeeId != null
+                ? timeLogRepository.findPageByEmployeeId(employeeId, start, end, pageable)
+                : timeLogRepository.findPageByStartTimeRange(start, end, pageable);
+        return rows.map(converter::convertRowToResponseDTO);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<TimeLogResponseDTO> getTimeLogsByProject(Long projectId, int page, int size) {
+        if (!projectRepository.existsById(projectId)) {
+            throw new ResourceNotFoundException("Project not found with id " + projectId);
+        }
+        return timeLogRepository.findPageByProjectId(projectId, pageRequest(page, size))
+                .map(converter::convertRowToResponseDTO);
     }
 
     public TimeLogResponseDTO updateTimeLog(Long id, UpdateTimeLogDTO dto) {
-        TimeLog timeLog = timeLogRepository.findById(id)
+        TimeLog timeLog = timeLogRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new ResourceNotFoundException("TimeLog not found with id " + id));
         
-        // If start time or end time is being updated, validate against estimated hours
-        if (dto.getStartTime() != null || dto.getEndTime() != null) {
-            java.time.LocalDateTime newStartTime = dto.getStartTime() != null ? dto.getStartTime() : timeLog.getStartTime();
-            java.time.LocalDateTime newEndTime = dto.getEndTime() != null ? dto.getEndTime() : timeLog.getEndTime();
+        // If start time or end time is being updated on a project log, validate against estimated hours
+        if ((dto.getStartTime() != null || dto.getEndTime() != null) && timeLog.getProject() != null) {
+            LocalDateTime newStartTime = dto.getStartTime() != null ? dto.getStartTime() : timeLog.getStartTime();
+            LocalDateTime newEndTime = dto.getEndTime() != null ? dto.getEndTime() : timeLog.getEndTime();
             
             double newLogHours = calculateHours(newStartTime, newEndTime);
             double oldLogHours = timeLog.getHoursWorked();
             
-            // Get total logged hours for the project (excluding this time log)
-            Double totalLoggedHours = timeLogRepository.getTotalLoggedHoursByProjectId(timeLog.getProject().getProjectId());
-            totalLoggedHours -= oldLogHours; // Subtract the old hours
-            
-            // Calculate total estimated hours
-            int totalEstimatedHours = timeLog.getProject().getTasks().stream()
-                    .mapToInt(Task::getEstimatedHours)
-                    .sum();
+            // Total logged hours for the project excluding this time log
+            ProjectTimeBudget budget = lockBudget(timeLog.getProject().getProjectId());
+            double totalLoggedHours = budget.getLoggedHours() - oldLogHours;
+            int totalEstimatedHours = budget.getEstimatedHours();
             
             // Check if updating would exceed estimated hours
             double totalAfterUpdate = totalLoggedHours + newLogHours;
@@ -165,6 +192,7 @@ public class TimeLogService {
                     )
                 );
             }
+            addLoggedHours(budget, newLogHours - oldLogHours);
         }
         
         converter.updateEntityFromDTO(timeLog, dto);
@@ -172,23 +200,22 @@ public class TimeLogService {
     }
 
     public void deleteTimeLog(Long id) {
-        if (!timeLogRepository.existsById(id)) {
-            throw new ResourceNotFoundException("TimeLog not found with id " + id);
+        TimeLog timeLog = timeLogRepository.findByIdForUpdate(id)
+                .orElseThrow(() -> new ResourceNotFoundException("TimeLog not found with id " + id));
+        if (timeLog.getProject() != null) {
+            addLoggedHours(lockBudget(timeLog.getProject().getProjectId()), -timeLog.getHoursWorked());
         }
-        timeLogRepository.deleteById(id);
+        timeLogRepository.delete(timeLog);
     }
 
     public ProjectTimeLogSummaryDTO getProjectTimeLogSummary(Long projectId) {
-        Project project = projectRepository.findById(projectId)
+        // Single-row read of the running totals; projects that predate them are summed without creating the row
+        ProjectTimeBudgetProjection budget = projectTimeBudgetRepository.findSummary(projectId)
+                .or(() -> projectTimeBudgetRepository.computeSummary(projectId))
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with id " + projectId));
 
-        // Calculate total estimated hours from all tasks in the project
-        int totalEstimatedHours = project.getTasks().stream()
-                .mapToInt(Task::getEstimatedHours)
-                .sum();
-
-        // Get total logged hours
-        Double totalLoggedHours = timeLogRepository.getTotalLoggedHoursByProjectId(projectId);
+        int totalEstimatedHours = budget.getEstimatedHours();
+        double totalLoggedHours = budget.getLoggedHours();
 
         // Calculate remaining hours
         double remainingHours = totalEstimatedHours - totalLoggedHours;
@@ -203,7 +230,7 @@ public class TimeLogService {
 
         return ProjectTimeLogSummaryDTO.builder()
                 .projectId(projectId)
-                .projectName(project.getName())
+                .projectName(budget.getProjectName())
                 .totalEstimatedHours(totalEstimatedHours)
                 .totalLoggedHours(Math.round(totalLoggedHours * 100.0) / 100.0)
                 .remainingHours(Math.round(remainingHours * 100.0) / 100.0)
@@ -212,15 +239,33 @@ public class TimeLogService {
                 .build();
     }
 
-    public List<TimeLogResponseDTO> getTimeLogsByAppointment(Long appointmentId) {
-        // Verify appointment exists
-        appointmentRepository.findById(appointmentId)
-                .orElseThrow(() -> new ResourceNotFoundException("Appointment not found with id " + appointmentId));
+    @Transactional(readOnly = true)
+    public Page<TimeLogResponseDTO> getTimeLogsByAppointment(Long appointmentId, int page, int size) {
+        if (!appointmentRepository.existsById(appointmentId)) {
+            throw new ResourceNotFoundException("Appointment not found with id " + appointmentId);
+        }
+        return timeLogRepository.findPageByAppointmentId(appointmentId, pageRequest(page, size))
+                .map(converter::convertRowToResponseDTO);
+    }
+
+    // Ordering is fixed by the queries (newest first), so only the page bounds come from the caller
+    private static Pageable pageRequest(int page, int size) {
+        return PageRequest.of(Math.max(0, page), Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+    }
+
+    // Lock the project's running totals, creating the row on first use
+    private ProjectTimeBudget lockBudget(Long projectId) {
+        return projectTimeBudgetRepository.findByIdForUpdate(projectId)
+                .or(() -> {
+                    projectTimeBudgetRepository.initialize(projectId);
+                    return projectTimeBudgetRepository.findByIdForUpdate(projectId);
+                })
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found with id " + projectId));
+    }
 
-        // Get all time logs for this appointment
-        return timeLogRepository.findAll().stream()
-                .filter(log -> log.getAppointment() != null && log.getAppointment().getAppointmentId().equals(appointmentId))
-                .map(converter::convertToResponseDTO)
-                .collect(Collectors.toList());
+    // The budget is managed and locked, so the new total is written when the transaction commits
+    private void addLoggedHours(ProjectTimeBudget budget, double hours) {
+        budget.setLoggedHours(Math.max(0.0, Math.round((budget.getLoggedHours() + hours) * 100.0) / 100.0));
+        budget.setUpdatedAt(LocalDateTime.now());
     }
 }
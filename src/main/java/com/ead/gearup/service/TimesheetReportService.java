@@ -0,0 +1,292 @@
+package com.ead.gearup.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ead.gearup.dto.settings.ShopSettingsDTO;
+import com.ead.gearup.dto.timelog.EmployeeTimesheetDTO;
+import com.ead.gearup.dto.timelog.TimesheetRowProjection;
+import com.ead.gearup.enums.MetricGranularity;
+import com.ead.gearup.repository.TimeLogRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Employee timesheet and utilisation report. Hours are aggregated per employee and period in SQL
+ * and read through a forward-only cursor; each row is completed with the shop's available hours
+ * (opening hours on operating days that are not closed dates) and handed on immediately, so
+ * exports never hold the whole report in memory.
+ */
+@Service
+public class TimesheetReportService {
+
+    private static final String CSV_HEADER = "employee_id,employee_name,period_start,period_end,logged_hours,"
+            + "available_hours,utilization_percent,project_hours,appointment_hours,billable_hours,"
+            + "non_billable_hours,overtime_hours,log_count";
+
+    private final TimeLogRepository timeLogRepository;
+    private final ShopSettingsService shopSettingsService;
+    private final ObjectWriter jsonRowWriter;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final long maxRangeDays;
+
+    public TimesheetReportService(TimeLogRepository timeLogRepository,
+                                  ShopSettingsService shopSettingsService,
+                                  ObjectMapper objectMapper,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${reports.timesheet.max-range-days:366}") long maxRangeDays) {
+        this.timeLogRepository = timeLogRepository;
+        this.shopSettingsService = shopSettingsService;
+        this.objectMapper = objectMapper;
+        // Rows are flushed by the output buffer, not one by one
+        this.jsonRowWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.maxRangeDays = maxRangeDays;
+    }
+
+    /**
+     * Get the timesheet report
+     *
+     * @param from        First day of the range (inclusive)
+     * @param to          Last day of the range (inclusive)
+     * @param granularity Period size
+     * @param employeeId  Restrict to one employee; null for everyone
+     */
+    public List<EmployeeTimesheetDTO> getReport(LocalDate from, LocalDate to, MetricGranularity granularity,
+                                                Long employeeId) {
+        List<EmployeeTimesheetDTO> rows = new ArrayList<>();
+        forEachRow(from, to, granularity, employeeId, rows::add);
+        return rows;
+    }
+
+    /**
+     * Stream the report as CSV, one line per employee and period
+     */
+    public void writeCsv(LocalDate from, LocalDate to, MetricGranularity granularity, Long employeeId,
+                         OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        try {
+            forEachRow(from, to, granularity, employeeId, row -> {
+                try {
+                    writer.write(toCsvLine(row));
+                    writer.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    /**
+     * Stream the report as a JSON array of rows
+     */
+    public void writeJson(LocalDate from, LocalDate to, MetricGranularity granularity, Long employeeId,
+                          OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        // The caller owns the stream
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.writeStartArray();
+        try {
+            forEachRow(from, to, granularity, employeeId, row -> {
+                try {
+                    jsonRowWriter.writeValue(generator, row);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        generator.writeEndArray();
+        generator.close();
+    }
+
+    /**
+     * Reject an invalid range before any output is written
+     */
+    public void validateRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Both from and to dates are required");
+        }
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("The to date must not be before the from date");
+        }
+        if (ChronoUnit.DAYS.between(from, to) > maxRangeDays) {
+            throw new IllegalArgumentException("Date range must not exceed " + maxRangeDays + " days");
+        }
+    }
+
+    // Private helper methods
+
+    private void forEachRow(LocalDate from, LocalDate to, MetricGranularity granularity, Long employeeId,
+                            Consumer<EmployeeTimesheetDTO> consumer) {
+        validateRange(from, to);
+        ShopCalendar calendar = new ShopCalendar(shopSettingsService.getShopSettings(), from, to, granularity);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<TimesheetRowProjection> rows = timeLogRepository.streamTimesheet(
+                    from.atStartOfDay(),
+                    to.plusDays(1).atStartOfDay(),
+                    employeeId,
+                    granularity.name().toLowerCase(Locale.ROOT),
+                    calendar.operatingDays(),
+                    calendar.closedDates(),
+                    calendar.dailyHours())) {
+                rows.forEach(row -> consumer.accept(toDTO(row, calendar)));
+            }
+        });
+    }
+
+    private static EmployeeTimesheetDTO toDTO(TimesheetRowProjection row, ShopCalendar calendar) {
+        double availableHours = calendar.availableHours(row.getPeriodStart());
+        return EmployeeTimesheetDTO.builder()
+                .employeeId(row.getEmployeeId())
+                .employeeName(row.getEmployeeName())
+                .periodStart(calendar.clipStart(row.getPeriodStart()))
+                .periodEnd(calendar.periodEnd(row.getPeriodStart()))
+                .loggedHours(round(row.getLoggedHours()))
+                .availableHours(round(availableHours))
+                .utilizationPercent(availableHours > 0 ? round(row.getLoggedHours() / availableHours * 100) : null)
+                .projectHours(round(row.getProjectHours()))
+                .appointmentHours(round(row.getAppointmentHours()))
+                .billableHours(round(row.getBillableHours()))
+                .nonBillableHours(round(row.getLoggedHours() - row.getBillableHours()))
+                .overtimeHours(round(row.getOvertimeHours()))
+                .logCount(row.getLogCount())
+                .build();
+    }
+
+    private static String toCsvLine(EmployeeTimesheetDTO row) {
+        return String.join(",",
+                String.valueOf(row.getEmployeeId()),
+                csvField(row.getEmployeeName()),
+                row.getPeriodStart().toString(),
+                row.getPeriodEnd().toString(),
+                String.valueOf(row.getLoggedHours()),
+                String.valueOf(row.getAvailableHours()),
+                row.getUtilizationPercent() != null ? String.valueOf(row.getUtilizationPercent()) : "",
+                String.valueOf(row.getProjectHours()),
+                String.valueOf(row.getAppointmentHours()),
+                String.valueOf(row.getBillableHours()),
+                String.valueOf(row.getNonBillableHours()),
+                String.valueOf(row.getOvertimeHours()),
+                String.valueOf(row.getLogCount()));
+    }
+
+    private static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    /**
+     * Working calendar of the shop for one report. The global open/closed switch is not
+     * historical, so only operating days and closed dates are taken into account.
+     */
+    static final class ShopCalendar {
+
+        private final LocalDate from;
+        private final LocalDate to;
+        private final MetricGranularity granularity;
+        // Day numbers as stored in the settings: 0 = Sunday ... 6 = Saturday
+        private final Set<Integer> operatingDays;
+        private final Set<LocalDate> closedDates = new TreeSet<>();
+        private final double dailyHours;
+        // Every employee shares the same periods, so each is counted once
+        private final Map<LocalDate, Double> availableHoursByPeriod = new HashMap<>();
+
+        ShopCalendar(ShopSettingsDTO settings, LocalDate from, LocalDate to, MetricGranularity granularity) {
+            this.from = from;
+            this.to = to;
+            this.granularity = granularity;
+            this.operatingDays = settings.getOperatingDays() != null ? new TreeSet<>(settings.getOperatingDays()) : Set.of();
+            if (settings.getClosedDates() != null) {
+                settings.getClosedDates().forEach(date -> closedDates.add(LocalDate.parse(date)));
+            }
+            long minutes = settings.getOpeningTime() != null && settings.getClosingTime() != null
+                    ? Duration.between(settings.getOpeningTime(), settings.getClosingTime()).toMinutes()
+                    : 0;
+            this.dailyHours = Math.max(0, minutes) / 60.0;
+        }
+
+        String operatingDays() {
+            return operatingDays.stream().map(String::valueOf).collect(Collectors.joining(","));
+        }
+
+        String closedDates() {
+            return closedDates.stream().map(LocalDate::toString).collect(Collectors.joining(","));
+        }
+
+        double dailyHours() {
+            return dailyHours;
+        }
+
+        LocalDate clipStart(LocalDate periodStart) {
+            return periodStart.isBefore(from) ? from : periodStart;
+        }
+
+        LocalDate periodEnd(LocalDate periodStart) {
+            LocalDate end = switch (granularity) {
+                case DAY -> periodStart;
+                case WEEK -> periodStart.plusWeeks(1).minusDays(1);
+                case MONTH -> periodStart.plusMonths(1).minusDays(1);
+            };
+            return end.isAfter(to) ? to : end;
+        }
+
+        double availableHours(LocalDate periodStart) {
+            return availableHoursByPeriod.computeIfAbsent(periodStart, start -> {
+                long workingDays = clipStart(start).datesUntil(periodEnd(start).plusDays(1))
+                        .filter(this::isWorkingDay)
+                        .count();
+                return workingDays * dailyHours;
+            });
+        }
+
+        private boolean isWorkingDay(LocalDate date) {
+            DayOfWeek dayOfWeek = date.getDayOfWeek();
+            return operatingDays.contains(dayOfWeek.getValue() % 7) && !closedDates.contains(date);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.ead.gearup.service;
+
+import com.ead.gearup.repository.NotificationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory per-user unread notification counters backed by the notifications table.
+ * Counters are loaded on first read, adjusted incrementally after each committed write,
+ * pushed to connected clients over SSE and periodically reconciled against the database.
+ */
+@Slf4j
+@Service
+public class UnreadNotificationCounter {
+
+    private static final int RECONCILE_CHUNK_SIZE = 500;
+
+    private final NotificationRepository notificationRepository;
+    private final SseConnectionManager sseConnectionManager;
+    private final long idleEvictionMillis;
+
+    private final ConcurrentHashMap<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public UnreadNotificationCounter(
+            NotificationRepository notificationRepository,
+            SseConnectionManager sseConnectionManager,
+            @Value("${notification.unread-count.idle-eviction-seconds:1800}") long idleEvictionSeconds) {
+        this.notificationRepository = notificationRepository;
+        this.sseConnectionManager = sseConnectionManager;
+        this.idleEvictionMillis = idleEvictionSeconds * 1000L;
+    }
+
+    // Get the unread count for a user, loading it from the database on a miss
+    public long get(String userId) {
+        Counter counter = counters.computeIfAbsent(userId,
+                id -> new Counter(notificationRepository.countByUserIdAndIsReadFalse(id)));
+        counter.lastAccess = System.currentTimeMillis();
+        return counter.value;
+    }
+
+    // Adjust a user's unread count by delta once the current transaction commits
+    public void adjust(String userId, long delta) {
+        if (delta != 0) {
+            afterCommit(() -> applyDelta(userId, delta));
+        }
+    }
+
+    // Reset a user's unread count to zero once the current transaction commits
+    public void reset(String userId) {
+        afterCommit(() -> {
+            Counter counter = counters.computeIfPresent(userId, (id, current) -> current.withValue(0));
+            if (counter != null) {
+                publish(userId, counter);
+            } else if (sseConnectionManager.getConnectionCount(userId) > 0) {
+                sseConnectionManager.sendUnreadCount(userId, 0);
+            }
+        });
+    }
+
+    // Re-count all cached users against the database and evict idle entries
+    @Scheduled(fixedDelayString = "${notification.unread-count.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        long now = System.currentTimeMillis();
+        counters.entrySet().removeIf(entry -> now - entry.getValue().lastAccess > idleEvictionMillis
+                && sseConnectionManager.getConnectionCount(entry.getKey()) == 0);
+
+        List<String> userIds = new ArrayList<>(counters.keySet());
+        int corrected = 0;
+
+        for (int from = 0; from < userIds.size(); from += RECONCILE_CHUNK_SIZE) {
+            List<String> chunk = userIds.subList(from, Math.min(from + RECONCILE_CHUNK_SIZE, userIds.size()));
+
+            Map<String, Long> actual = new HashMap<>();
+            for (Object[] row : notificationRepository.countUnreadGroupedByUserId(chunk)) {
+                actual.put((String) row[0], ((Number) row[1]).longValue());
+            }
+
+            for (String userId : chunk) {
+                long expected = actual.getOrDefault(userId, 0L);
+                Counter before = counters.get(userId);
+                if (before != null && before.value != expected) {
+                    Counter after = counters.computeIfPresent(userId, (id, current) -> current.withValue(expected));
+                    publish(userId, after);
+                    corrected++;
+                }
+            }
+        }
+
+        if (!userIds.isEmpty()) {
+            log.debug("Reconciled {} unread counter(s), corrected {}", userIds.size(), corrected);
+        }
+    }
+
+    private void applyDelta(String userId, long delta) {
+        Counter counter = counters.computeIfPresent(userId,
+                (id, current) -> current.withValue(Math.max(0, current.value + delta)));
+
+        if (counter == null && sseConnectionManager.getConnectionCount(userId) > 0) {
+            // Not cached yet, but someone is listening: load the committed value and push it
+            get(userId);
+            counter = counters.get(userId);
+        }
+        publish(userId, counter);
+    }
+
+    private void publish(String userId, Counter counter) {
+        if (counter != null) {
+            sseConnectionManager.sendUnreadCount(userId, counter.value);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static final class Counter {
+        private final long value;
+        private volatile long lastAccess;
+
+        private Counter(long value) {
+            this.value = value;
+            this.lastAccess = System.currentTimeMillis();
+        }
+
+        private Counter withValue(long newValue) {
+            Counter updated = new Counter(newValue);
+            updated.lastAccess = lastAccess;
+            return updated;
+        }
+    }
+}
@@ -47,6 +47,15 @@ public class CurrentUserService {
         return getCurrentUser().getRole();
     }
 
+    /**
+     * Get the current employee's ID straight from the authenticated user's ID, in one query
+     */
+    public Long getCurrentEmployeeId() {
+        Long userId = getCurrentUserId();
+        return employeeRepository.findEmployeeIdByUserId(userId)
+                .orElseThrow(() -> new UserNotFoundException("Employee not found for user ID: " + userId));
+    }
+
     /*
      * Get the current user's role-specific entity ID
      * The entity ID (customerId, employeeId, or userId for admin),
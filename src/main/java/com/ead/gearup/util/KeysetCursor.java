@@ -0,0 +1,40 @@
+package com.ead.gearup.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor for feeds ordered by (createdAt DESC, id DESC). Repositories continue
+ * strictly after the position with
+ * {@code createdAt < :cursorCreatedAt OR (createdAt = :cursorCreatedAt AND id < :cursorId)}.
+ */
+public record KeysetCursor(LocalDateTime createdAt, Long id) {
+
+    // Encode the position as a URL-safe string
+    public String encode() {
+        String position = createdAt.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Encode the (createdAt, id) position of a row
+    public static String encode(LocalDateTime createdAt, Long id) {
+        return new KeysetCursor(createdAt, id).encode();
+    }
+
+    // Decode a cursor, rejecting anything malformed with the given message
+    public static KeysetCursor decode(String cursor, String invalidMessage) {
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = position.split("\\|");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException(invalidMessage);
+            }
+            return new KeysetCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException(invalidMessage, e);
+        }
+    }
+}
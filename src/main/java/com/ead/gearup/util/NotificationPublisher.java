@@ -1,5 +1,6 @@
 package com.ead.gearup.util;
 
+import com.ead.gearup.enums.UserRole;
 import com.ead.gearup.event.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -38,6 +39,12 @@ public class NotificationPublisher {
         eventPublisher.publishEvent(new SystemNotificationEvent(this, userId, title, message));
     }
 
+    // Publish a notification to every user holding a role (recipients resolved by the listener)
+    public void publishRoleNotification(UserRole role, String title, String message, String type) {
+        log.debug("Publishing {} notification for role: {}", type, role);
+        eventPublisher.publishEvent(new RoleNotificationEvent(this, role, title, message, type));
+    }
+
     // Publish a custom notification
     public void publishCustomNotification(String userId, String title, String message, String type) {
         log.debug("Publishing custom notification for user: {} with type: {}", userId, type);
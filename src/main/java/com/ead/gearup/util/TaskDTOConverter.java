@@ -2,6 +2,7 @@ package com.ead.gearup.util;
 
 import com.ead.gearup.dto.task.TaskCreateDTO;
 import com.ead.gearup.dto.task.TaskResponseDTO;
+import com.ead.gearup.dto.task.TaskRowProjection;
 import com.ead.gearup.dto.task.TaskUpdateDTO;
 import com.ead.gearup.exception.EmployeeNotFoundException;
 import com.ead.gearup.model.Task;
@@ -68,6 +69,23 @@ public class TaskDTOConverter {
         return dto;
     }
 
+    // Convert a listing row to Response DTO
+    public TaskResponseDTO convertRowToResponseDto(TaskRowProjection row) {
+        return new TaskResponseDTO(
+                row.getTaskId(),
+                row.getAppointmentId(),
+                row.getName(),
+                row.getDescription(),
+                row.getEstimatedHours(),
+                row.getEstimatedCost(),
+                row.getStatus(),
+                row.getCategory(),
+                row.getPriority(),
+                row.getNotes(),
+                row.getRequestedBy(),
+                row.getCreatedAt());
+    }
+
     // Update Task entity from TaskUpdateDTO (partial update)
     public Task updateEntityFromDto(Task task, TaskUpdateDTO dto) {
         if (dto.getName() != null) {
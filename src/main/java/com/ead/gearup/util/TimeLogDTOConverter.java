@@ -6,6 +6,7 @@ import org.springframework.stereotype.Component;
 
 import com.ead.gearup.dto.timelog.CreateTimeLogDTO;
 import com.ead.gearup.dto.timelog.TimeLogResponseDTO;
+import com.ead.gearup.dto.timelog.TimeLogRowProjection;
 import com.ead.gearup.dto.timelog.UpdateTimeLogDTO;
 import com.ead.gearup.model.Employee;
 import com.ead.gearup.model.Task;
@@ -69,6 +70,25 @@ public class TimeLogDTOConverter {
         return responseDTO;
     }
 
+    // Convert list row (details already joined) -> Response DTO
+    public TimeLogResponseDTO convertRowToResponseDTO(TimeLogRowProjection row) {
+        return new TimeLogResponseDTO(
+                row.getLogId(),
+                row.getDescription(),
+                row.getStartTime(),
+                row.getEndTime(),
+                row.getHoursWorked(),
+                row.getLoggedAt(),
+                row.getTaskId(),
+                row.getEmployeeId(),
+                row.getEmployeeName(),
+                row.getEmployeeEmail(),
+                row.getProjectId(),
+                row.getProjectName(),
+                row.getAppointmentId(),
+                row.getAppointmentDate() != null ? row.getAppointmentDate().toString() : null);
+    }
+
     // Update Entity from DTO
     public void updateEntityFromDTO(TimeLog timeLog, UpdateTimeLogDTO updateTimeLogDTO) {
         if (updateTimeLogDTO.getDescription() != null) {
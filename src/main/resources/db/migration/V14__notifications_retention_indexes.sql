@@ -0,0 +1,18 @@
+-- Partition-friendly indexes for notification reads and the retention job
+-- Notification declares full-index equivalents (idx_notifications_user_unread,
+-- idx_notifications_read_created_at) that schema updates create; these smaller partial forms use
+-- their own names so they can be added alongside them, and the planner prefers them for the
+-- unread and retention queries.
+
+-- Unread lookups, unread counts and bulk mark-all-as-read only touch unread rows
+CREATE INDEX IF NOT EXISTS idx_notifications_user_unread_partial
+    ON notifications(user_id, created_at DESC)
+    WHERE is_read = FALSE;
+
+-- The retention job deletes read rows in created_at order, in bounded batches
+CREATE INDEX IF NOT EXISTS idx_notifications_read_created_at_partial
+    ON notifications(created_at)
+    WHERE is_read = TRUE;
+
+COMMENT ON INDEX idx_notifications_read_created_at_partial IS
+    'Supports batched retention deletes; keep if notifications is later range-partitioned by created_at';
@@ -0,0 +1,5 @@
+-- Composite index for keyset (cursor) pagination of a user's notification history.
+-- Matches ORDER BY created_at DESC, id DESC so each slice is an index range scan;
+-- type / is_read filters are applied while walking the same index order.
+CREATE INDEX IF NOT EXISTS idx_user_created_id
+    ON notifications(user_id, created_at DESC, id DESC);
@@ -0,0 +1,12 @@
+-- Composite indexes for keyset (cursor) pagination of chat history.
+-- Both match ORDER BY created_at DESC, id DESC, so each slice is an index range scan
+-- instead of sorting every row a long-time user or session has ever produced.
+CREATE INDEX IF NOT EXISTS idx_chat_history_user_created_id
+    ON chat_history(user_id, created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_chat_history_session_created_id
+    ON chat_history(session_id, created_at DESC, id DESC);
+
+-- The single-column indexes are now covered by the leading column of the composites
+DROP INDEX IF EXISTS idx_chat_history_user_id;
+DROP INDEX IF EXISTS idx_chat_history_session_id;
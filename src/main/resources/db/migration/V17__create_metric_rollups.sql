@@ -0,0 +1,17 @@
+-- Daily rollups of project and appointment status transitions for the analytics API.
+-- Rows are upserted incrementally as transitions commit; employee_id 0 holds the total
+-- across all employees so unfiltered series never need to add up per-employee rows.
+CREATE TABLE IF NOT EXISTS metric_rollups (
+    bucket_date          DATE             NOT NULL,
+    subject              VARCHAR(20)      NOT NULL,
+    status               VARCHAR(50)      NOT NULL,
+    employee_id          BIGINT           NOT NULL,
+    event_count          BIGINT           NOT NULL DEFAULT 0,
+    duration_seconds_sum BIGINT           NOT NULL DEFAULT 0,
+    revenue_sum          DOUBLE PRECISION NOT NULL DEFAULT 0,
+    PRIMARY KEY (bucket_date, subject, status, employee_id)
+);
+
+-- Series lookups filter on subject, employee and status, then range-scan days
+CREATE INDEX IF NOT EXISTS idx_metric_rollups_series
+    ON metric_rollups(subject, employee_id, status, bucket_date);
@@ -0,0 +1,13 @@
+-- Indexes behind the customer dashboard read model
+
+-- Appointment counts, next date and recent appointment activity of one customer
+CREATE INDEX IF NOT EXISTS idx_appointment_customer_date
+    ON appointment(customer_id, date);
+
+-- Next booked and last completed service per vehicle
+CREATE INDEX IF NOT EXISTS idx_appointment_vehicle_date
+    ON appointment(vehicle_id, date);
+
+-- Ongoing projects and project update activity of one customer
+CREATE INDEX IF NOT EXISTS idx_projects_customer_status
+    ON projects(customer_id, status);
@@ -0,0 +1,21 @@
+-- Running totals of estimated and logged hours per project, locked by time-log writes
+CREATE TABLE IF NOT EXISTS project_time_budgets (
+    project_id      BIGINT PRIMARY KEY REFERENCES projects(project_id) ON DELETE CASCADE,
+    estimated_hours INTEGER NOT NULL DEFAULT 0,
+    logged_hours    DOUBLE PRECISION NOT NULL DEFAULT 0,
+    updated_at      TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+-- Backfill from existing tasks and time logs; rows missing later are created on first use
+INSERT INTO project_time_budgets (project_id, estimated_hours, logged_hours, updated_at)
+SELECT p.project_id,
+       COALESCE((SELECT SUM(t.estimated_hours)
+                 FROM project_tasks pt
+                 JOIN task t ON t.task_id = pt.task_id
+                 WHERE pt.project_id = p.project_id), 0),
+       COALESCE((SELECT SUM(tl.hours_worked)
+                 FROM time_logs tl
+                 WHERE tl.project_id = p.project_id), 0),
+       NOW()
+FROM projects p
+ON CONFLICT (project_id) DO NOTHING;
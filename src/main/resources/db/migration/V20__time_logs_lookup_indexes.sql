@@ -0,0 +1,14 @@
+-- Indexes for paginated time-log lists, newest first
+-- Each list filters on one reference and orders by start_time, so these are range scans in order
+
+CREATE INDEX IF NOT EXISTS idx_time_logs_appointment_start
+    ON time_logs(appointment_id, start_time DESC);
+
+CREATE INDEX IF NOT EXISTS idx_time_logs_project_start
+    ON time_logs(project_id, start_time DESC);
+
+CREATE INDEX IF NOT EXISTS idx_time_logs_employee_start
+    ON time_logs(employee_id, start_time DESC);
+
+CREATE INDEX IF NOT EXISTS idx_time_logs_start
+    ON time_logs(start_time DESC);
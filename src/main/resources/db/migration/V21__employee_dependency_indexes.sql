@@ -0,0 +1,16 @@
+-- Indexes behind the employee dependency check (time_logs and project_updates are already covered)
+
+CREATE INDEX IF NOT EXISTS idx_appointment_mechanic_status
+    ON appointment(mechanic_id, status);
+
+CREATE INDEX IF NOT EXISTS idx_task_employee_status
+    ON task(employee_id, status);
+
+CREATE INDEX IF NOT EXISTS idx_project_assigned_employees_employee
+    ON project_assigned_employees(employee_id);
+
+CREATE INDEX IF NOT EXISTS idx_projects_main_representative
+    ON projects(main_representative_employee_id);
+
+CREATE INDEX IF NOT EXISTS idx_projects_created_by
+    ON projects(created_by);
@@ -0,0 +1,12 @@
+-- Indexes behind the role-scoped task listings
+
+-- Tasks of a customer's or employee's projects and appointments
+CREATE INDEX IF NOT EXISTS idx_task_project
+    ON task(project_id);
+
+CREATE INDEX IF NOT EXISTS idx_task_appointment
+    ON task(appointment_id);
+
+-- Newest-first admin listing, optionally filtered by status
+CREATE INDEX IF NOT EXISTS idx_task_status_created
+    ON task(status, created_at DESC, task_id DESC);
@@ -0,0 +1,29 @@
+package com.ead.gearup;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.context.ActiveProfiles;
+
+// The application must start while Redis is unreachable; the Redis tier degrades instead
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:noredis;DB_CLOSE_DELAY=-1;MODE=PostgreSQL;NON_KEYWORDS=YEAR,VALUE,USER",
+		"spring.data.redis.host=localhost",
+		"spring.data.redis.port=1",
+		"chatbot.python.service.url=http://localhost:1"
+})
+@ActiveProfiles("test")
+class GearupApplicationWithoutRedisTests {
+
+	@Autowired
+	private RedisMessageListenerContainer redisMessageListenerContainer;
+
+	@Test
+	void contextLoadsWithoutRedis() {
+		assertFalse(redisMessageListenerContainer.isListening());
+	}
+
+}
@@ -0,0 +1,205 @@
+package com.ead.gearup.integration.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.ead.gearup.config.ChatbotResilienceFilter;
+import com.ead.gearup.config.ChatbotResilienceProperties;
+import com.ead.gearup.config.RateLimitConfig;
+import com.ead.gearup.config.WebClientConfig;
+import com.ead.gearup.controller.ChatbotProxyController;
+import com.ead.gearup.dto.chatbot.ChatRequest;
+import com.ead.gearup.repository.UserRepository;
+import com.ead.gearup.service.AuditLogService;
+import com.ead.gearup.service.ChatbotStreamProxyService;
+import com.ead.gearup.service.CustomerService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+/**
+ * Load test for ChatbotProxyController against a deliberately slow mock chatbot backend.
+ * Both runs get the same number of request threads (standing in for Tomcat workers):
+ * "before" holds each thread for the whole upstream call, as the old .block() code did;
+ * "after" returns the Mono and frees the thread immediately.
+ * Timing-based, so tagged "load" and excluded from the default test run (mvn test -Pload runs it).
+ */
+@Tag("load")
+class ChatbotProxyLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ChatbotProxyLoadTest.class);
+
+    private static final int REQUEST_THREADS = 10;
+    private static final int CONCURRENT_CHATS = 60;
+    private static final long BACKEND_DELAY_MS = 400;
+
+    private MockWebServer slowBackend;
+    private ChatbotProxyController controller;
+    private ExecutorService requestThreads;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        slowBackend = new MockWebServer();
+        slowBackend.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                return new MockResponse()
+                        .setHeader("Content-Type", "application/json")
+                        .setBody("{\"answer\":\"Your appointment is tomorrow\"}")
+                        .setHeadersDelay(BACKEND_DELAY_MS, TimeUnit.MILLISECONDS);
+            }
+        });
+        slowBackend.start();
+        String backendUrl = slowBackend.url("/").toString().replaceAll("/$", "");
+
+        WebClientConfig webClientConfig = new WebClientConfig();
+        ReflectionTestUtils.setField(webClientConfig, "pythonServiceUrl", backendUrl);
+        ReflectionTestUtils.setField(webClientConfig, "timeoutSeconds", 30);
+        ReflectionTestUtils.setField(webClientConfig, "maxConnections", 200);
+        ReflectionTestUtils.setField(webClientConfig, "pendingAcquireMaxCount", 1000);
+        ReflectionTestUtils.setField(webClientConfig, "pendingAcquireTimeoutSeconds", 5);
+        ChatbotResilienceProperties resilienceProperties = new ChatbotResilienceProperties();
+        resilienceProperties.setMaxConcurrentCalls(CONCURRENT_CHATS);
+        WebClient chatbotWebClient = webClientConfig.chatbotWebClient(
+                new ChatbotResilienceFilter(resilienceProperties, new SimpleMeterRegistry()));
+
+        CustomerService customerService = mock(CustomerService.class);
+        when(customerService.getCustomerIdByEmail(anyString())).thenReturn(1L);
+        RateLimitConfig rateLimitConfig = mock(RateLimitConfig.class);
+        when(rateLimitConfig.tryConsume(anyString())).thenReturn(true);
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findByEmail(anyString())).thenReturn(Optional.empty());
+
+        controller = new ChatbotProxyController(chatbotWebClient, customerService, rateLimitConfig,
+                mock(AuditLogService.class), userRepository, mock(ChatbotStreamProxyService.class));
+        ReflectionTestUtils.setField(controller, "chatbotServiceUrl", backendUrl);
+
+        requestThreads = Executors.newFixedThreadPool(REQUEST_THREADS);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        requestThreads.shutdownNow();
+        slowBackend.shutdown();
+    }
+
+    @Test
+    void testConcurrentChatCapacity_BlockingVsNonBlocking() throws InterruptedException {
+        // Warm up the connection pool and codecs so neither run pays first-call costs
+        runNonBlocking(REQUEST_THREADS);
+
+        long blockingMillis = runBlocking(CONCURRENT_CHATS);
+        long nonBlockingMillis = runNonBlocking(CONCURRENT_CHATS);
+
+        log.info("{} chats, {} request threads, {}ms backend delay: blocking {}ms, non-blocking {}ms",
+                CONCURRENT_CHATS, REQUEST_THREADS, BACKEND_DELAY_MS, blockingMillis, nonBlockingMillis);
+
+        // Blocking is bounded by thread count: ceil(60 / 10) waves of 400ms. Non-blocking overlaps them all.
+        assertTrue(blockingMillis >= (CONCURRENT_CHATS / REQUEST_THREADS) * BACKEND_DELAY_MS * 9 / 10);
+        assertTrue(nonBlockingMillis * 2 < blockingMillis,
+                "Non-blocking run should be at least twice as fast as the blocking run");
+    }
+
+    // Old behaviour: each request thread waits for the upstream response
+    private long runBlocking(int chats) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(chats);
+        AtomicInteger failures = new AtomicInteger();
+        long start = System.currentTimeMillis();
+
+        for (int i = 0; i < chats; i++) {
+            int index = i;
+            requestThreads.submit(() -> {
+                try {
+                    authenticate(index);
+                    var response = controller.chat(chatRequest(), new MockHttpServletRequest(), "Bearer token")
+                            .block(Duration.ofSeconds(30));
+                    if (response == null || !response.getStatusCode().is2xxSuccessful()) {
+                        failures.incrementAndGet();
+                    }
+                } finally {
+                    SecurityContextHolder.clearContext();
+                    done.countDown();
+                }
+            });
+        }
+
+        assertTrue(done.await(60, TimeUnit.SECONDS));
+        assertEquals(0, failures.get());
+        return System.currentTimeMillis() - start;
+    }
+
+    // New behaviour: request threads hand back the Mono and are free for the next request
+    private long runNonBlocking(int chats) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(chats);
+        AtomicInteger failures = new AtomicInteger();
+        List<Throwable> errors = new ArrayList<>();
+        long start = System.currentTimeMillis();
+
+        for (int i = 0; i < chats; i++) {
+            int index = i;
+            requestThreads.submit(() -> {
+                try {
+                    authenticate(index);
+                    controller.chat(chatRequest(), new MockHttpServletRequest(), "Bearer token")
+                            .subscribe(response -> {
+                                if (!response.getStatusCode().is2xxSuccessful()) {
+                                    failures.incrementAndGet();
+                                }
+                                done.countDown();
+                            }, error -> {
+                                synchronized (errors) {
+                                    errors.add(error);
+                                }
+                                done.countDown();
+                            });
+                } finally {
+                    SecurityContextHolder.clearContext();
+                }
+            });
+        }
+
+        assertTrue(done.await(60, TimeUnit.SECONDS));
+        assertTrue(errors.isEmpty(), () -> "Unexpected errors: " + errors);
+        assertEquals(0, failures.get());
+        return System.currentTimeMillis() - start;
+    }
+
+    private void authenticate(int index) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("customer" + index + "@example.com", null, List.of()));
+    }
+
+    private ChatRequest chatRequest() {
+        return ChatRequest.builder()
+                .question("When is my appointment?")
+                .sessionId("load-test")
+                .build();
+    }
+}
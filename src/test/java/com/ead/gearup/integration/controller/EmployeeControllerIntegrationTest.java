@@ -22,6 +22,7 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
 import com.ead.gearup.dto.employee.CreateEmployeeDTO;
+import com.ead.gearup.dto.employee.EmployeeDependencyReportDTO;
 import com.ead.gearup.dto.employee.EmployeeResponseDTO;
 import com.ead.gearup.dto.employee.UpdateEmployeeDTO;
 import com.ead.gearup.exception.EmployeeNotFoundException;
@@ -204,9 +205,11 @@ class EmployeeControllerIntegrationTest {
     @WithMockUser(roles = "ADMIN")
     void testCheckEmployeeDependencies_Success() throws Exception {
         // Arrange
-        Map<String, Object> dependencies = new HashMap<>();
-        dependencies.put("projects", 5L);
-        dependencies.put("tasks", 10L);
+        EmployeeDependencyReportDTO dependencies = EmployeeDependencyReportDTO.builder()
+                .employeeId(1L)
+                .projectCount(5L)
+                .taskCount(10L)
+                .build();
 
         when(employeeService.checkEmployeeDependencies(1L)).thenReturn(dependencies);
 
@@ -214,7 +217,9 @@ class EmployeeControllerIntegrationTest {
         mockMvc.perform(get("/api/v1/employees/1/dependencies"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.status").value("success"))
-                .andExpect(jsonPath("$.message").value("Employee dependencies retrieved successfully"));
+                .andExpect(jsonPath("$.message").value("Employee dependencies retrieved successfully"))
+                .andExpect(jsonPath("$.data.projectCount").value(5))
+                .andExpect(jsonPath("$.data.canDelete").value(false));
 
         verify(employeeService, times(1)).checkEmployeeDependencies(1L);
     }
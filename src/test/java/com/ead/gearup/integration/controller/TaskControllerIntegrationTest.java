@@ -15,6 +15,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -130,31 +132,30 @@ class TaskControllerIntegrationTest {
     @WithMockUser(roles = "EMPLOYEE")
     void testGetAllTasks_Success() throws Exception {
         // Arrange
-        List<TaskResponseDTO> tasks = Arrays.asList(testTaskResponse);
-        when(taskService.getAllTasks()).thenReturn(tasks);
+        when(taskService.getTasks(null, 0, 20)).thenReturn(new PageImpl<>(List.of(testTaskResponse)));
 
         // Act & Assert
         mockMvc.perform(get("/api/v1/tasks"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.status").value("success"))
                 .andExpect(jsonPath("$.message").value("Task fetched successfully"))
-                .andExpect(jsonPath("$.data").isArray())
-                .andExpect(jsonPath("$.data[0].taskId").value(1));
+                .andExpect(jsonPath("$.data.content").isArray())
+                .andExpect(jsonPath("$.data.content[0].taskId").value(1));
 
-        verify(taskService, times(1)).getAllTasks();
+        verify(taskService, times(1)).getTasks(null, 0, 20);
     }
 
     @Test
     @WithMockUser(roles = "EMPLOYEE")
     void testGetAllTasks_EmptyList() throws Exception {
         // Arrange
-        when(taskService.getAllTasks()).thenReturn(Arrays.asList());
+        when(taskService.getTasks(null, 0, 20)).thenReturn(Page.empty());
 
         // Act & Assert
         mockMvc.perform(get("/api/v1/tasks"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.data").isArray())
-                .andExpect(jsonPath("$.data").isEmpty());
+                .andExpect(jsonPath("$.data.content").isArray())
+                .andExpect(jsonPath("$.data.content").isEmpty());
     }
 
     // ========== PATCH /api/v1/tasks/{id} ==========
@@ -8,7 +8,6 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
-import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,6 +15,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -115,31 +116,31 @@ class TimeLogControllerIntegrationTest {
     @WithMockUser(roles = "EMPLOYEE")
     void testGetAllTimeLogs_Success() throws Exception {
         // Arrange
-        List<TimeLogResponseDTO> timeLogs = Arrays.asList(testTimeLogResponse);
-        when(timeLogService.getAllTimeLogs()).thenReturn(timeLogs);
+        Page<TimeLogResponseDTO> timeLogs = new PageImpl<>(Arrays.asList(testTimeLogResponse));
+        when(timeLogService.getTimeLogs(null, null, null, 0, 20)).thenReturn(timeLogs);
 
         // Act & Assert
         mockMvc.perform(get("/api/v1/timelogs"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.status").value("success"))
                 .andExpect(jsonPath("$.message").value("Time logs retrieved successfully"))
-                .andExpect(jsonPath("$.data").isArray())
-                .andExpect(jsonPath("$.data[0].logId").value(1));
+                .andExpect(jsonPath("$.data.content").isArray())
+                .andExpect(jsonPath("$.data.content[0].logId").value(1));
 
-        verify(timeLogService, times(1)).getAllTimeLogs();
+        verify(timeLogService, times(1)).getTimeLogs(null, null, null, 0, 20);
     }
 
     @Test
     @WithMockUser(roles = "ADMIN")
     void testGetAllTimeLogs_EmptyList() throws Exception {
         // Arrange
-        when(timeLogService.getAllTimeLogs()).thenReturn(Arrays.asList());
+        when(timeLogService.getTimeLogs(null, null, null, 0, 20)).thenReturn(Page.empty());
 
         // Act & Assert
         mockMvc.perform(get("/api/v1/timelogs"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.data").isArray())
-                .andExpect(jsonPath("$.data").isEmpty());
+                .andExpect(jsonPath("$.data.content").isArray())
+                .andExpect(jsonPath("$.data.content").isEmpty());
     }
 
     // ========== GET /api/v1/timelogs/{id} ==========
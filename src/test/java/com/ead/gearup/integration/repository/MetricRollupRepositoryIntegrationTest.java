@@ -0,0 +1,125 @@
+package com.ead.gearup.integration.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ead.gearup.dto.analytics.MetricBucketProjection;
+import com.ead.gearup.enums.AppointmentStatus;
+import com.ead.gearup.enums.UserRole;
+import com.ead.gearup.model.Appointment;
+import com.ead.gearup.model.Customer;
+import com.ead.gearup.model.Employee;
+import com.ead.gearup.model.User;
+import com.ead.gearup.model.Vehicle;
+import com.ead.gearup.repository.MetricRollupRepository;
+import com.ead.gearup.service.MetricRollupWriter;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Runs the native rollup statements against the configured Postgres datasource;
+ * every test rolls back.
+ */
+@SpringBootTest
+@Transactional
+@SuppressWarnings("removal")
+class MetricRollupRepositoryIntegrationTest {
+
+    @Autowired
+    private MetricRollupRepository metricRollupRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    // Keep live deltas of the seeded rows out of the rollups under test
+    @MockBean
+    private MetricRollupWriter metricRollupWriter;
+
+    private Employee mechanic;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = String.valueOf(System.nanoTime());
+
+        mechanic = Employee.builder()
+                .user(User.builder().email("mechanic-" + suffix + "@rollup.test").name("Mechanic")
+                        .role(UserRole.EMPLOYEE).build())
+                .specialization("Engine")
+                .build();
+        entityManager.persist(mechanic);
+
+        Customer customer = Customer.builder()
+                .user(User.builder().email("customer-" + suffix + "@rollup.test").name("Customer")
+                        .role(UserRole.CUSTOMER).build())
+                .build();
+        entityManager.persist(customer);
+
+        Vehicle vehicle = Vehicle.builder()
+                .vin("VIN" + suffix)
+                .licensePlate("RU-" + suffix)
+                .customer(customer)
+                .build();
+        entityManager.persist(vehicle);
+
+        Appointment appointment = Appointment.builder()
+                .date(LocalDate.now())
+                .status(AppointmentStatus.CONFIRMED)
+                .customer(customer)
+                .vehicle(vehicle)
+                .employee(mechanic)
+                .build();
+        entityManager.persist(appointment);
+        entityManager.flush();
+
+        today = LocalDate.now();
+    }
+
+    @Test
+    void testRebuildAppointmentRollups_GroupsByMechanic() {
+        metricRollupRepository.deleteRange("APPOINTMENT", today, today.plusDays(1));
+
+        metricRollupRepository.rebuildAppointmentRollups(today.atStartOfDay(), today.plusDays(1).atStartOfDay());
+
+        assertEquals(1, eventCount("PENDING"));
+        assertEquals(1, eventCount("CONFIRMED"));
+    }
+
+    @Test
+    void testRebuildAppointmentRollups_AddsToRowsFlushedAfterTheDelete() {
+        LocalDateTime from = today.atStartOfDay();
+        LocalDateTime to = today.plusDays(1).atStartOfDay();
+        metricRollupRepository.deleteRange("APPOINTMENT", today, today.plusDays(1));
+        metricRollupRepository.addToRollup(today, "APPOINTMENT", "PENDING", mechanic.getEmployeeId(), 2, 0, 0);
+
+        metricRollupRepository.rebuildAppointmentRollups(from, to);
+
+        assertEquals(3, eventCount("PENDING"));
+    }
+
+    @Test
+    void testRebuildProjectRollups_RunsOverRange() {
+        LocalDateTime from = today.atStartOfDay();
+        LocalDateTime to = today.plusDays(1).atStartOfDay();
+        metricRollupRepository.deleteRange("PROJECT", today, today.plusDays(1));
+
+        assertDoesNotThrow(() -> metricRollupRepository.rebuildProjectRollups(from, to));
+        assertDoesNotThrow(() -> metricRollupRepository.rebuildProjectRollups(from, to));
+    }
+
+    private long eventCount(String status) {
+        List<MetricBucketProjection> series = metricRollupRepository.findSeries(
+                "APPOINTMENT", mechanic.getEmployeeId(), status, today, today, "day");
+        return series.stream().mapToLong(MetricBucketProjection::getEventCount).sum();
+    }
+}
@@ -0,0 +1,193 @@
+package com.ead.gearup.unit.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.ead.gearup.config.ChatbotResilienceFilter;
+import com.ead.gearup.config.ChatbotResilienceProperties;
+import com.ead.gearup.exception.ChatbotUnavailableException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+// Unit tests for ChatbotResilienceFilter
+class ChatbotResilienceFilterUnitTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private ChatbotResilienceProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ChatbotResilienceProperties();
+        properties.setSlidingWindowSize(4);
+        properties.setMinimumCalls(4);
+        properties.setFailureRateThreshold(50);
+        properties.setHalfOpenPermittedCalls(1);
+        properties.setRetryBackoffMillis(1);
+    }
+
+    @Test
+    void testFilter_OpensCircuitAfterFailuresAndFailsFast() {
+        properties.setOpenWaitMillis(60_000);
+        ChatbotResilienceFilter filter = new ChatbotResilienceFilter(properties, meterRegistry);
+        WebClient client = client(filter, Mono.fromSupplier(() -> response(HttpStatus.INTERNAL_SERVER_ERROR)));
+
+        for (int i = 0; i < 4; i++) {
+            assertThrows(WebClientResponseException.class, () -> post(client));
+        }
+        assertThrows(ChatbotUnavailableException.class, () -> post(client));
+
+        assertEquals(4, upstreamCalls.get());
+        assertEquals(1.0, meterRegistry.get("chatbot.calls").tag("outcome", "circuit_open").counter().count());
+        assertEquals(1.0, meterRegistry.get("chatbot.circuit.state").gauge().value());
+    }
+
+    @Test
+    void testFilter_SuccessfulProbeClosesCircuit() throws InterruptedException {
+        properties.setOpenWaitMillis(20);
+        ChatbotResilienceFilter filter = new ChatbotResilienceFilter(properties, meterRegistry);
+        AtomicInteger failuresLeft = new AtomicInteger(4);
+        WebClient client = client(filter, Mono.fromSupplier(() -> response(
+                failuresLeft.getAndDecrement() > 0 ? HttpStatus.BAD_GATEWAY : HttpStatus.OK)));
+
+        for (int i = 0; i < 4; i++) {
+            assertThrows(WebClientResponseException.class, () -> post(client));
+        }
+        Thread.sleep(40);
+
+        assertEquals("ok", post(client));
+        assertEquals("ok", post(client));
+        assertEquals(0.0, meterRegistry.get("chatbot.circuit.state").gauge().value());
+    }
+
+    @Test
+    void testFilter_FailedProbeReopensCircuit() throws InterruptedException {
+        properties.setOpenWaitMillis(20);
+        ChatbotResilienceFilter filter = new ChatbotResilienceFilter(properties, meterRegistry);
+        WebClient client = client(filter, Mono.fromSupplier(() -> response(HttpStatus.SERVICE_UNAVAILABLE)));
+
+        for (int i = 0; i < 4; i++) {
+            assertThrows(WebClientResponseException.class, () -> post(client));
+        }
+        Thread.sleep(40);
+
+        assertThrows(WebClientResponseException.class, () -> post(client));
+        assertThrows(ChatbotUnavailableException.class, () -> post(client));
+        assertEquals(5, upstreamCalls.get());
+    }
+
+    @Test
+    void testFilter_CallAdmittedBeforeOpeningDoesNotCountAsProbe() throws InterruptedException {
+        properties.setOpenWaitMillis(20);
+        ChatbotResilienceFilter filter = new ChatbotResilienceFilter(properties, meterRegistry);
+        Sinks.One<ClientResponse> slowCall = Sinks.one();
+        Sinks.One<ClientResponse> probe = Sinks.one();
+        Queue<Mono<ClientResponse>> upstream = new ArrayDeque<>();
+        upstream.add(slowCall.asMono());
+        for (int i = 0; i < 4; i++) {
+            upstream.add(Mono.fromSupplier(() -> response(HttpStatus.BAD_GATEWAY)));
+        }
+        upstream.add(probe.asMono());
+        WebClient client = client(filter, Mono.defer(upstream::poll));
+
+        // Admitted while closed, still running when the circuit opens and then half-opens
+        Mono<String> slow = client.post().uri("/chat").retrieve().bodyToMono(String.class).cache();
+        slow.subscribe(value -> { }, error -> { });
+        for (int i = 0; i < 4; i++) {
+            assertThrows(WebClientResponseException.class, () -> post(client));
+        }
+        Thread.sleep(40);
+        Mono<String> probeCall = client.post().uri("/chat").retrieve().bodyToMono(String.class).cache();
+        probeCall.subscribe(value -> { }, error -> { });
+
+        slowCall.tryEmitValue(response(HttpStatus.OK));
+        assertEquals("ok", slow.block(Duration.ofSeconds(2)));
+        assertEquals(2.0, meterRegistry.get("chatbot.circuit.state").gauge().value());
+
+        probe.tryEmitValue(response(HttpStatus.OK));
+        assertEquals("ok", probeCall.block(Duration.ofSeconds(2)));
+        assertEquals(0.0, meterRegistry.get("chatbot.circuit.state").gauge().value());
+    }
+
+    @Test
+    void testFilter_ClientErrorsDoNotOpenCircuit() {
+        ChatbotResilienceFilter filter = new ChatbotResilienceFilter(properties, meterRegistry);
+        WebClient client = client(filter, Mono.fromSupplier(() -> response(HttpStatus.BAD_REQUEST)));
+
+        for (int i = 0; i < 6; i++) {
+            assertThrows(WebClientResponseException.BadRequest.class, () -> post(client));
+        }
+
+        assertEquals(6, upstreamCalls.get());
+    }
+
+    @Test
+    void testFilter_BulkheadRejectsCallsOverLimit() {
+        properties.setMaxConcurrentCalls(1);
+        ChatbotResilienceFilter filter = new ChatbotResilienceFilter(properties, meterRegistry);
+        Sinks.One<ClientResponse> pending = Sinks.one();
+        WebClient client = client(filter, pending.asMono());
+
+        Mono<String> first = client.post().uri("/chat").retrieve().bodyToMono(String.class).cache();
+        first.subscribe(value -> { }, error -> { });
+
+        assertThrows(ChatbotUnavailableException.class, () -> post(client));
+        assertEquals(0.0, meterRegistry.get("chatbot.bulkhead.available").gauge().value());
+
+        pending.tryEmitValue(response(HttpStatus.OK));
+        assertEquals("ok", first.block(Duration.ofSeconds(2)));
+        assertEquals(1.0, meterRegistry.get("chatbot.bulkhead.available").gauge().value());
+    }
+
+    @Test
+    void testFilter_RetriesGetOnTransportErrorOnly() {
+        ChatbotResilienceFilter filter = new ChatbotResilienceFilter(properties, meterRegistry);
+        AtomicInteger attempts = new AtomicInteger();
+        WebClient client = client(filter, Mono.defer(() -> attempts.incrementAndGet() < 3
+                ? Mono.error(new IOException("connection reset"))
+                : Mono.just(response(HttpStatus.OK))));
+
+        assertEquals("ok", client.get().uri("/health").retrieve().bodyToMono(String.class)
+                .block(Duration.ofSeconds(2)));
+        assertEquals(2.0, meterRegistry.get("chatbot.calls.retries").counter().count());
+
+        // POSTs are not idempotent and are never retried
+        attempts.set(0);
+        RuntimeException error = assertThrows(RuntimeException.class, () -> post(client));
+        assertInstanceOf(IOException.class, Exceptions.unwrap(error));
+        assertEquals(1, attempts.get());
+    }
+
+    private WebClient client(ChatbotResilienceFilter filter, Mono<ClientResponse> upstream) {
+        return WebClient.builder()
+                .exchangeFunction(request -> {
+                    upstreamCalls.incrementAndGet();
+                    return upstream;
+                })
+                .filter(filter)
+                .build();
+    }
+
+    private String post(WebClient client) {
+        return client.post().uri("/chat").retrieve().bodyToMono(String.class).block(Duration.ofSeconds(2));
+    }
+
+    private ClientResponse response(HttpStatus status) {
+        return ClientResponse.create(status).body(status.is2xxSuccessful() ? "ok" : "error").build();
+    }
+}
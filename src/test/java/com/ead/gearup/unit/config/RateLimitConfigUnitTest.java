@@ -0,0 +1,160 @@
+package com.ead.gearup.unit.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.ead.gearup.config.RateLimitConfig;
+import com.ead.gearup.config.RateLimitProperties;
+import com.ead.gearup.enums.RateLimitProfile;
+
+import io.github.bucket4j.distributed.BucketProxy;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.github.bucket4j.distributed.proxy.RemoteBucketBuilder;
+
+// Unit tests for RateLimitConfig
+@ExtendWith(MockitoExtension.class)
+class RateLimitConfigUnitTest {
+
+    @Mock
+    private ProxyManager<String> proxyManager;
+
+    @Mock
+    private RemoteBucketBuilder<String> remoteBucketBuilder;
+
+    @Mock
+    private BucketProxy bucketProxy;
+
+    private RateLimitProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitProperties();
+        properties.setDistributed(false);
+    }
+
+    @Test
+    void testTryConsume_EnforcesProfileCapacity() {
+        RateLimitConfig rateLimitConfig = new RateLimitConfig(properties, failingFactory());
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(rateLimitConfig.tryConsume(RateLimitProfile.AUTH, "10.0.0.1"));
+        }
+        assertFalse(rateLimitConfig.tryConsume(RateLimitProfile.AUTH, "10.0.0.1"));
+
+        // Other callers and other profiles have their own buckets
+        assertTrue(rateLimitConfig.tryConsume(RateLimitProfile.AUTH, "10.0.0.2"));
+        assertTrue(rateLimitConfig.tryConsume(RateLimitProfile.SEARCH, "10.0.0.1"));
+    }
+
+    @Test
+    void testTryConsume_EmailOverloadUsesChatProfile() {
+        properties.getProfiles().put(RateLimitProfile.CHAT, new RateLimitProperties.Limit(2, 60));
+        RateLimitConfig rateLimitConfig = new RateLimitConfig(properties, failingFactory());
+
+        assertTrue(rateLimitConfig.tryConsume("alice@example.com"));
+        assertTrue(rateLimitConfig.tryConsume("alice@example.com"));
+        assertFalse(rateLimitConfig.tryConsume("alice@example.com"));
+        assertEquals(0, rateLimitConfig.getAvailableTokens(RateLimitProfile.CHAT, "alice@example.com"));
+    }
+
+    @Test
+    void testResolveBucket_CacheIsBounded() {
+        properties.setLocalMaxEntries(3);
+        RateLimitConfig rateLimitConfig = new RateLimitConfig(properties, failingFactory());
+
+        for (int i = 0; i < 10; i++) {
+            rateLimitConfig.tryConsume(RateLimitProfile.SEARCH, "user" + i);
+        }
+
+        assertEquals(3, rateLimitConfig.cachedBucketCount());
+    }
+
+    @Test
+    void testEvictIdleBuckets_DropsUnusedBuckets() {
+        properties.setIdleEvictionSeconds(0);
+        RateLimitConfig rateLimitConfig = new RateLimitConfig(properties, failingFactory());
+        rateLimitConfig.tryConsume(RateLimitProfile.SEARCH, "user1");
+
+        rateLimitConfig.evictIdleBuckets();
+
+        assertEquals(0, rateLimitConfig.cachedBucketCount());
+    }
+
+    @Test
+    void testTryConsume_UsesRedisBucketsWhenDistributed() {
+        properties.setDistributed(true);
+        when(proxyManager.builder()).thenReturn(remoteBucketBuilder);
+        when(remoteBucketBuilder.build(eq("rate-limit:chat:alice@example.com"), any(Supplier.class)))
+                .thenReturn(bucketProxy);
+        when(bucketProxy.tryConsume(1)).thenReturn(true, false);
+        RateLimitConfig rateLimitConfig = new RateLimitConfig(properties, () -> proxyManager);
+
+        assertTrue(rateLimitConfig.tryConsume("alice@example.com"));
+        assertFalse(rateLimitConfig.tryConsume("alice@example.com"));
+        verify(remoteBucketBuilder, times(1)).build(anyString(), any(Supplier.class));
+    }
+
+    @Test
+    void testTryConsume_FallsBackToLocalBucketWhenRedisFails() {
+        properties.setDistributed(true);
+        AtomicInteger connectAttempts = new AtomicInteger();
+        when(proxyManager.builder()).thenReturn(remoteBucketBuilder);
+        when(remoteBucketBuilder.build(anyString(), any(Supplier.class))).thenReturn(bucketProxy);
+        when(bucketProxy.tryConsume(1)).thenThrow(new RuntimeException("connection refused"));
+        RateLimitConfig rateLimitConfig = new RateLimitConfig(properties, () -> {
+            connectAttempts.incrementAndGet();
+            return proxyManager;
+        });
+
+        assertTrue(rateLimitConfig.tryConsume(RateLimitProfile.SEARCH, "user1"));
+        // Redis is not retried for new callers until the retry interval passes
+        assertTrue(rateLimitConfig.tryConsume(RateLimitProfile.SEARCH, "user2"));
+        assertEquals(1, connectAttempts.get());
+    }
+
+    @Test
+    void testTryConsume_MovesBackToRedisAfterRetryInterval() {
+        properties.setDistributed(true);
+        properties.setRedisRetrySeconds(0);
+        AtomicInteger connectAttempts = new AtomicInteger();
+        when(proxyManager.builder()).thenReturn(remoteBucketBuilder);
+        when(remoteBucketBuilder.build(eq("rate-limit:search:user1"), any(Supplier.class))).thenReturn(bucketProxy);
+        when(bucketProxy.tryConsume(1)).thenReturn(false);
+        RateLimitConfig rateLimitConfig = new RateLimitConfig(properties, () -> {
+            if (connectAttempts.incrementAndGet() == 1) {
+                throw new IllegalStateException("Redis unavailable");
+            }
+            return proxyManager;
+        });
+
+        // First call falls back to a local bucket, the next one is served from Redis again
+        assertTrue(rateLimitConfig.tryConsume(RateLimitProfile.SEARCH, "user1"));
+        assertFalse(rateLimitConfig.tryConsume(RateLimitProfile.SEARCH, "user1"));
+        assertEquals(2, connectAttempts.get());
+        verify(bucketProxy).tryConsume(1);
+    }
+
+    @Test
+    void testTryConsume_UsesLocalBucketsWhenRedisUnreachable() {
+        properties.setDistributed(true);
+        RateLimitConfig rateLimitConfig = new RateLimitConfig(properties, failingFactory());
+
+        assertTrue(rateLimitConfig.tryConsume(RateLimitProfile.SEARCH, "user1"));
+    }
+
+    private Supplier<ProxyManager<String>> failingFactory() {
+        return () -> {
+            throw new IllegalStateException("Redis unavailable");
+        };
+    }
+}
@@ -0,0 +1,274 @@
+package com.ead.gearup.unit.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.ead.gearup.dto.admin.AdminDashboardResponseDTO;
+import com.ead.gearup.enums.AppointmentStatus;
+import com.ead.gearup.enums.ProjectStatus;
+import com.ead.gearup.enums.UserRole;
+import com.ead.gearup.repository.AppointmentRepository;
+import com.ead.gearup.repository.CustomerRepository;
+import com.ead.gearup.repository.EmployeeRepository;
+import com.ead.gearup.repository.ProjectRepository;
+import com.ead.gearup.repository.TaskRepository;
+import com.ead.gearup.repository.UserRepository;
+import com.ead.gearup.service.AdminDashboardAggregates;
+import com.ead.gearup.service.AdminDashboardAggregates.Section;
+import com.ead.gearup.service.AdminDashboardAggregates.Total;
+import com.ead.gearup.service.AdminDashboardService;
+
+// Unit tests for AdminDashboardAggregates and the dashboard built from them
+@ExtendWith(MockitoExtension.class)
+class AdminDashboardAggregatesUnitTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private AppointmentRepository appointmentRepository;
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AdminDashboardAggregates aggregates;
+    private AdminDashboardService adminDashboardService;
+
+    @AfterEach
+    void tearDown() {
+        aggregates.shutdown();
+    }
+
+    @BeforeEach
+    void setUp() {
+        aggregates = aggregates(900, 2000);
+        adminDashboardService = new AdminDashboardService(aggregates);
+
+        when(employeeRepository.count()).thenReturn(4L);
+        when(customerRepository.count()).thenReturn(10L);
+        when(taskRepository.count()).thenReturn(25L);
+        when(appointmentRepository.countUpcomingAppointments(any(LocalDate.class), anyList())).thenReturn(3L);
+        when(projectRepository.countProjectsByStatus()).thenReturn(rows(
+                new Object[]{ProjectStatus.IN_PROGRESS, 2L},
+                new Object[]{ProjectStatus.COMPLETED, 6L}));
+        when(userRepository.countUsersByRoleGroupedByMonth(eq("CUSTOMER"), any(LocalDateTime.class)))
+                .thenReturn(rows(new Object[]{monthStart(YearMonth.now()), 5L}));
+        when(projectRepository.countProjectsByMonthAndStatus(eq("COMPLETED"), any(LocalDateTime.class)))
+                .thenReturn(rows(new Object[]{monthStart(YearMonth.now().minusMonths(1)), 6L}));
+    }
+
+    @Test
+    void testGetDashboard_FirstReadLoadsFromDatabase() {
+        AdminDashboardResponseDTO dashboard = adminDashboardService.getDashboard();
+
+        assertEquals(4, dashboard.getStats().getTotalEmployees());
+        assertEquals(2, dashboard.getStats().getActiveProjects());
+        assertEquals(3, dashboard.getStats().getUpcomingAppointments());
+        assertEquals(10, dashboard.getStats().getTotalCustomers());
+        assertEquals(25, dashboard.getStats().getTotalServices());
+        assertEquals(6, dashboard.getCustomerRegistrations().size());
+        assertEquals(5, dashboard.getCustomerRegistrations().get(5).getCount());
+        assertEquals(6, dashboard.getProjectCompletions().get(4).getCount());
+        assertEquals(25.0, dashboard.getProjectStatus().stream()
+                .filter(status -> status.getStatus().equals("IN_PROGRESS"))
+                .findFirst().orElseThrow().getPercentage());
+        assertNotNull(dashboard.getReconciledAt());
+    }
+
+    @Test
+    void testGetDashboard_LaterReadsDoNotQuery() {
+        adminDashboardService.getDashboard();
+        adminDashboardService.getDashboard();
+        adminDashboardService.getDashboard();
+
+        verify(employeeRepository, times(1)).count();
+        verify(projectRepository, times(1)).countProjectsByStatus();
+    }
+
+    @Test
+    void testOnProjectChanged_CompletionMovesStatusAndMonthBuckets() {
+        aggregates.reconcile();
+
+        aggregates.onProjectChanged(ProjectStatus.IN_PROGRESS, LocalDateTime.now().minusDays(3),
+                ProjectStatus.COMPLETED, LocalDateTime.now());
+        AdminDashboardResponseDTO dashboard = adminDashboardService.getDashboard();
+
+        assertEquals(1, dashboard.getStats().getActiveProjects());
+        assertEquals(1, dashboard.getProjectCompletions().get(5).getCount());
+        assertEquals(6, dashboard.getProjectCompletions().get(4).getCount());
+    }
+
+    @Test
+    void testChanges_AdjustCountersIncrementally() {
+        aggregates.reconcile();
+
+        aggregates.onUserChanged(null, null, UserRole.CUSTOMER, LocalDateTime.now());
+        aggregates.onUserChanged(UserRole.PUBLIC, LocalDateTime.now(), UserRole.EMPLOYEE, LocalDateTime.now());
+        aggregates.adjust(Total.CUSTOMERS, 1);
+        aggregates.adjust(Total.SERVICES, -1);
+        aggregates.onAppointmentChanged(null, null, LocalDate.now().plusDays(1), AppointmentStatus.PENDING);
+        aggregates.onAppointmentChanged(LocalDate.now(), AppointmentStatus.CONFIRMED,
+                LocalDate.now(), AppointmentStatus.CANCELED);
+        AdminDashboardResponseDTO dashboard = adminDashboardService.getDashboard();
+
+        assertEquals(6, dashboard.getCustomerRegistrations().get(5).getCount());
+        assertEquals(11, dashboard.getStats().getTotalCustomers());
+        assertEquals(24, dashboard.getStats().getTotalServices());
+        assertEquals(3, dashboard.getStats().getUpcomingAppointments());
+    }
+
+    @Test
+    void testReconcile_ReplacesDriftedValues() {
+        aggregates.reconcile();
+        aggregates.adjust(Total.EMPLOYEES, 5);
+
+        aggregates.reconcile();
+
+        assertEquals(4, adminDashboardService.getDashboard().getStats().getTotalEmployees());
+    }
+
+    @Test
+    void testSnapshot_RequestedReconcileRunsOnNextRead() {
+        aggregates.reconcile();
+        aggregates.requestReconcile();
+
+        aggregates.snapshot();
+
+        verify(employeeRepository, times(2)).count();
+    }
+
+    @Test
+    void testSnapshot_ReconcilesWhenPastStalenessBound() {
+        aggregates.shutdown();
+        aggregates = aggregates(0, 2000);
+        aggregates.reconcile();
+
+        aggregates.snapshot();
+
+        verify(employeeRepository, atLeast(2)).count();
+    }
+
+    @Test
+    void testChanges_IgnoredBeforeFirstReconcile() {
+        aggregates.adjust(Total.EMPLOYEES, 1);
+
+        assertEquals(4, aggregates.snapshot().total(Total.EMPLOYEES));
+    }
+
+    @Test
+    void testReconcile_RunsSectionsConcurrently() {
+        CountDownLatch bothRunning = new CountDownLatch(2);
+        Answer<Long> waitForOther = invocation -> {
+            bothRunning.countDown();
+            return bothRunning.await(1, TimeUnit.SECONDS) ? 7L : -1L;
+        };
+        when(employeeRepository.count()).thenAnswer(waitForOther);
+        when(customerRepository.count()).thenAnswer(waitForOther);
+
+        AdminDashboardAggregates.Snapshot snapshot = aggregates.snapshot();
+
+        assertEquals(7, snapshot.total(Total.EMPLOYEES));
+        assertEquals(7, snapshot.total(Total.CUSTOMERS));
+    }
+
+    @Test
+    void testReconcile_SlowSectionTimesOutWithPartialResult() {
+        aggregates.shutdown();
+        aggregates = aggregates(900, 100);
+        adminDashboardService = new AdminDashboardService(aggregates);
+        when(taskRepository.count()).thenAnswer(invocation -> {
+            Thread.sleep(1000);
+            return 99L;
+        });
+
+        long started = System.currentTimeMillis();
+        AdminDashboardResponseDTO dashboard = adminDashboardService.getDashboard();
+
+        assertTrue(System.currentTimeMillis() - started < 900);
+        assertEquals(List.of("SERVICES"), dashboard.getUnavailableSections());
+        assertEquals(0, dashboard.getStats().getTotalServices());
+        assertEquals(4, dashboard.getStats().getTotalEmployees());
+    }
+
+    @Test
+    void testReconcile_QueuedSectionsDoNotTimeOutBeforeTheyStart() {
+        aggregates.shutdown();
+        // One thread for seven sections: the last one starts long after the first was queued
+        aggregates = aggregates(900, 250, 1);
+        Answer<Long> slow = invocation -> {
+            Thread.sleep(100);
+            return 5L;
+        };
+        when(employeeRepository.count()).thenAnswer(slow);
+        when(customerRepository.count()).thenAnswer(slow);
+        when(taskRepository.count()).thenAnswer(slow);
+
+        AdminDashboardAggregates.Snapshot snapshot = aggregates.snapshot();
+
+        assertEquals(Set.of(), snapshot.unavailableSections());
+        assertEquals(5, snapshot.total(Total.SERVICES));
+    }
+
+    @Test
+    void testReconcile_FailedSectionKeepsPreviousValue() {
+        aggregates.reconcile();
+        when(employeeRepository.count()).thenThrow(new RuntimeException("connection reset"));
+
+        aggregates.reconcile();
+        AdminDashboardAggregates.Snapshot snapshot = aggregates.snapshot();
+
+        assertEquals(4, snapshot.total(Total.EMPLOYEES));
+        assertEquals(Set.of(Section.EMPLOYEES), snapshot.unavailableSections());
+        assertEquals(10, snapshot.total(Total.CUSTOMERS));
+    }
+
+    private AdminDashboardAggregates aggregates(long maxStalenessSeconds, long sectionTimeoutMs) {
+        return aggregates(maxStalenessSeconds, sectionTimeoutMs, 4);
+    }
+
+    private AdminDashboardAggregates aggregates(long maxStalenessSeconds, long sectionTimeoutMs, int queryThreads) {
+        return new AdminDashboardAggregates(employeeRepository, projectRepository, appointmentRepository,
+                customerRepository, taskRepository, userRepository, transactionManager,
+                maxStalenessSeconds, true, queryThreads, sectionTimeoutMs);
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+
+    private static Timestamp monthStart(YearMonth month) {
+        return Timestamp.valueOf(month.atDay(1).atStartOfDay());
+    }
+}
@@ -0,0 +1,105 @@
+package com.ead.gearup.unit.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.ead.gearup.dto.analytics.MetricBucketProjection;
+import com.ead.gearup.dto.analytics.MetricSeriesDTO;
+import com.ead.gearup.enums.MetricGranularity;
+import com.ead.gearup.enums.MetricSubject;
+import com.ead.gearup.repository.MetricRollupRepository;
+import com.ead.gearup.service.AnalyticsService;
+import com.ead.gearup.service.MetricRollupWriter;
+
+// Unit tests for AnalyticsService
+@ExtendWith(MockitoExtension.class)
+class AnalyticsServiceUnitTest {
+
+    private static final LocalDate FROM = LocalDate.of(2024, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 12, 31);
+
+    @Mock
+    private MetricRollupRepository metricRollupRepository;
+
+    @Mock
+    private MetricRollupWriter metricRollupWriter;
+
+    private AnalyticsService analyticsService;
+
+    @BeforeEach
+    void setUp() {
+        analyticsService = new AnalyticsService(metricRollupRepository, metricRollupWriter, 3660);
+    }
+
+    @Test
+    void testGetSeries_ComputesAveragesAndTotals() {
+        when(metricRollupRepository.findSeries("PROJECT", 0L, "COMPLETED", FROM, TO, "month")).thenReturn(List.of(
+                bucket(LocalDate.of(2024, 1, 1), 2, 2 * 3600 * 10, 300.0),
+                bucket(LocalDate.of(2024, 2, 1), 2, 2 * 3600 * 20, 200.0)));
+
+        MetricSeriesDTO series = analyticsService.getSeries(MetricSubject.PROJECT, "completed", null,
+                FROM, TO, MetricGranularity.MONTH);
+
+        assertEquals("COMPLETED", series.getStatus());
+        assertEquals(4, series.getTotalCount());
+        assertEquals(500.0, series.getTotalRevenue());
+        assertEquals(15.0, series.getAverageHoursToStatus());
+        assertEquals(10.0, series.getBuckets().get(0).getAverageHoursToStatus());
+        assertEquals(20.0, series.getBuckets().get(1).getAverageHoursToStatus());
+    }
+
+    @Test
+    void testGetSeries_FiltersByEmployeeAndAllStatuses() {
+        when(metricRollupRepository.findSeries("APPOINTMENT", 7L, null, FROM, TO, "week")).thenReturn(List.of());
+
+        MetricSeriesDTO series = analyticsService.getSeries(MetricSubject.APPOINTMENT, null, 7L,
+                FROM, TO, MetricGranularity.WEEK);
+
+        assertEquals(0, series.getTotalCount());
+        assertNull(series.getAverageHoursToStatus());
+        assertTrue(series.getBuckets().isEmpty());
+    }
+
+    @Test
+    void testGetSeries_RejectsInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> analyticsService.getSeries(
+                MetricSubject.PROJECT, "DONE", null, FROM, TO, MetricGranularity.DAY));
+        assertThrows(IllegalArgumentException.class, () -> analyticsService.getSeries(
+                MetricSubject.PROJECT, null, null, TO, FROM, MetricGranularity.DAY));
+        assertThrows(IllegalArgumentException.class, () -> analyticsService.getSeries(
+                MetricSubject.PROJECT, null, null, FROM.minusYears(20), TO, MetricGranularity.DAY));
+        verifyNoInteractions(metricRollupRepository);
+    }
+
+    @Test
+    void testRebuild_ReplacesRangeFromRawRows() {
+        when(metricRollupWriter.rebuilding(eq(FROM), eq(TO.plusDays(1)), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<Integer>>getArgument(2).get());
+        when(metricRollupRepository.rebuildProjectRollups(FROM.atStartOfDay(), TO.plusDays(1).atStartOfDay())).thenReturn(5);
+        when(metricRollupRepository.rebuildAppointmentRollups(FROM.atStartOfDay(), TO.plusDays(1).atStartOfDay())).thenReturn(3);
+
+        assertEquals(8, analyticsService.rebuild(FROM, TO));
+        verify(metricRollupRepository).deleteRange("PROJECT", FROM, TO.plusDays(1));
+        verify(metricRollupRepository).deleteRange("APPOINTMENT", FROM, TO.plusDays(1));
+    }
+
+    private static MetricBucketProjection bucket(LocalDate start, long count, long durationSeconds, double revenue) {
+        return new MetricBucketProjection() {
+            public LocalDate getBucketStart() { return start; }
+            public long getEventCount() { return count; }
+            public long getDurationSecondsSum() { return durationSeconds; }
+            public double getRevenueSum() { return revenue; }
+        };
+    }
+}
@@ -0,0 +1,138 @@
+package com.ead.gearup.unit.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import com.ead.gearup.model.ChatHistory;
+import com.ead.gearup.service.ChatHistoryWriter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// Unit tests for ChatHistoryWriter
+@ExtendWith(MockitoExtension.class)
+class ChatHistoryWriterUnitTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+    private ChatHistoryWriter writer;
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null) {
+            writer.shutdown();
+        }
+    }
+
+    @Test
+    void testEnqueue_FullBatchIsWrittenWithoutWaitingForInterval() {
+        recordBatchSizes();
+        writer = new ChatHistoryWriter(jdbcTemplate, meterRegistry, 3, 60_000, 100);
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(writer.enqueue(history("s" + i)));
+        }
+
+        verify(jdbcTemplate, timeout(2000)).batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        assertEquals(List.of(3), batchSizes);
+    }
+
+    @Test
+    void testEnqueue_PartialBatchIsWrittenOnInterval() {
+        recordBatchSizes();
+        writer = new ChatHistoryWriter(jdbcTemplate, meterRegistry, 100, 20, 100);
+
+        writer.enqueue(history("s1"));
+        writer.enqueue(history("s2"));
+
+        verify(jdbcTemplate, timeout(2000)).batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        assertEquals(2, batchSizes.stream().mapToInt(Integer::intValue).sum());
+    }
+
+    @Test
+    void testEnqueue_StampsCreatedAtWhenQueued() {
+        writer = new ChatHistoryWriter(jdbcTemplate, meterRegistry, 100, 60_000, 100);
+        ChatHistory history = history("s1");
+
+        writer.enqueue(history);
+
+        assertNotNull(history.getCreatedAt());
+    }
+
+    @Test
+    void testEnqueue_DropsWhenBufferIsFull() {
+        writer = new ChatHistoryWriter(jdbcTemplate, meterRegistry, 100, 60_000, 2);
+
+        assertTrue(writer.enqueue(history("s1")));
+        assertTrue(writer.enqueue(history("s2")));
+        assertFalse(writer.enqueue(history("s3")));
+
+        assertEquals(1.0, meterRegistry.get("chat.history.rows").tag("outcome", "dropped").counter().count());
+    }
+
+    @Test
+    void testShutdown_FlushesBufferedRows() {
+        recordBatchSizes();
+        writer = new ChatHistoryWriter(jdbcTemplate, meterRegistry, 2, 60_000, 100);
+        writer.enqueue(history("s1"));
+
+        writer.shutdown();
+        writer = null;
+
+        assertEquals(List.of(1), batchSizes);
+    }
+
+    @Test
+    void testFlush_FailedBatchIsCountedAndDoesNotStopLaterBatches() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new RuntimeException("db down"))
+                .thenReturn(new int[][] { { 1 } });
+        writer = new ChatHistoryWriter(jdbcTemplate, meterRegistry, 1, 60_000, 100);
+        writer.shutdown();
+
+        // Executor is stopped, so flush runs entirely on this thread
+        writer.enqueue(history("s1"));
+        writer.enqueue(history("s2"));
+        writer.flush();
+        writer = null;
+
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        assertEquals(1.0, meterRegistry.get("chat.history.rows").tag("outcome", "failed").counter().count());
+        assertEquals(1.0, meterRegistry.get("chat.history.rows").tag("outcome", "written").counter().count());
+    }
+
+    private void recordBatchSizes() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    List<?> batch = invocation.getArgument(1);
+                    // The whole batch goes to the driver as one JDBC batch
+                    assertEquals(batch.size(), (int) invocation.getArgument(2));
+                    batchSizes.add(batch.size());
+                    return new int[][] { new int[batch.size()] };
+                });
+    }
+
+    private ChatHistory history(String sessionId) {
+        return ChatHistory.builder()
+                .sessionId(sessionId)
+                .question("When do you open?")
+                .answer("8am")
+                .build();
+    }
+}
@@ -0,0 +1,177 @@
+package com.ead.gearup.unit.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import com.ead.gearup.dto.chat.ChatResponseDTO;
+import com.ead.gearup.service.ChatResponseCache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// Unit tests for ChatResponseCache
+@ExtendWith(MockitoExtension.class)
+class ChatResponseCacheUnitTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ChatResponseCache chatResponseCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        chatResponseCache = new ChatResponseCache(redisTemplate, meterRegistry, true, 2, 300, "kb1", 30);
+    }
+
+    @Test
+    void testGet_SecondLookupServedLocally() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("k1")).thenReturn(answer("We open at 8am"));
+
+        ChatResponseDTO first = chatResponseCache.get("k1");
+        ChatResponseDTO second = chatResponseCache.get("k1");
+
+        assertEquals("We open at 8am", first.getAnswer());
+        assertEquals("We open at 8am", second.getAnswer());
+        assertNotSame(first, second);
+        verify(valueOperations, times(1)).get("k1");
+        assertEquals(1.0, lookups("local", "hit"));
+        assertEquals(1.0, lookups("local", "miss"));
+        assertEquals(1.0, lookups("redis", "hit"));
+    }
+
+    @Test
+    void testGet_ReturnsCopySoCallersCannotMutateCachedAnswer() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        chatResponseCache.put("k1", answer("We open at 8am"), Duration.ofHours(1));
+
+        chatResponseCache.get("k1").setSessionId("session-a");
+
+        assertNull(chatResponseCache.get("k1").getSessionId());
+        verify(valueOperations, never()).get(anyString());
+    }
+
+    @Test
+    void testGet_MissInBothTiers() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        assertNull(chatResponseCache.get("missing"));
+        assertEquals(1.0, lookups("redis", "miss"));
+    }
+
+    @Test
+    void testPut_EvictsLeastRecentlyUsedLocally() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        chatResponseCache.put("k1", answer("a"), Duration.ofHours(1));
+        chatResponseCache.put("k2", answer("b"), Duration.ofHours(1));
+        chatResponseCache.put("k3", answer("c"), Duration.ofHours(1));
+
+        assertEquals(2, chatResponseCache.localSize());
+        chatResponseCache.get("k1");
+        verify(valueOperations).get("k1");
+    }
+
+    @Test
+    void testEvict_RemovesBothTiersAndBroadcasts() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        chatResponseCache.put("k1", answer("a"), Duration.ofHours(1));
+
+        chatResponseCache.evict("k1");
+
+        assertEquals(0, chatResponseCache.localSize());
+        verify(redisTemplate).delete("k1");
+        verify(redisTemplate).convertAndSend(ChatResponseCache.INVALIDATION_CHANNEL, "k1");
+    }
+
+    @Test
+    void testCurrentKeyPrefix_UsesStoredGenerationAndCachesIt() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("chat:cache:generation:kb1")).thenReturn(4);
+
+        assertEquals("chat:response:kb1:g4:", chatResponseCache.currentKeyPrefix());
+        assertEquals("chat:response:kb1:g4:", chatResponseCache.currentKeyPrefix());
+        verify(valueOperations, times(1)).get("chat:cache:generation:kb1");
+    }
+
+    @Test
+    void testCurrentKeyPrefix_DefaultsToGenerationZero() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        assertEquals("chat:response:kb2:g0:", chatResponseCache.currentKeyPrefix("kb2"));
+    }
+
+    @Test
+    void testInvalidateNamespace_AdvancesGenerationWithoutScanningKeys() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.increment("chat:cache:generation:kb1")).thenReturn(1L);
+        chatResponseCache.put("chat:response:kb1:g0:abc", answer("a"), Duration.ofHours(1));
+        chatResponseCache.put("chat:response:kb2:g0:abc", answer("b"), Duration.ofHours(1));
+
+        chatResponseCache.invalidateNamespace("kb1");
+
+        assertEquals("chat:response:kb1:g1:", chatResponseCache.currentKeyPrefix("kb1"));
+        assertEquals(1, chatResponseCache.localSize());
+        verify(redisTemplate, never()).keys(anyString());
+        verify(redisTemplate, never()).delete(anyString());
+        verify(redisTemplate).convertAndSend(ChatResponseCache.INVALIDATION_CHANNEL, "namespace:kb1");
+    }
+
+    @Test
+    void testOnMessage_RemoteInvalidationDropsLocalEntry() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        doReturn(new StringRedisSerializer()).when(redisTemplate).getValueSerializer();
+        chatResponseCache.put("k1", answer("a"), Duration.ofHours(1));
+        chatResponseCache.put("k2", answer("b"), Duration.ofHours(1));
+
+        chatResponseCache.onMessage(message("k1"), null);
+        assertEquals(1, chatResponseCache.localSize());
+
+        chatResponseCache.onMessage(message("namespace:kb1"), null);
+        assertEquals(1, chatResponseCache.localSize());
+    }
+
+    @Test
+    void testOnMessage_NamespaceInvalidationForcesGenerationReload() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        doReturn(new StringRedisSerializer()).when(redisTemplate).getValueSerializer();
+        when(valueOperations.get("chat:cache:generation:kb1")).thenReturn(null, 7);
+        chatResponseCache.put("chat:response:kb1:g0:abc", answer("a"), Duration.ofHours(1));
+        assertEquals("chat:response:kb1:g0:", chatResponseCache.currentKeyPrefix());
+
+        chatResponseCache.onMessage(message("namespace:kb1"), null);
+
+        assertEquals(0, chatResponseCache.localSize());
+        assertEquals("chat:response:kb1:g7:", chatResponseCache.currentKeyPrefix());
+    }
+
+    private ChatResponseDTO answer(String text) {
+        return ChatResponseDTO.builder().answer(text).build();
+    }
+
+    private DefaultMessage message(String payload) {
+        return new DefaultMessage(ChatResponseCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private double lookups(String tier, String result) {
+        return meterRegistry.get("chat.cache.lookups").tag("tier", tier).tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,233 @@
+package com.ead.gearup.unit.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.ead.gearup.dto.chat.ChatHistorySliceDTO;
+import com.ead.gearup.dto.chat.ChatHistorySummaryProjection;
+import com.ead.gearup.dto.chat.ChatRequestDTO;
+import com.ead.gearup.dto.chat.ChatResponseDTO;
+import com.ead.gearup.model.ChatHistory;
+import com.ead.gearup.repository.ChatHistoryRepository;
+import com.ead.gearup.service.ChatHistoryWriter;
+import com.ead.gearup.service.ChatResponseCache;
+import com.ead.gearup.service.ChatService;
+import com.ead.gearup.service.SemanticChatCache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+// Unit tests for ChatService against a local mock chatbot backend
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ChatServiceUnitTest {
+
+    @Mock
+    private ChatResponseCache chatResponseCache;
+
+    @Mock
+    private ChatHistoryRepository chatHistoryRepository;
+
+    @Mock
+    private ChatHistoryWriter chatHistoryWriter;
+
+    private MockWebServer mockServer;
+    private ChatService chatService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockServer = new MockWebServer();
+        mockServer.start();
+        WebClient webClient = WebClient.builder()
+                .baseUrl(mockServer.url("/").toString().replaceAll("/$", ""))
+                .build();
+        SemanticChatCache semanticChatCache = new SemanticChatCache(new SimpleMeterRegistry(), true, 0.9, 100, 3600);
+
+        when(chatResponseCache.currentKeyPrefix()).thenReturn("chat:response:default:g0:");
+        when(chatResponseCache.get(anyString())).thenReturn(null);
+
+        chatService = new ChatService(webClient, chatResponseCache, chatHistoryRepository, chatHistoryWriter, semanticChatCache);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockServer.shutdown();
+    }
+
+    @Test
+    void testProcessChat_ConcurrentIdenticalQuestionsShareOneUpstreamCall() throws Exception {
+        int callers = 300;
+        // The answer is held until every caller has subscribed, so none can arrive after the call finished
+        CountDownLatch allWaiting = new CountDownLatch(callers);
+        mockServer.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                allWaiting.await(15, TimeUnit.SECONDS);
+                return new MockResponse()
+                        .setHeader("Content-Type", "application/json")
+                        .setBody("{\"answer\":\"We open at 8am\",\"confidence\":0.9}");
+            }
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<ChatResponseDTO>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < callers; i++) {
+                long userId = i;
+                futures.add(CompletableFuture.supplyAsync(() -> {
+                    awaitQuietly(start);
+                    CompletableFuture<ChatResponseDTO> response =
+                            chatService.processChat(request("What time do you open?"), userId).toFuture();
+                    allWaiting.countDown();
+                    return response;
+                }, executor).thenCompose(response -> response));
+            }
+            start.countDown();
+            assertTrue(allWaiting.await(15, TimeUnit.SECONDS));
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(15, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, mockServer.getRequestCount());
+        for (CompletableFuture<ChatResponseDTO> future : futures) {
+            ChatResponseDTO response = future.get();
+            assertEquals("We open at 8am", response.getAnswer());
+            assertFalse(response.isFromCache());
+        }
+        // Each caller keeps its own session and history row, but the answer is cached once
+        assertEquals(callers, futures.stream().map(f -> f.join().getSessionId()).distinct().count());
+        verify(chatResponseCache, times(1)).put(anyString(), any(ChatResponseDTO.class), any(Duration.class));
+        verify(chatHistoryWriter, times(callers)).enqueue(any());
+    }
+
+    @Test
+    void testProcessChat_FailedCallIsNotSharedWithLaterRequests() {
+        mockServer.enqueue(new MockResponse().setResponseCode(500));
+        mockServer.enqueue(new MockResponse()
+                .setHeader("Content-Type", "application/json")
+                .setBody("{\"answer\":\"We open at 8am\"}"));
+
+        ChatResponseDTO failed = chatService.processChat(request("What time do you open?"), 1L)
+                .block(Duration.ofSeconds(5));
+        ChatResponseDTO retried = chatService.processChat(request("What time do you open?"), 1L)
+                .block(Duration.ofSeconds(5));
+
+        assertNotNull(failed);
+        assertTrue(failed.getAnswer().startsWith("I'm sorry"));
+        assertNotNull(retried);
+        assertEquals("We open at 8am", retried.getAnswer());
+        assertEquals(2, mockServer.getRequestCount());
+        verify(chatResponseCache, times(1)).put(anyString(), any(ChatResponseDTO.class), any(Duration.class));
+    }
+
+    @Test
+    void testProcessChat_ServesCachedAnswerWithoutUpstreamCall() {
+        ChatResponseDTO cached = ChatResponseDTO.builder().answer("We open at 8am").build();
+        when(chatResponseCache.get(anyString())).thenReturn(cached);
+
+        ChatResponseDTO response = chatService.processChat(request("What time do you open?"), 1L)
+                .block(Duration.ofSeconds(5));
+
+        assertNotNull(response);
+        assertTrue(response.isFromCache());
+        assertEquals(0, mockServer.getRequestCount());
+    }
+
+    @Test
+    void testGetChatHistoryFeed_FirstSliceReturnsCursorForNextSlice() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 10, 9, 30);
+        List<ChatHistory> rows = List.of(history(12L, createdAt.plusMinutes(1)), history(11L, createdAt));
+        when(chatHistoryRepository.findFirstSliceBySessionId(eq("s1"), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(rows, PageRequest.of(0, 2), true));
+
+        ChatHistorySliceDTO<ChatHistory> slice = chatService.getChatHistoryFeed("s1", null, 2);
+
+        assertEquals(2, slice.getSize());
+        assertTrue(slice.isHasNext());
+        assertNotNull(slice.getNextCursor());
+
+        when(chatHistoryRepository.findSliceBySessionIdAfterCursor(eq("s1"), eq(createdAt), eq(11L), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(history(10L, createdAt.minusMinutes(1))), PageRequest.of(0, 2), false));
+
+        ChatHistorySliceDTO<ChatHistory> next = chatService.getChatHistoryFeed("s1", slice.getNextCursor(), 2);
+
+        assertEquals(1, next.getSize());
+        assertFalse(next.isHasNext());
+        assertNull(next.getNextCursor());
+    }
+
+    @Test
+    void testGetUserChatHistoryFeed_ClampsSliceSize() {
+        when(chatHistoryRepository.findFirstSummarySliceByUserId(eq(7L), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of()));
+
+        ChatHistorySliceDTO<ChatHistorySummaryProjection> slice = chatService.getUserChatHistoryFeed(7L, "", 5000);
+
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(chatHistoryRepository).findFirstSummarySliceByUserId(eq(7L), pageable.capture());
+        assertEquals(100, pageable.getValue().getPageSize());
+        assertEquals(0, slice.getSize());
+        assertNull(slice.getNextCursor());
+    }
+
+    @Test
+    void testGetUserChatHistoryFeed_RejectsMalformedCursor() {
+        assertThrows(IllegalArgumentException.class,
+                () -> chatService.getUserChatHistoryFeed(7L, "not-a-cursor", 20));
+    }
+
+    private ChatHistory history(Long id, LocalDateTime createdAt) {
+        return ChatHistory.builder()
+                .id(id)
+                .sessionId("s1")
+                .question("q")
+                .answer("a")
+                .createdAt(createdAt)
+                .build();
+    }
+
+    private ChatRequestDTO request(String question) {
+        ChatRequestDTO request = new ChatRequestDTO();
+        request.setQuestion(question);
+        return request;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
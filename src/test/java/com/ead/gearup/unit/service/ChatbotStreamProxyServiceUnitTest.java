@@ -0,0 +1,142 @@
+package com.ead.gearup.unit.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.ead.gearup.dto.chatbot.ChatbotServiceRequest;
+import com.ead.gearup.service.ChatbotStreamProxyService;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Unit tests for ChatbotStreamProxyService against a local mock streaming server
+class ChatbotStreamProxyServiceUnitTest {
+
+    private MockWebServer mockServer;
+    private ChatbotStreamProxyService proxyService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockServer = new MockWebServer();
+        mockServer.start();
+        WebClient webClient = WebClient.builder()
+                .baseUrl(mockServer.url("/").toString().replaceAll("/$", ""))
+                .build();
+        proxyService = new ChatbotStreamProxyService(webClient, 1, 10);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockServer.shutdown();
+    }
+
+    @Test
+    void testStream_RelaysChunksAndForwardsCustomerContext() throws InterruptedException {
+        mockServer.enqueue(new MockResponse()
+                .setHeader("Content-Type", "text/event-stream")
+                .setBody("event: chunk\ndata: Your appointment\n\n"
+                        + "event: chunk\ndata: is tomorrow\n\n"
+                        + "event: end\ndata: done\n\n"));
+
+        List<ServerSentEvent<String>> events = proxyService.stream(request())
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertNotNull(events);
+        assertEquals(3, events.size());
+        assertEquals("Your appointment", events.get(0).data());
+        assertEquals("is tomorrow", events.get(1).data());
+        assertEquals("end", events.get(2).event());
+
+        RecordedRequest recorded = mockServer.takeRequest(1, TimeUnit.SECONDS);
+        assertNotNull(recorded);
+        assertEquals("/chat/stream", recorded.getPath());
+        String body = recorded.getBody().readUtf8();
+        assertTrue(body.contains("\"customerEmail\":\"customer@example.com\""));
+        assertTrue(body.contains("\"customerId\":7"));
+    }
+
+    @Test
+    void testStream_UpstreamErrorBecomesErrorEvent() {
+        mockServer.enqueue(new MockResponse().setResponseCode(500));
+
+        List<ServerSentEvent<String>> events = proxyService.stream(request())
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertNotNull(events);
+        assertEquals(1, events.size());
+        assertEquals("error", events.get(0).event());
+    }
+
+    @Test
+    void testStream_IdleTimeoutEndsStreamWithErrorEvent() {
+        mockServer.enqueue(new MockResponse()
+                .setHeader("Content-Type", "text/event-stream")
+                .setBody("data: first\n\n")
+                .setBodyDelay(3, TimeUnit.SECONDS));
+
+        List<ServerSentEvent<String>> events = proxyService.stream(request())
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertNotNull(events);
+        assertEquals("error", events.get(events.size() - 1).event());
+        assertTrue(events.get(events.size() - 1).data().contains("too long"));
+    }
+
+    @Test
+    void testStream_MaxDurationEndsStreamWithTruncatedEvent() {
+        // An upstream that keeps sending a chunk every 200ms and never finishes
+        Flux<DataBuffer> endless = Flux.interval(Duration.ofMillis(200))
+                .map(tick -> DefaultDataBufferFactory.sharedInstance
+                        .wrap(("data: chunk " + tick + "\n\n").getBytes(StandardCharsets.UTF_8)));
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(clientRequest -> Mono.just(ClientResponse.create(HttpStatus.OK)
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.TEXT_EVENT_STREAM_VALUE)
+                        .body(endless)
+                        .build()))
+                .build();
+        proxyService = new ChatbotStreamProxyService(webClient, 1, 1);
+
+        List<ServerSentEvent<String>> events = proxyService.stream(request())
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertNotNull(events);
+        assertTrue(events.size() > 1);
+        assertEquals("chunk 0", events.get(0).data());
+        assertEquals("truncated", events.get(events.size() - 1).event());
+    }
+
+    private ChatbotServiceRequest request() {
+        return ChatbotServiceRequest.builder()
+                .question("When is my appointment?")
+                .sessionId("session-1")
+                .customerId(7L)
+                .userId(3L)
+                .customerEmail("customer@example.com")
+                .authToken("token")
+                .build();
+    }
+}
@@ -6,22 +6,29 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.ead.gearup.dto.customer.CustomerActivityProjection;
+import com.ead.gearup.dto.customer.CustomerDashboardSummaryProjection;
 import com.ead.gearup.dto.customer.CustomerRequestDTO;
 import com.ead.gearup.dto.customer.CustomerResponseDTO;
 import com.ead.gearup.dto.customer.CustomerUpdateDTO;
 import com.ead.gearup.dto.customer.CustomerDashboardDTO;
 import com.ead.gearup.dto.customer.CustomerHeaderDTO;
+import com.ead.gearup.dto.customer.CustomerVehicleServiceProjection;
 import com.ead.gearup.enums.UserRole;
 import com.ead.gearup.exception.CustomerNotFoundException;
 import com.ead.gearup.exception.UnauthorizedCustomerAccessException;
@@ -29,6 +36,7 @@ import com.ead.gearup.model.Customer;
 import com.ead.gearup.model.User;
 import com.ead.gearup.repository.CustomerRepository;
 import com.ead.gearup.repository.UserRepository;
+import com.ead.gearup.service.CustomerDashboardCache;
 import com.ead.gearup.service.CustomerService;
 import com.ead.gearup.service.EmailService;
 import com.ead.gearup.service.auth.CurrentUserService;
@@ -52,6 +60,10 @@ class CustomerServiceUnitTest {
     @Mock
     private EmailService emailService;
 
+    @Spy
+    private CustomerDashboardCache customerDashboardCache =
+            new CustomerDashboardCache(new SimpleMeterRegistry(), 100, 60);
+
     @InjectMocks
     private CustomerService customerService;
 
@@ -390,30 +402,83 @@ class CustomerServiceUnitTest {
     @Test
     void testGetDashboard_Success() {
         // Arrange
-        testCustomer.setAppointments(Arrays.asList());
-        testCustomer.setVehicles(Arrays.asList());
-        when(customerRepository.findById(1L)).thenReturn(Optional.of(testCustomer));
+        LocalDate nextAppointment = LocalDate.now().plusDays(3);
+        LocalDate lastService = LocalDate.now().minusMonths(2);
+        stubDashboard(nextAppointment, List.of(
+                activity(7L, "APPOINTMENT", "CONFIRMED", "Toyota Axio on " + nextAppointment, 2),
+                activity(3L, "PROJECT_UPDATE", "Brake overhaul", "Pads replaced", 30)),
+                List.of(vehicle(10L, nextAppointment, lastService), vehicle(11L, null, lastService), vehicle(12L, null, null)));
 
         // Act
         CustomerDashboardDTO result = customerService.getDashboard(1L);
 
         // Assert
-        assertNotNull(result);
-        assertNotNull(result.getProfile());
-        assertNotNull(result.getSummary());
-        assertNotNull(result.getRecentActivities());
-        assertNotNull(result.getVehicles());
         assertEquals("Test Customer", result.getProfile().getName());
-        verify(customerRepository, times(1)).findById(1L);
+        assertEquals(2, result.getSummary().getUpcomingAppointmentsCount());
+        assertEquals(nextAppointment.toString(), result.getSummary().getNextAppointmentDate());
+        assertEquals("In Progress", result.getSummary().getOngoingProjectStatus());
+        assertEquals(2, result.getRecentActivities().size());
+        assertEquals("Appointment Confirmed", result.getRecentActivities().get(0).getAction());
+        assertEquals("calendar", result.getRecentActivities().get(0).getIcon());
+        assertEquals("2 hours ago", result.getRecentActivities().get(0).getTime());
+        assertEquals("Project Update: Brake overhaul", result.getRecentActivities().get(1).getAction());
+        assertEquals(nextAppointment.toString(), result.getVehicles().get(0).getNextService());
+        assertEquals(lastService.plusMonths(6).toString(), result.getVehicles().get(1).getNextService());
+        assertEquals("Not scheduled", result.getVehicles().get(2).getNextService());
+        verify(customerRepository).findRecentActivity(1L, "1", 5);
+        verify(customerRepository, never()).findById(any());
+    }
+
+    @Test
+    void testGetDashboard_NoUpcomingAppointments() {
+        // Arrange
+        stubDashboard(null, List.of(), List.of());
+
+        // Act
+        CustomerDashboardDTO result = customerService.getDashboard(1L);
+
+        // Assert
+        assertEquals("No upcoming appointments", result.getSummary().getNextAppointmentDate());
+        assertTrue(result.getRecentActivities().isEmpty());
+        assertTrue(result.getVehicles().isEmpty());
+    }
+
+    @Test
+    void testGetDashboard_SecondReadServedFromCache() {
+        // Arrange
+        stubDashboard(null, List.of(), List.of());
+
+        // Act
+        customerService.getDashboard(1L);
+        customerService.getDashboard(1L);
+
+        // Assert
+        verify(customerRepository, times(1)).findDashboardSummary(eq(1L), any(LocalDate.class));
+        verify(customerRepository, times(1)).findVehicleServiceDates(eq(1L), any(LocalDate.class));
+    }
+
+    @Test
+    void testGetDashboard_ReloadedAfterInvalidation() {
+        // Arrange
+        stubDashboard(null, List.of(), List.of());
+        customerService.getDashboard(1L);
+
+        // Act
+        customerDashboardCache.invalidateUser(1L);
+        customerService.getDashboard(1L);
+
+        // Assert
+        verify(customerRepository, times(2)).findDashboardSummary(eq(1L), any(LocalDate.class));
     }
 
     @Test
     void testGetDashboard_CustomerNotFound() {
         // Arrange
-        when(customerRepository.findById(999L)).thenReturn(Optional.empty());
+        when(customerRepository.findDashboardSummary(eq(999L), any(LocalDate.class))).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(CustomerNotFoundException.class, () -> customerService.getDashboard(999L));
+        assertEquals(0, customerDashboardCache.size());
     }
 
     // ========== getCustomerIdByEmail() Tests ==========
@@ -542,4 +607,36 @@ class CustomerServiceUnitTest {
             () -> customerService.reactivateCustomer(1L));
         verify(userRepository, never()).save(any());
     }
+    private void stubDashboard(LocalDate nextAppointment, List<CustomerActivityProjection> activities,
+                               List<CustomerVehicleServiceProjection> vehicles) {
+        CustomerDashboardSummaryProjection summary = mock(CustomerDashboardSummaryProjection.class);
+        lenient().when(summary.getUserId()).thenReturn(1L);
+        lenient().when(summary.getName()).thenReturn("Test Customer");
+        lenient().when(summary.getUpcomingAppointmentsCount()).thenReturn(nextAppointment != null ? 2L : 0L);
+        lenient().when(summary.getNextAppointmentDate()).thenReturn(nextAppointment);
+        lenient().when(summary.getOngoingProjectsCount()).thenReturn(1L);
+        when(customerRepository.findDashboardSummary(eq(1L), any(LocalDate.class))).thenReturn(Optional.of(summary));
+        when(customerRepository.findRecentActivity(1L, "1", 5)).thenReturn(activities);
+        when(customerRepository.findVehicleServiceDates(eq(1L), any(LocalDate.class))).thenReturn(vehicles);
+    }
+
+    private static CustomerActivityProjection activity(Long id, String kind, String title, String description,
+                                                       long hoursAgo) {
+        CustomerActivityProjection activity = mock(CustomerActivityProjection.class);
+        when(activity.getId()).thenReturn(id);
+        when(activity.getKind()).thenReturn(kind);
+        when(activity.getTitle()).thenReturn(title);
+        when(activity.getDescription()).thenReturn(description);
+        when(activity.getOccurredAt()).thenReturn(LocalDateTime.now().minusHours(hoursAgo).minusMinutes(1));
+        return activity;
+    }
+
+    private static CustomerVehicleServiceProjection vehicle(Long id, LocalDate nextScheduled, LocalDate lastService) {
+        CustomerVehicleServiceProjection vehicle = mock(CustomerVehicleServiceProjection.class);
+        when(vehicle.getId()).thenReturn(id);
+        when(vehicle.getYear()).thenReturn(2018);
+        when(vehicle.getNextScheduledDate()).thenReturn(nextScheduled);
+        lenient().when(vehicle.getLastServiceDate()).thenReturn(lastService);
+        return vehicle;
+    }
 }
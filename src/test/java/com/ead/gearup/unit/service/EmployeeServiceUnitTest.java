@@ -7,7 +7,6 @@ import static org.junit.jupiter.api.Assertions.*;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -18,6 +17,8 @@ import org.mockito.MockitoAnnotations;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.ead.gearup.dto.employee.CreateEmployeeDTO;
+import com.ead.gearup.dto.employee.EmployeeDependencyProjection;
+import com.ead.gearup.dto.employee.EmployeeDependencyReportDTO;
 import com.ead.gearup.dto.employee.EmployeeResponseDTO;
 import com.ead.gearup.dto.employee.UpdateEmployeeDTO;
 import com.ead.gearup.enums.UserRole;
@@ -26,7 +27,6 @@ import com.ead.gearup.exception.UnauthorizedCustomerAccessException;
 import com.ead.gearup.exception.UserNotFoundException;
 import com.ead.gearup.model.Employee;
 import com.ead.gearup.model.User;
-import com.ead.gearup.repository.AppointmentRepository;
 import com.ead.gearup.repository.EmployeeRepository;
 import com.ead.gearup.repository.UserRepository;
 import com.ead.gearup.service.EmployeeService;
@@ -39,9 +39,6 @@ class EmployeeServiceUnitTest {
     @Mock
     private EmployeeRepository employeeRepository;
 
-    @Mock
-    private AppointmentRepository appointmentRepository;
-
     @Mock
     private EmployeeDTOConverter converter;
 
@@ -76,10 +73,6 @@ class EmployeeServiceUnitTest {
             repoField.setAccessible(true);
             repoField.set(employeeService, employeeRepository);
             
-            java.lang.reflect.Field apptRepoField = EmployeeService.class.getDeclaredField("appointmentRepository");
-            apptRepoField.setAccessible(true);
-            apptRepoField.set(employeeService, appointmentRepository);
-            
             java.lang.reflect.Field convField = EmployeeService.class.getDeclaredField("converter");
             convField.setAccessible(true);
             convField.set(employeeService, converter);
@@ -273,23 +266,42 @@ class EmployeeServiceUnitTest {
     @Test
     void testCheckEmployeeDependencies_NoDependencies() {
         // Arrange
-        when(employeeRepository.findById(1L)).thenReturn(Optional.of(testEmployee));
-        when(appointmentRepository.findAll()).thenReturn(Arrays.asList());
+        when(employeeRepository.findDependencyCounts(1L)).thenReturn(Optional.of(dependencyCounts(0, 0, 0, 0, 0)));
 
         // Act
-        Map<String, Object> result = employeeService.checkEmployeeDependencies(1L);
+        EmployeeDependencyReportDTO result = employeeService.checkEmployeeDependencies(1L);
 
         // Assert
         assertNotNull(result);
-        assertEquals(0L, result.get("appointmentCount"));
-        assertEquals(true, result.get("canDelete"));
-        assertEquals(false, result.get("hasAppointments"));
+        assertEquals(0L, result.getAppointmentCount());
+        assertTrue(result.isCanDelete());
+        assertFalse(result.isHasAppointments());
+        assertNull(result.getWarningMessage());
+    }
+
+    @Test
+    void testCheckEmployeeDependencies_ReportsEveryReference() {
+        // Arrange
+        when(employeeRepository.findDependencyCounts(1L)).thenReturn(Optional.of(dependencyCounts(0, 3, 1, 12, 0)));
+
+        // Act
+        EmployeeDependencyReportDTO result = employeeService.checkEmployeeDependencies(1L);
+
+        // Assert
+        assertEquals(3L, result.getTaskCount());
+        assertEquals(1L, result.getProjectCount());
+        assertEquals(12L, result.getTimeLogCount());
+        assertFalse(result.isHasAppointments());
+        assertFalse(result.isCanDelete());
+        assertEquals("This employee is referenced by 3 task(s), 1 project(s), 12 time log(s). "
+                + "Please reassign or complete this work before deleting the employee.", result.getWarningMessage());
+        verify(employeeRepository, never()).findById(any());
     }
 
     @Test
     void testCheckEmployeeDependencies_EmployeeNotFound() {
         // Arrange
-        when(employeeRepository.findById(999L)).thenReturn(Optional.empty());
+        when(employeeRepository.findDependencyCounts(999L)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(EmployeeNotFoundException.class, 
@@ -310,7 +322,7 @@ class EmployeeServiceUnitTest {
     void testDeleteEmployee_Success() {
         // Arrange
         when(employeeRepository.findById(1L)).thenReturn(Optional.of(testEmployee));
-        when(appointmentRepository.findAll()).thenReturn(Arrays.asList());
+        when(employeeRepository.findDependencyCounts(1L)).thenReturn(Optional.of(dependencyCounts(0, 0, 0, 0, 0)));
         when(userRepository.save(any(User.class))).thenReturn(testUser);
         doNothing().when(employeeRepository).delete(testEmployee);
 
@@ -323,6 +335,18 @@ class EmployeeServiceUnitTest {
         verify(employeeRepository, times(1)).delete(testEmployee);
     }
 
+    @Test
+    void testDeleteEmployee_ReferencedEmployeeIsKept() {
+        // Arrange
+        when(employeeRepository.findById(1L)).thenReturn(Optional.of(testEmployee));
+        when(employeeRepository.findDependencyCounts(1L)).thenReturn(Optional.of(dependencyCounts(2, 0, 0, 0, 0)));
+
+        // Act & Assert
+        IllegalStateException ex = assertThrows(IllegalStateException.class, () -> employeeService.deleteEmployee(1L));
+        assertTrue(ex.getMessage().contains("2 appointment(s)"));
+        verify(employeeRepository, never()).delete(any());
+    }
+
     @Test
     void testDeleteEmployee_NotFound() {
         // Arrange
@@ -367,4 +391,20 @@ class EmployeeServiceUnitTest {
         // Act & Assert
         assertThrows(EmployeeNotFoundException.class, () -> employeeService.getCurrentEmployee());
     }
+
+    // Helper methods
+
+    private static EmployeeDependencyProjection dependencyCounts(long appointments, long tasks, long projects,
+                                                                 long timeLogs, long projectUpdates) {
+        return new EmployeeDependencyProjection() {
+            public long getAppointmentCount() { return appointments; }
+            public long getOpenAppointmentCount() { return appointments; }
+            public long getTaskCount() { return tasks; }
+            public long getOpenTaskCount() { return tasks; }
+            public long getProjectCount() { return projects; }
+            public long getOpenProjectCount() { return projects; }
+            public long getTimeLogCount() { return timeLogs; }
+            public long getProjectUpdateCount() { return projectUpdates; }
+        };
+    }
 }
@@ -0,0 +1,99 @@
+package com.ead.gearup.unit.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.ead.gearup.enums.MetricSubject;
+import com.ead.gearup.repository.MetricRollupRepository;
+import com.ead.gearup.service.MetricRollupWriter;
+
+// Unit tests for MetricRollupWriter
+@ExtendWith(MockitoExtension.class)
+class MetricRollupWriterUnitTest {
+
+    private static final LocalDateTime COMPLETED_AT = LocalDateTime.of(2025, 3, 10, 15, 0);
+
+    @Mock
+    private MetricRollupRepository metricRollupRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MetricRollupWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new MetricRollupWriter(metricRollupRepository, transactionManager);
+    }
+
+    @Test
+    void testFlush_CoalescesTransitionsPerRollupRow() {
+        writer.recordTransition(MetricSubject.PROJECT, "COMPLETED", COMPLETED_AT, 7L, COMPLETED_AT.minusHours(2), 100.0);
+        writer.recordTransition(MetricSubject.PROJECT, "COMPLETED", COMPLETED_AT, 7L, COMPLETED_AT.minusHours(4), 50.0);
+        writer.recordTransition(MetricSubject.PROJECT, "COMPLETED", COMPLETED_AT, null, COMPLETED_AT.minusHours(6), 0.0);
+
+        writer.flush();
+
+        LocalDate day = COMPLETED_AT.toLocalDate();
+        verify(metricRollupRepository).addToRollup(day, "PROJECT", "COMPLETED", 0L, 3L, 12 * 3600L, 150.0);
+        verify(metricRollupRepository).addToRollup(day, "PROJECT", "COMPLETED", 7L, 2L, 6 * 3600L, 150.0);
+        verifyNoMoreInteractions(metricRollupRepository);
+    }
+
+    @Test
+    void testFlush_NothingPendingDoesNotWrite() {
+        writer.flush();
+
+        verifyNoInteractions(metricRollupRepository, transactionManager);
+    }
+
+    @Test
+    void testRebuilding_DropsPendingDeltasInsideTheRange() {
+        LocalDateTime outside = COMPLETED_AT.plusDays(5);
+        writer.recordTransition(MetricSubject.PROJECT, "COMPLETED", COMPLETED_AT, null, null, 0);
+        writer.recordTransition(MetricSubject.PROJECT, "COMPLETED", outside, null, null, 0);
+
+        LocalDate day = COMPLETED_AT.toLocalDate();
+        assertEquals(4, writer.rebuilding(day, day.plusDays(1), () -> 4));
+        writer.flush();
+
+        verify(metricRollupRepository).addToRollup(outside.toLocalDate(), "PROJECT", "COMPLETED", 0L, 1L, 0L, 0.0);
+        verifyNoMoreInteractions(metricRollupRepository);
+    }
+
+    @Test
+    void testFlush_FailedFlushIsRetriedWithLaterDeltas() {
+        when(metricRollupRepository.addToRollup(any(), anyString(), anyString(), anyLong(), anyLong(), anyLong(), anyDouble()))
+                .thenThrow(new RuntimeException("connection reset"))
+                .thenReturn(1);
+        writer.recordTransition(MetricSubject.APPOINTMENT, "CONFIRMED", COMPLETED_AT, null, null, 0);
+
+        writer.flush();
+        writer.recordTransition(MetricSubject.APPOINTMENT, "CONFIRMED", COMPLETED_AT, null, null, 0);
+        writer.flush();
+
+        verify(metricRollupRepository).addToRollup(COMPLETED_AT.toLocalDate(), "APPOINTMENT", "CONFIRMED", 0L, 2L, 0L, 0.0);
+    }
+
+    @Test
+    void testRecordTransition_DurationIsNeverNegative() {
+        writer.recordTransition(MetricSubject.PROJECT, "CREATED", COMPLETED_AT, null, COMPLETED_AT.plusMinutes(1), 0);
+
+        writer.flush();
+
+        verify(metricRollupRepository).addToRollup(eq(COMPLETED_AT.toLocalDate()), eq("PROJECT"), eq("CREATED"),
+                eq(0L), eq(1L), eq(0L), eq(0.0));
+        assertDoesNotThrow(writer::shutdown);
+    }
+}
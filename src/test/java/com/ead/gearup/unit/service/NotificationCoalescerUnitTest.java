@@ -0,0 +1,161 @@
+package com.ead.gearup.unit.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.ead.gearup.dto.notification.CreateNotificationDTO;
+import com.ead.gearup.service.NotificationCoalescer;
+import com.ead.gearup.service.NotificationService;
+
+// Unit tests for NotificationCoalescer
+@ExtendWith(MockitoExtension.class)
+class NotificationCoalescerUnitTest {
+
+    @Mock
+    private NotificationService notificationService;
+
+    private NotificationCoalescer coalescer(long windowMillis, int maxPerMinute) {
+        return coalescer(windowMillis, maxPerMinute, 50);
+    }
+
+    private NotificationCoalescer coalescer(long windowMillis, int maxPerMinute, int maxBuffered) {
+        return new NotificationCoalescer(notificationService, true, windowMillis,
+                List.of("PROJECT_UPDATE", "TASK_ASSIGNED"), maxPerMinute, maxBuffered);
+    }
+
+    @Test
+    void testSubmit_NonCoalescedTypeIsNotBuffered() {
+        NotificationCoalescer coalescer = coalescer(0, 0);
+
+        assertFalse(coalescer.submit(notification("user1", "APPOINTMENT", "Reminder", "Tomorrow")));
+    }
+
+    @Test
+    void testSubmit_FirstEventIsDeliveredImmediately() {
+        NotificationCoalescer coalescer = coalescer(60_000, 0);
+        CreateNotificationDTO first = notification("user1", "PROJECT_UPDATE", "Project Update", "Brakes done");
+
+        assertTrue(coalescer.submit(first));
+
+        verify(notificationService).createAndSendNotification(first);
+    }
+
+    @Test
+    void testFlushDue_MergesFollowUpsIntoDigest() {
+        NotificationCoalescer coalescer = coalescer(0, 0);
+        coalescer.submit(notification("user1", "PROJECT_UPDATE", "Project Update", "Brakes done"));
+        coalescer.submit(notification("user1", "PROJECT_UPDATE", "Project Update", "Oil changed"));
+        coalescer.submit(notification("user1", "PROJECT_UPDATE", "Project Update", "Tyres rotated"));
+
+        coalescer.flushDue();
+
+        ArgumentCaptor<CreateNotificationDTO> captor = ArgumentCaptor.forClass(CreateNotificationDTO.class);
+        verify(notificationService, times(2)).createAndSendNotification(captor.capture());
+        assertEquals("Brakes done", captor.getAllValues().get(0).getMessage());
+        CreateNotificationDTO digest = captor.getAllValues().get(1);
+        assertEquals("Project Update (2)", digest.getTitle());
+        assertEquals("Oil changed\nTyres rotated", digest.getMessage());
+        assertEquals("user1", digest.getUserId());
+    }
+
+    @Test
+    void testSubmit_KeepsUsersAndTypesSeparate() {
+        NotificationCoalescer coalescer = coalescer(60_000, 0);
+        coalescer.submit(notification("user1", "PROJECT_UPDATE", "Project Update", "A"));
+        coalescer.submit(notification("user2", "PROJECT_UPDATE", "Project Update", "B"));
+        coalescer.submit(notification("user1", "TASK_ASSIGNED", "Task", "C"));
+
+        verify(notificationService, times(3)).createAndSendNotification(any());
+    }
+
+    @Test
+    void testFlushDue_HoldsFollowUpsUntilWindowCloses() {
+        NotificationCoalescer coalescer = coalescer(60_000, 0);
+        coalescer.submit(notification("user1", "PROJECT_UPDATE", "Project Update", "A"));
+        coalescer.submit(notification("user1", "PROJECT_UPDATE", "Project Update", "B"));
+
+        coalescer.flushDue();
+
+        verify(notificationService, times(1)).createAndSendNotification(any());
+    }
+
+    @Test
+    void testFlushDue_QuietWindowLetsNextEventThrough() {
+        NotificationCoalescer coalescer = coalescer(0, 0);
+        coalescer.submit(notification("user1", "PROJECT_UPDATE", "Project Update", "A"));
+        coalescer.flushDue();
+
+        coalescer.submit(notification("user1", "PROJECT_UPDATE", "Project Update", "B"));
+
+        verify(notificationService, times(2)).createAndSendNotification(any());
+    }
+
+    @Test
+    void testFlushDue_RateCapDefersDelivery() {
+        NotificationCoalescer coalescer = coalescer(0, 1);
+        coalescer.submit(notification("user1", "PROJECT_UPDATE", "Project Update", "A"));
+        coalescer.flushDue();
+        coalescer.submit(notification("user1", "PROJECT_UPDATE", "Project Update", "B"));
+        coalescer.flushDue();
+
+        verify(notificationService, times(1)).createAndSendNotification(any());
+
+        // Deferred notifications are still delivered on shutdown
+        coalescer.flushAll();
+        verify(notificationService, times(2)).createAndSendNotification(any());
+    }
+
+    @Test
+    void testFlushDue_CapsBufferedFollowUps() {
+        NotificationCoalescer coalescer = coalescer(0, 0, 2);
+        coalescer.submit(notification("user1", "PROJECT_UPDATE", "Project Update", "A"));
+        for (String message : List.of("B", "C", "D", "E")) {
+            coalescer.submit(notification("user1", "PROJECT_UPDATE", "Project Update", message));
+        }
+
+        coalescer.flushDue();
+
+        ArgumentCaptor<CreateNotificationDTO> captor = ArgumentCaptor.forClass(CreateNotificationDTO.class);
+        verify(notificationService, times(2)).createAndSendNotification(captor.capture());
+        CreateNotificationDTO digest = captor.getAllValues().get(1);
+        assertEquals("Project Update (4)", digest.getTitle());
+        assertEquals("B\nC\n+2 more", digest.getMessage());
+    }
+
+    @Test
+    void testFlushDue_RateCapKeepsDeferredBucketBounded() {
+        NotificationCoalescer coalescer = coalescer(0, 1, 2);
+        coalescer.submit(notification("user1", "PROJECT_UPDATE", "Project Update", "A"));
+        // Every window is over the cap, so follow-ups keep piling onto the deferred bucket
+        for (String message : List.of("B", "C", "D", "E", "F")) {
+            coalescer.submit(notification("user1", "PROJECT_UPDATE", "Project Update", message));
+            coalescer.flushDue();
+        }
+
+        coalescer.flushAll();
+
+        ArgumentCaptor<CreateNotificationDTO> captor = ArgumentCaptor.forClass(CreateNotificationDTO.class);
+        verify(notificationService, times(2)).createAndSendNotification(captor.capture());
+        CreateNotificationDTO digest = captor.getAllValues().get(1);
+        assertEquals("Project Update (5)", digest.getTitle());
+        assertEquals("B\nC\n+3 more", digest.getMessage());
+    }
+
+    private CreateNotificationDTO notification(String userId, String type, String title, String message) {
+        return CreateNotificationDTO.builder()
+                .userId(userId)
+                .type(type)
+                .title(title)
+                .message(message)
+                .build();
+    }
+}
@@ -0,0 +1,45 @@
+package com.ead.gearup.unit.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.ead.gearup.repository.NotificationRepository;
+import com.ead.gearup.service.NotificationRetentionService;
+
+// Unit tests for NotificationRetentionService
+@ExtendWith(MockitoExtension.class)
+class NotificationRetentionServiceUnitTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Test
+    void testPurge_StopsWhenBatchIsNotFull() {
+        NotificationRetentionService service = new NotificationRetentionService(notificationRepository, 30, 100, 50);
+        when(notificationRepository.deleteOldReadNotificationsBatch(any(LocalDateTime.class), eq(100)))
+                .thenReturn(100, 100, 42);
+
+        service.purgeOldReadNotifications();
+
+        verify(notificationRepository, times(3)).deleteOldReadNotificationsBatch(any(LocalDateTime.class), eq(100));
+    }
+
+    @Test
+    void testPurge_RespectsMaxBatchesPerRun() {
+        NotificationRetentionService service = new NotificationRetentionService(notificationRepository, 30, 10, 4);
+        when(notificationRepository.deleteOldReadNotificationsBatch(any(LocalDateTime.class), eq(10)))
+                .thenReturn(10);
+
+        service.purgeOldReadNotifications();
+
+        verify(notificationRepository, times(4)).deleteOldReadNotificationsBatch(any(LocalDateTime.class), eq(10));
+    }
+}
@@ -1,6 +1,8 @@
 package com.ead.gearup.unit.service;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -22,15 +24,19 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 
 import com.ead.gearup.dto.notification.CreateNotificationDTO;
 import com.ead.gearup.dto.notification.NotificationDTO;
+import com.ead.gearup.dto.notification.NotificationSliceDTO;
 import com.ead.gearup.exception.ResourceNotFoundException;
 import com.ead.gearup.model.Notification;
 import com.ead.gearup.repository.NotificationRepository;
 import com.ead.gearup.service.NotificationService;
 import com.ead.gearup.service.SseConnectionManager;
+import com.ead.gearup.service.UnreadNotificationCounter;
 
 // Unit tests for NotificationService
 @ExtendWith(MockitoExtension.class)
@@ -42,6 +48,9 @@ class NotificationServiceUnitTest {
     @Mock
     private SseConnectionManager sseConnectionManager;
 
+    @Mock
+    private UnreadNotificationCounter unreadNotificationCounter;
+
     @InjectMocks
     private NotificationService notificationService;
 
@@ -183,6 +192,47 @@ class NotificationServiceUnitTest {
                 eq("user123"), eq("SYSTEM"), eq(false), any(Pageable.class));
     }
 
+    // ========== NOTIFICATION FEED TESTS ==========
+
+    @Test
+    void testGetNotificationFeed_FirstSliceReturnsCursor() {
+        Notification older = createNotificationForUser("user123", 2L);
+        Slice<Notification> slice = new SliceImpl<>(Arrays.asList(testNotification, older), PageRequest.of(0, 2), true);
+        when(notificationRepository.findFirstSliceByUserId(eq("user123"), isNull(), isNull(), any(Pageable.class)))
+                .thenReturn(slice);
+
+        NotificationSliceDTO result = notificationService.getNotificationFeed("user123", null, 2, null, null);
+
+        assertEquals(2, result.getSize());
+        assertTrue(result.isHasNext());
+        assertNotNull(result.getNextCursor());
+        verify(notificationRepository, never()).findByUserId(anyString(), any(Pageable.class));
+    }
+
+    @Test
+    void testGetNotificationFeed_NextSliceUsesCursorPosition() {
+        Notification last = createNotificationForUser("user123", 2L);
+        when(notificationRepository.findFirstSliceByUserId(eq("user123"), isNull(), isNull(), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(Arrays.asList(last), PageRequest.of(0, 1), true));
+        when(notificationRepository.findSliceByUserIdAfterCursor(
+                eq("user123"), isNull(), isNull(), any(LocalDateTime.class), anyLong(), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(Arrays.asList(), PageRequest.of(0, 1), false));
+
+        String cursor = notificationService.getNotificationFeed("user123", null, 1, null, null).getNextCursor();
+        NotificationSliceDTO next = notificationService.getNotificationFeed("user123", cursor, 1, null, null);
+
+        assertFalse(next.isHasNext());
+        assertNull(next.getNextCursor());
+        verify(notificationRepository).findSliceByUserIdAfterCursor(
+                eq("user123"), isNull(), isNull(), eq(last.getCreatedAt()), eq(2L), any(Pageable.class));
+    }
+
+    @Test
+    void testGetNotificationFeed_InvalidCursor() {
+        assertThrows(IllegalArgumentException.class,
+                () -> notificationService.getNotificationFeed("user123", "not-a-cursor", 20, null, null));
+    }
+
     // ========== UNREAD NOTIFICATIONS TESTS ==========
 
     @Test
@@ -204,17 +254,17 @@ class NotificationServiceUnitTest {
 
     @Test
     void testGetUnreadCount_Success() {
-        when(notificationRepository.countByUserIdAndIsReadFalse("user123")).thenReturn(5L);
+        when(unreadNotificationCounter.get("user123")).thenReturn(5L);
 
         long count = notificationService.getUnreadCount("user123");
 
         assertEquals(5L, count);
-        verify(notificationRepository, times(1)).countByUserIdAndIsReadFalse("user123");
+        verify(notificationRepository, never()).countByUserIdAndIsReadFalse(anyString());
     }
 
     @Test
     void testGetUnreadCount_ZeroUnread() {
-        when(notificationRepository.countByUserIdAndIsReadFalse("user123")).thenReturn(0L);
+        when(unreadNotificationCounter.get("user123")).thenReturn(0L);
 
         long count = notificationService.getUnreadCount("user123");
 
@@ -233,6 +283,7 @@ class NotificationServiceUnitTest {
         ArgumentCaptor<Notification> captor = ArgumentCaptor.forClass(Notification.class);
         verify(notificationRepository).save(captor.capture());
         assertTrue(captor.getValue().isRead(), "Notification should be marked as read");
+        verify(unreadNotificationCounter).adjust("user123", -1);
     }
 
     @Test
@@ -260,25 +311,14 @@ class NotificationServiceUnitTest {
 
     @Test
     void testMarkAllAsRead_Success() {
-        Notification notification1 = createNotificationForUser("user123", 1L);
-        Notification notification2 = createNotificationForUser("user123", 2L);
-        List<Notification> unreadNotifications = Arrays.asList(notification1, notification2);
-        
-        when(notificationRepository.findByUserIdAndIsReadFalseOrderByCreatedAtDesc("user123"))
-                .thenReturn(unreadNotifications);
-        when(notificationRepository.saveAll(anyList())).thenReturn(unreadNotifications);
+        when(notificationRepository.markAllAsReadByUserId("user123")).thenReturn(2);
 
         notificationService.markAllAsRead("user123");
 
-        verify(notificationRepository, times(1)).saveAll(anyList());
-        
-        // Verify all notifications were marked as read
-        @SuppressWarnings("unchecked")
-        ArgumentCaptor<List<Notification>> captor = ArgumentCaptor.forClass(List.class);
-        verify(notificationRepository).saveAll(captor.capture());
-        captor.getValue().forEach(notification -> 
-                assertTrue(notification.isRead(), "All notifications should be marked as read")
-        );
+        // Should issue a single bulk update instead of loading and saving each entity
+        verify(notificationRepository, times(1)).markAllAsReadByUserId("user123");
+        verify(notificationRepository, never()).findByUserIdAndIsReadFalseOrderByCreatedAtDesc(anyString());
+        verify(notificationRepository, never()).saveAll(anyList());
     }
 
     // ========== DELETE TESTS ==========
@@ -326,7 +366,7 @@ class NotificationServiceUnitTest {
 
     @Test
     void testCleanupOldNotifications_Success() {
-        doNothing().when(notificationRepository).deleteOldReadNotifications(any(LocalDateTime.class));
+        when(notificationRepository.deleteOldReadNotifications(any(LocalDateTime.class))).thenReturn(3);
 
         notificationService.cleanupOldNotifications(30);
 
@@ -47,6 +47,9 @@ class ProjectServiceUnitTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private ProjectTimeBudgetRepository projectTimeBudgetRepository;
+
     @Mock
     private ProjectDTOConverter projectDTOConverter;
 
@@ -291,6 +294,7 @@ class ProjectServiceUnitTest {
 
         // Assert
         verify(projectRepository, times(1)).delete(testProject);
+        verify(projectTimeBudgetRepository, times(1)).deleteById(1L);
     }
 
     @Test
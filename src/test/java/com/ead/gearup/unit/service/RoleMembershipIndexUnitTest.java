@@ -0,0 +1,68 @@
+package com.ead.gearup.unit.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.ead.gearup.enums.UserRole;
+import com.ead.gearup.repository.UserRepository;
+import com.ead.gearup.service.RoleMembershipIndex;
+
+// Unit tests for RoleMembershipIndex
+@ExtendWith(MockitoExtension.class)
+class RoleMembershipIndexUnitTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private RoleMembershipIndex roleMembershipIndex;
+
+    @BeforeEach
+    void setUp() {
+        roleMembershipIndex = new RoleMembershipIndex(userRepository, 300);
+    }
+
+    @Test
+    void testGetUserIds_LoadsOnceWhileFresh() {
+        when(userRepository.findUserIdsByRole(UserRole.ADMIN)).thenReturn(List.of(1L, 2L));
+
+        List<String> first = roleMembershipIndex.getUserIds(UserRole.ADMIN);
+        List<String> second = roleMembershipIndex.getUserIds(UserRole.ADMIN);
+
+        assertEquals(List.of("1", "2"), first);
+        assertEquals(first, second);
+        verify(userRepository, times(1)).findUserIdsByRole(UserRole.ADMIN);
+    }
+
+    @Test
+    void testGetUserIds_ReloadsAfterInvalidate() {
+        when(userRepository.findUserIdsByRole(UserRole.ADMIN))
+                .thenReturn(List.of(1L))
+                .thenReturn(List.of(1L, 3L));
+
+        roleMembershipIndex.getUserIds(UserRole.ADMIN);
+        roleMembershipIndex.invalidateAll();
+        List<String> reloaded = roleMembershipIndex.getUserIds(UserRole.ADMIN);
+
+        assertEquals(List.of("1", "3"), reloaded);
+        verify(userRepository, times(2)).findUserIdsByRole(UserRole.ADMIN);
+    }
+
+    @Test
+    void testGetUserIds_ZeroTtlAlwaysReloads() {
+        RoleMembershipIndex uncached = new RoleMembershipIndex(userRepository, 0);
+        when(userRepository.findUserIdsByRole(UserRole.EMPLOYEE)).thenReturn(List.of());
+
+        uncached.getUserIds(UserRole.EMPLOYEE);
+        uncached.getUserIds(UserRole.EMPLOYEE);
+
+        verify(userRepository, times(2)).findUserIdsByRole(UserRole.EMPLOYEE);
+    }
+}
@@ -0,0 +1,106 @@
+package com.ead.gearup.unit.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.ead.gearup.service.SemanticChatCache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// Unit tests for SemanticChatCache
+class SemanticChatCacheUnitTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SemanticChatCache semanticChatCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        semanticChatCache = new SemanticChatCache(meterRegistry, true, 0.9, 3, 3600);
+    }
+
+    @Test
+    void testFindSimilar_MatchesRephrasedQuestion() {
+        semanticChatCache.put("When is my appointment?", "chat:response:a");
+
+        assertEquals(Optional.of("chat:response:a"), semanticChatCache.findSimilar("when's my appointment"));
+        assertEquals(Optional.of("chat:response:a"), semanticChatCache.findSimilar("  WHEN IS MY APPOINTMENT!! "));
+    }
+
+    @Test
+    void testFindSimilar_IgnoresDifferentQuestion() {
+        semanticChatCache.put("How much does an oil change cost?", "chat:response:a");
+
+        assertTrue(semanticChatCache.findSimilar("How much does a brake inspection cost?").isEmpty());
+        assertTrue(semanticChatCache.findSimilar("What are your opening hours?").isEmpty());
+    }
+
+    @Test
+    void testFindSimilar_RequiresSameTimesAndDates() {
+        semanticChatCache.put("Can I book a service at 5pm on 12/03?", "chat:response:a");
+
+        assertTrue(semanticChatCache.findSimilar("Can I book a service at 6pm on 12/03?").isEmpty());
+        assertTrue(semanticChatCache.findSimilar("Can I book a service at 5pm on 13/03?").isEmpty());
+        assertEquals(Optional.of("chat:response:a"), semanticChatCache.findSimilar("can i book a service at 5pm on 12/03"));
+    }
+
+    @Test
+    void testFindSimilar_RecordsHitAndMissMetrics() {
+        semanticChatCache.put("What services do you offer?", "chat:response:a");
+
+        semanticChatCache.findSimilar("what services do you offer");
+        semanticChatCache.findSimilar("Where is the shop located?");
+
+        assertEquals(1.0, meterRegistry.get("chat.cache.semantic.lookups").tag("result", "hit").counter().count());
+        assertEquals(1.0, meterRegistry.get("chat.cache.semantic.lookups").tag("result", "miss").counter().count());
+        assertEquals(2L, meterRegistry.get("chat.cache.semantic.lookup.latency").timer().count());
+    }
+
+    @Test
+    void testPut_EvictsLeastRecentlyUsedBeyondCapacity() {
+        semanticChatCache.put("What are your opening hours?", "k1");
+        semanticChatCache.put("Do you repair electric vehicles?", "k2");
+        semanticChatCache.put("Can I cancel my booking online?", "k3");
+
+        // Touch k1 so k2 becomes the eldest
+        semanticChatCache.findSimilar("what are your opening hours");
+        semanticChatCache.put("How long does a tyre rotation take?", "k4");
+
+        assertEquals(3, semanticChatCache.size());
+        assertTrue(semanticChatCache.findSimilar("Do you repair electric vehicles?").isEmpty());
+        assertEquals(Optional.of("k1"), semanticChatCache.findSimilar("What are your opening hours?"));
+    }
+
+    @Test
+    void testFindSimilar_ExpiredEntryIsDropped() {
+        semanticChatCache = new SemanticChatCache(meterRegistry, true, 0.9, 10, 0);
+        semanticChatCache.put("What are your opening hours?", "k1");
+
+        assertTrue(semanticChatCache.findSimilar("What are your opening hours?").isEmpty());
+        assertEquals(0, semanticChatCache.size());
+    }
+
+    @Test
+    void testRemoveAndClear() {
+        semanticChatCache.put("What are your opening hours?", "k1");
+        semanticChatCache.put("Do you repair electric vehicles?", "k2");
+
+        semanticChatCache.remove("k1");
+        assertTrue(semanticChatCache.findSimilar("What are your opening hours?").isEmpty());
+
+        semanticChatCache.clear();
+        assertEquals(0, semanticChatCache.size());
+    }
+
+    @Test
+    void testFindSimilar_DisabledNeverMatches() {
+        semanticChatCache = new SemanticChatCache(new SimpleMeterRegistry(), false, 0.9, 10, 3600);
+        semanticChatCache.put("What are your opening hours?", "k1");
+
+        assertTrue(semanticChatCache.findSimilar("What are your opening hours?").isEmpty());
+    }
+}
@@ -1,22 +1,35 @@
 package com.ead.gearup.unit.service;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 
+import com.ead.gearup.dto.employee.EmployeeHomeDTO;
+import com.ead.gearup.dto.task.EmployeeRecentActivityDTO;
 import com.ead.gearup.dto.task.TaskCreateDTO;
 import com.ead.gearup.dto.task.TaskResponseDTO;
+import com.ead.gearup.dto.task.TaskRowProjection;
+import com.ead.gearup.dto.task.TaskStatusCountProjection;
 import com.ead.gearup.dto.task.TaskUpdateDTO;
 import com.ead.gearup.enums.TaskStatus;
 import com.ead.gearup.enums.UserRole;
@@ -43,7 +56,7 @@ class TaskServiceUnitTest {
     private CurrentUserService currentUserService;
 
     @Mock
-    private EmployeeRepository employeeRepository;
+    private ProjectTimeBudgetRepository projectTimeBudgetRepository;
 
     @InjectMocks
     private TaskService taskService;
@@ -172,38 +185,114 @@ class TaskServiceUnitTest {
         assertThrows(TaskNotFoundException.class, () -> taskService.getTaskById(999L));
     }
 
-    // ========== getAllTasks() Tests ==========
+    // ========== getTasks() Tests ==========
     @Test
-    void testGetAllTasks_AsAdmin() {
+    void testGetTasks_AsAdmin() {
         // Arrange
-        List<Task> tasks = Arrays.asList(testTask);
+        TaskRowProjection row = mock(TaskRowProjection.class);
         when(currentUserService.getCurrentUserRole()).thenReturn(UserRole.ADMIN);
-        when(taskRepository.findAll()).thenReturn(tasks);
-        when(taskDTOConverter.convertToResponseDto(any())).thenReturn(responseDTO);
+        when(taskRepository.findPage(eq(TaskStatus.PENDING), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(row)));
+        when(taskDTOConverter.convertRowToResponseDto(row)).thenReturn(responseDTO);
 
         // Act
-        List<TaskResponseDTO> result = taskService.getAllTasks();
+        Page<TaskResponseDTO> result = taskService.getTasks(TaskStatus.PENDING, 0, 20);
 
         // Assert
-        assertNotNull(result);
-        assertEquals(1, result.size());
+        assertEquals(1, result.getTotalElements());
+        assertSame(responseDTO, result.getContent().get(0));
+        verify(taskRepository, never()).findAll();
     }
 
     @Test
-    void testGetAllTasks_AsCustomer() {
+    void testGetTasks_AsCustomer() {
         // Arrange
-        List<Task> tasks = Arrays.asList(testTask);
         when(currentUserService.getCurrentUserRole()).thenReturn(UserRole.CUSTOMER);
         when(currentUserService.getCurrentEntityId()).thenReturn(1L);
-        when(taskRepository.findAll()).thenReturn(tasks);
-        when(taskDTOConverter.convertToResponseDto(any())).thenReturn(responseDTO);
+        when(taskRepository.findPageByCustomerId(eq(1L), isNull(), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(mock(TaskRowProjection.class))));
+        when(taskDTOConverter.convertRowToResponseDto(any())).thenReturn(responseDTO);
 
         // Act
-        List<TaskResponseDTO> result = taskService.getAllTasks();
+        Page<TaskResponseDTO> result = taskService.getTasks(null, 0, 20);
 
         // Assert
-        assertNotNull(result);
-        assertEquals(1, result.size());
+        assertEquals(1, result.getContent().size());
+        verify(taskRepository, never()).findPage(any(), any());
+    }
+
+    @Test
+    void testGetTasks_AsEmployee_ClampsPageSize() {
+        // Arrange
+        when(currentUserService.getCurrentUserRole()).thenReturn(UserRole.EMPLOYEE);
+        when(currentUserService.getCurrentEntityId()).thenReturn(7L);
+        when(taskRepository.findPageByEmployeeId(eq(7L), isNull(), any(Pageable.class)))
+                .thenReturn(Page.empty());
+
+        // Act
+        Page<TaskResponseDTO> result = taskService.getTasks(null, -1, 1000);
+
+        // Assert
+        assertTrue(result.getContent().isEmpty());
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(taskRepository).findPageByEmployeeId(eq(7L), isNull(), pageable.capture());
+        assertEquals(0, pageable.getValue().getPageNumber());
+        assertEquals(100, pageable.getValue().getPageSize());
+    }
+
+    // ========== Employee workload Tests ==========
+    @Test
+    void testGetTaskSummaryForEmployee_UsesGroupedCounts() {
+        // Arrange
+        when(currentUserService.getCurrentEmployeeId()).thenReturn(7L);
+        when(taskRepository.countByStatusForEmployee(eq(7L), any(), any())).thenReturn(List.of(
+                statusCount(TaskStatus.ACCEPTED, 4, 0),
+                statusCount(TaskStatus.PENDING, 2, 0),
+                statusCount(TaskStatus.COMPLETED, 9, 3)));
+
+        // Act
+        Map<String, Long> summary = taskService.getTaskSummaryForEmployee();
+
+        // Assert
+        assertEquals(4L, summary.get("assigned"));
+        assertEquals(2L, summary.get("inprogress"));
+        assertEquals(3L, summary.get("completedToday"));
+    }
+
+    @Test
+    void testGetRecentActivitiesForCurrentEmployee_ReadsLimitedNames() {
+        // Arrange
+        when(currentUserService.getCurrentEmployeeId()).thenReturn(7L);
+        when(taskRepository.findRecentTaskNames(eq(7L), eq(TaskStatus.PENDING), any(Limit.class)))
+                .thenReturn(List.of("Oil change", "Brake check"));
+
+        // Act
+        List<EmployeeRecentActivityDTO> activities = taskService.getRecentActivitiesForCurrentEmployee();
+
+        // Assert
+        assertEquals(2, activities.size());
+        assertEquals("Oil change", activities.get(0).getName());
+    }
+
+    @Test
+    void testGetEmployeeHome_CombinesSummaryAndActivities() {
+        // Arrange
+        when(currentUserService.getCurrentEmployeeId()).thenReturn(7L);
+        when(taskRepository.countByStatusForEmployee(eq(7L), any(), any()))
+                .thenReturn(List.of(statusCount(TaskStatus.PENDING, 1, 0)));
+        when(taskRepository.findRecentTaskNames(eq(7L), eq(TaskStatus.PENDING), any(Limit.class)))
+                .thenReturn(List.of("Oil change"));
+
+        // Act
+        EmployeeHomeDTO home = taskService.getEmployeeHome();
+
+        // Assert
+        assertEquals(7L, home.getEmployeeId());
+        assertEquals(1L, home.getTaskSummary().get("inprogress"));
+        assertEquals(0L, home.getTaskSummary().get("completedToday"));
+        assertEquals(0L, home.getTasksByStatus().get(TaskStatus.COMPLETED));
+        assertEquals(1, home.getRecentActivities().size());
+        verify(currentUserService, times(1)).getCurrentEmployeeId();
     }
 
     // ========== updateTask() Tests ==========
@@ -222,6 +311,23 @@ class TaskServiceUnitTest {
         // Assert
         assertNotNull(result);
         verify(taskRepository, times(1)).save(testTask);
+        verify(projectTimeBudgetRepository, never()).refreshEstimatedHoursForTask(any());
+    }
+
+    @Test
+    void testUpdateTask_EstimateChangeRefreshesProjectBudgets() {
+        // Arrange
+        updateDTO.setEstimatedHours(6);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        when(currentUserService.getCurrentUserRole()).thenReturn(UserRole.ADMIN);
+        when(taskDTOConverter.updateEntityFromDto(any(), any())).thenReturn(testTask);
+        when(taskDTOConverter.convertToResponseDto(any())).thenReturn(responseDTO);
+
+        // Act
+        taskService.updateTask(1L, updateDTO);
+
+        // Assert
+        verify(projectTimeBudgetRepository, times(1)).refreshEstimatedHoursForTask(1L);
     }
 
     @Test
@@ -280,7 +386,9 @@ class TaskServiceUnitTest {
         taskService.deleteTask(1L);
 
         // Assert
-        verify(taskRepository, times(1)).delete(testTask);
+        InOrder inOrder = inOrder(projectTimeBudgetRepository, taskRepository);
+        inOrder.verify(projectTimeBudgetRepository).refreshEstimatedHoursWithoutTask(1L);
+        inOrder.verify(taskRepository, times(1)).delete(testTask);
     }
 
     @Test
@@ -292,6 +400,7 @@ class TaskServiceUnitTest {
         // Act & Assert
         assertThrows(UnauthorizedTaskAccessException.class, () -> taskService.deleteTask(1L));
         verify(taskRepository, never()).delete(any());
+        verify(projectTimeBudgetRepository, never()).refreshEstimatedHoursWithoutTask(any());
     }
 
     @Test
@@ -302,4 +411,14 @@ class TaskServiceUnitTest {
         // Act & Assert
         assertThrows(TaskNotFoundException.class, () -> taskService.deleteTask(999L));
     }
+
+    // Helper methods
+
+    private static TaskStatusCountProjection statusCount(TaskStatus status, long taskCount, long completedToday) {
+        return new TaskStatusCountProjection() {
+            public TaskStatus getStatus() { return status; }
+            public long getTaskCount() { return taskCount; }
+            public long getCompletedToday() { return completedToday; }
+        };
+    }
 }
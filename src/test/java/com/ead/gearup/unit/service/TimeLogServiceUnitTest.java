@@ -1,9 +1,11 @@
 package com.ead.gearup.unit.service;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.ArrayList;
@@ -16,6 +18,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 
 import com.ead.gearup.dto.timelog.*;
 import com.ead.gearup.exception.EmployeeNotFoundException;
@@ -45,9 +50,15 @@ class TimeLogServiceUnitTest {
     @Mock
     private ProjectRepository projectRepository;
 
+    @Mock
+    private AppointmentRepository appointmentRepository;
+
     @Mock
     private CurrentUserService currentUserService;
 
+    @Mock
+    private ProjectTimeBudgetRepository projectTimeBudgetRepository;
+
     @InjectMocks
     private TimeLogService timeLogService;
 
@@ -58,6 +69,7 @@ class TimeLogServiceUnitTest {
     private CreateTimeLogDTO createDTO;
     private UpdateTimeLogDTO updateDTO;
     private TimeLogResponseDTO responseDTO;
+    private ProjectTimeBudget testBudget;
 
     @BeforeEach
     void setUp() {
@@ -98,6 +110,9 @@ class TimeLogServiceUnitTest {
         updateDTO = new UpdateTimeLogDTO();
         updateDTO.setDescription("Updated description");
 
+        // Running totals of the project: 10 hours estimated from its single task
+        testBudget = new ProjectTimeBudget(1L, 10, 0.0, LocalDateTime.now());
+
         responseDTO = new TimeLogResponseDTO();
         responseDTO.setLogId(1L);
         responseDTO.setDescription("Test time log");
@@ -111,7 +126,7 @@ class TimeLogServiceUnitTest {
         when(employeeRepository.findById(1L)).thenReturn(Optional.of(testEmployee));
         when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
         when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
-        when(timeLogRepository.getTotalLoggedHoursByProjectId(1L)).thenReturn(5.0); // 5 hours already logged
+        stubBudget(5.0); // 5 hours already logged
         when(converter.convertToEntity(any(), any(), any(), any(), any())).thenReturn(testTimeLog);
         when(timeLogRepository.save(any(TimeLog.class))).thenReturn(testTimeLog);
         when(converter.convertToResponseDTO(any())).thenReturn(responseDTO);
@@ -188,41 +203,84 @@ class TimeLogServiceUnitTest {
         assertThrows(ResourceNotFoundException.class, () -> timeLogService.getTimeLogById(999L));
     }
 
-    // ========== getAllTimeLogs() Tests ==========
+    // ========== getTimeLogs() Tests ==========
     @Test
-    void testGetAllTimeLogs_Success() {
+    void testGetTimeLogs_Success() {
         // Arrange
-        List<TimeLog> timeLogs = Arrays.asList(testTimeLog);
-        when(timeLogRepository.findAll()).thenReturn(timeLogs);
-        when(converter.convertToResponseDTO(any())).thenReturn(responseDTO);
+        TimeLogRowProjection row = mock(TimeLogRowProjection.class);
+        when(timeLogRepository.findPageByStartTimeRange(any(), any(), any()))
+                .thenReturn(new PageImpl<>(List.of(row)));
+        when(converter.convertRowToResponseDTO(row)).thenReturn(responseDTO);
 
         // Act
-        List<TimeLogResponseDTO> result = timeLogService.getAllTimeLogs();
+        Page<TimeLogResponseDTO> result = timeLogService.getTimeLogs(null, null, null, 0, 20);
 
         // Assert
-        assertNotNull(result);
-        assertEquals(1, result.size());
-        verify(timeLogRepository, times(1)).findAll();
+        assertEquals(1, result.getContent().size());
+        verify(timeLogRepository, never()).findAll();
     }
 
     @Test
-    void testGetAllTimeLogs_EmptyList() {
+    void testGetTimeLogs_EmployeeAndDateRange() {
         // Arrange
-        when(timeLogRepository.findAll()).thenReturn(Arrays.asList());
+        when(timeLogRepository.findPageByEmployeeId(eq(1L), any(), any(), any())).thenReturn(Page.empty());
 
         // Act
-        List<TimeLogResponseDTO> result = timeLogService.getAllTimeLogs();
+        Page<TimeLogResponseDTO> result = timeLogService.getTimeLogs(
+                1L, LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31), 2, 500);
 
         // Assert
-        assertNotNull(result);
         assertTrue(result.isEmpty());
+        verify(timeLogRepository).findPageByEmployeeId(1L,
+                LocalDateTime.of(2025, 3, 1, 0, 0), LocalDateTime.of(2025, 4, 1, 0, 0), PageRequest.of(2, 100));
+    }
+
+    @Test
+    void testGetTimeLogs_InvalidRange() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> timeLogService.getTimeLogs(
+                null, LocalDate.of(2025, 3, 31), LocalDate.of(2025, 3, 1), 0, 20));
+    }
+
+    @Test
+    void testGetTimeLogsByAppointment_Success() {
+        // Arrange
+        TimeLogRowProjection row = mock(TimeLogRowProjection.class);
+        when(appointmentRepository.existsById(5L)).thenReturn(true);
+        when(timeLogRepository.findPageByAppointmentId(eq(5L), any())).thenReturn(new PageImpl<>(List.of(row)));
+        when(converter.convertRowToResponseDTO(row)).thenReturn(responseDTO);
+
+        // Act
+        Page<TimeLogResponseDTO> result = timeLogService.getTimeLogsByAppointment(5L, 0, 20);
+
+        // Assert
+        assertEquals(1L, result.getContent().get(0).getLogId());
+        verify(timeLogRepository, never()).findAll();
+    }
+
+    @Test
+    void testGetTimeLogsByAppointment_NotFound() {
+        // Arrange
+        when(appointmentRepository.existsById(999L)).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> timeLogService.getTimeLogsByAppointment(999L, 0, 20));
+    }
+
+    @Test
+    void testGetTimeLogsByProject_NotFound() {
+        // Arrange
+        when(projectRepository.existsById(999L)).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> timeLogService.getTimeLogsByProject(999L, 0, 20));
     }
 
     // ========== updateTimeLog() Tests ==========
     @Test
     void testUpdateTimeLog_Success() {
         // Arrange
-        when(timeLogRepository.findById(1L)).thenReturn(Optional.of(testTimeLog));
+        when(timeLogRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(testTimeLog));
         doNothing().when(converter).updateEntityFromDTO(any(), any());
         when(timeLogRepository.save(any(TimeLog.class))).thenReturn(testTimeLog);
         when(converter.convertToResponseDTO(any())).thenReturn(responseDTO);
@@ -239,7 +297,7 @@ class TimeLogServiceUnitTest {
     @Test
     void testUpdateTimeLog_NotFound() {
         // Arrange
-        when(timeLogRepository.findById(999L)).thenReturn(Optional.empty());
+        when(timeLogRepository.findByIdForUpdate(999L)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> timeLogService.updateTimeLog(999L, updateDTO));
@@ -250,25 +308,25 @@ class TimeLogServiceUnitTest {
     @Test
     void testDeleteTimeLog_Success() {
         // Arrange
-        when(timeLogRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(timeLogRepository).deleteById(1L);
+        stubBudget(5.0);
+        when(timeLogRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(testTimeLog));
 
         // Act
         timeLogService.deleteTimeLog(1L);
 
         // Assert
-        verify(timeLogRepository, times(1)).existsById(1L);
-        verify(timeLogRepository, times(1)).deleteById(1L);
+        verify(timeLogRepository, times(1)).delete(testTimeLog);
+        assertEquals(3.0, testBudget.getLoggedHours());
     }
 
     @Test
     void testDeleteTimeLog_NotFound() {
         // Arrange
-        when(timeLogRepository.existsById(999L)).thenReturn(false);
+        when(timeLogRepository.findByIdForUpdate(999L)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> timeLogService.deleteTimeLog(999L));
-        verify(timeLogRepository, never()).deleteById(any());
+        verify(timeLogRepository, never()).delete(any());
     }
 
     // ========== Estimated Hours Validation Tests ==========
@@ -279,7 +337,7 @@ class TimeLogServiceUnitTest {
         when(employeeRepository.findById(1L)).thenReturn(Optional.of(testEmployee));
         when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
         when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
-        when(timeLogRepository.getTotalLoggedHoursByProjectId(1L)).thenReturn(9.0);
+        stubBudget(9.0);
 
         // Act & Assert
         ExceededEstimatedHoursException exception = assertThrows(
@@ -298,7 +356,7 @@ class TimeLogServiceUnitTest {
         when(employeeRepository.findById(1L)).thenReturn(Optional.of(testEmployee));
         when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
         when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
-        when(timeLogRepository.getTotalLoggedHoursByProjectId(1L)).thenReturn(8.0);
+        stubBudget(8.0);
         when(converter.convertToEntity(any(), any(), any(), any(), any())).thenReturn(testTimeLog);
         when(timeLogRepository.save(any(TimeLog.class))).thenReturn(testTimeLog);
         when(converter.convertToResponseDTO(any())).thenReturn(responseDTO);
@@ -315,8 +373,8 @@ class TimeLogServiceUnitTest {
     void testUpdateTimeLog_ExceedsEstimatedHours() {
         // Arrange
         testTimeLog.setHoursWorked(2.0);
-        when(timeLogRepository.findById(1L)).thenReturn(Optional.of(testTimeLog));
-        when(timeLogRepository.getTotalLoggedHoursByProjectId(1L)).thenReturn(9.0); // 9 hours total (including current 2)
+        when(timeLogRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(testTimeLog));
+        stubBudget(9.0); // 9 hours total (including current 2)
         
         UpdateTimeLogDTO updateDTO = new UpdateTimeLogDTO();
         updateDTO.setStartTime(LocalDateTime.now());
@@ -335,8 +393,7 @@ class TimeLogServiceUnitTest {
     @Test
     void testGetProjectTimeLogSummary_Success() {
         // Arrange
-        when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
-        when(timeLogRepository.getTotalLoggedHoursByProjectId(1L)).thenReturn(6.5);
+        stubSummary(6.5);
 
         // Act
         ProjectTimeLogSummaryDTO summary = timeLogService.getProjectTimeLogSummary(1L);
@@ -355,8 +412,7 @@ class TimeLogServiceUnitTest {
     @Test
     void testGetProjectTimeLogSummary_OverBudget() {
         // Arrange
-        when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
-        when(timeLogRepository.getTotalLoggedHoursByProjectId(1L)).thenReturn(12.0);
+        stubSummary(12.0);
 
         // Act
         ProjectTimeLogSummaryDTO summary = timeLogService.getProjectTimeLogSummary(1L);
@@ -368,4 +424,103 @@ class TimeLogServiceUnitTest {
         assertEquals(12.0, summary.getTotalLoggedHours());
         assertTrue(summary.getIsOverBudget());
     }
+
+    @Test
+    void testCreateTimeLog_AddsToRunningTotal() {
+        // Arrange
+        stubBudget(5.0);
+        when(currentUserService.getCurrentEntityId()).thenReturn(1L);
+        when(employeeRepository.findById(1L)).thenReturn(Optional.of(testEmployee));
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
+        when(converter.convertToEntity(any(), any(), any(), any(), any())).thenReturn(testTimeLog);
+        when(timeLogRepository.save(any(TimeLog.class))).thenReturn(testTimeLog);
+
+        // Act
+        timeLogService.createTimeLog(createDTO);
+
+        // Assert
+        assertEquals(7.0, testBudget.getLoggedHours());
+    }
+
+    @Test
+    void testCreateTimeLog_CreatesMissingBudgetRow() {
+        // Arrange
+        when(currentUserService.getCurrentEntityId()).thenReturn(1L);
+        when(employeeRepository.findById(1L)).thenReturn(Optional.of(testEmployee));
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
+        when(projectTimeBudgetRepository.findByIdForUpdate(1L))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(testBudget));
+        when(converter.convertToEntity(any(), any(), any(), any(), any())).thenReturn(testTimeLog);
+        when(timeLogRepository.save(any(TimeLog.class))).thenReturn(testTimeLog);
+
+        // Act
+        timeLogService.createTimeLog(createDTO);
+
+        // Assert
+        verify(projectTimeBudgetRepository, times(1)).initialize(1L);
+        assertEquals(2.0, testBudget.getLoggedHours());
+    }
+
+    @Test
+    void testUpdateTimeLog_ReplacesOldHoursInRunningTotal() {
+        // Arrange
+        stubBudget(6.0);
+        when(timeLogRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(testTimeLog));
+        when(timeLogRepository.save(any(TimeLog.class))).thenReturn(testTimeLog);
+        UpdateTimeLogDTO updateDTO = new UpdateTimeLogDTO();
+        updateDTO.setStartTime(LocalDateTime.now());
+        updateDTO.setEndTime(LocalDateTime.now().plusHours(3));
+
+        // Act
+        timeLogService.updateTimeLog(1L, updateDTO);
+
+        // Assert
+        assertEquals(7.0, testBudget.getLoggedHours());
+    }
+
+    @Test
+    void testGetProjectTimeLogSummary_ProjectNotFound() {
+        // Arrange
+        when(projectTimeBudgetRepository.findSummary(999L)).thenReturn(Optional.empty());
+        when(projectTimeBudgetRepository.computeSummary(999L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> timeLogService.getProjectTimeLogSummary(999L));
+        verify(projectTimeBudgetRepository, never()).initialize(anyLong());
+    }
+
+    @Test
+    void testGetProjectTimeLogSummary_ComputesTotalsWithoutBudgetRow() {
+        // Arrange
+        ProjectTimeBudgetProjection computed = mock(ProjectTimeBudgetProjection.class);
+        when(computed.getProjectName()).thenReturn("Test Project");
+        when(computed.getEstimatedHours()).thenReturn(8);
+        when(computed.getLoggedHours()).thenReturn(2.0);
+        when(projectTimeBudgetRepository.findSummary(1L)).thenReturn(Optional.empty());
+        when(projectTimeBudgetRepository.computeSummary(1L)).thenReturn(Optional.of(computed));
+
+        // Act
+        ProjectTimeLogSummaryDTO summary = timeLogService.getProjectTimeLogSummary(1L);
+
+        // Assert
+        assertEquals(8, summary.getTotalEstimatedHours());
+        assertEquals(6.0, summary.getRemainingHours());
+        verify(projectTimeBudgetRepository, never()).initialize(anyLong());
+    }
+
+    private void stubBudget(double loggedHours) {
+        testBudget.setLoggedHours(loggedHours);
+        when(projectTimeBudgetRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(testBudget));
+    }
+
+    private void stubSummary(double loggedHours) {
+        ProjectTimeBudgetProjection summary = mock(ProjectTimeBudgetProjection.class);
+        when(summary.getProjectName()).thenReturn("Test Project");
+        when(summary.getEstimatedHours()).thenReturn(10);
+        when(summary.getLoggedHours()).thenReturn(loggedHours);
+        when(projectTimeBudgetRepository.findSummary(1L)).thenReturn(Optional.of(summary));
+    }
 }
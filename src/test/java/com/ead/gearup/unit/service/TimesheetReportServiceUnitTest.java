@@ -0,0 +1,180 @@
+package com.ead.gearup.unit.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.ead.gearup.dto.settings.ShopSettingsDTO;
+import com.ead.gearup.dto.timelog.EmployeeTimesheetDTO;
+import com.ead.gearup.dto.timelog.TimesheetRowProjection;
+import com.ead.gearup.enums.MetricGranularity;
+import com.ead.gearup.repository.TimeLogRepository;
+import com.ead.gearup.service.ShopSettingsService;
+import com.ead.gearup.service.TimesheetReportService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+// Unit tests for TimesheetReportService
+@ExtendWith(MockitoExtension.class)
+class TimesheetReportServiceUnitTest {
+
+    // Monday to Sunday, with New Year's Day (a Wednesday) closed
+    private static final LocalDate FROM = LocalDate.of(2024, 12, 30);
+    private static final LocalDate TO = LocalDate.of(2025, 1, 5);
+
+    @Mock
+    private TimeLogRepository timeLogRepository;
+
+    @Mock
+    private ShopSettingsService shopSettingsService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private TimesheetReportService timesheetReportService;
+
+    @BeforeEach
+    void setUp() {
+        timesheetReportService = new TimesheetReportService(timeLogRepository, shopSettingsService,
+                objectMapper, transactionManager, 366);
+    }
+
+    @Test
+    void testGetReport_ComputesUtilizationFromShopHours() {
+        stubSettings();
+        when(timeLogRepository.streamTimesheet(FROM.atStartOfDay(), TO.plusDays(1).atStartOfDay(), null,
+                "week", "1,2,3,4,5", "2025-01-01", 9.0))
+                .thenReturn(Stream.of(row(1L, "Alice", FROM, 27, 20, 7, 18, 2, 5)));
+
+        List<EmployeeTimesheetDTO> report = timesheetReportService.getReport(FROM, TO, MetricGranularity.WEEK, null);
+
+        assertEquals(1, report.size());
+        EmployeeTimesheetDTO row = report.get(0);
+        assertEquals(FROM, row.getPeriodStart());
+        assertEquals(TO, row.getPeriodEnd());
+        // Four working days of nine hours: the closed date and the weekend do not count
+        assertEquals(36.0, row.getAvailableHours());
+        assertEquals(75.0, row.getUtilizationPercent());
+        assertEquals(18.0, row.getBillableHours());
+        assertEquals(9.0, row.getNonBillableHours());
+        assertEquals(2.0, row.getOvertimeHours());
+        assertEquals(5, row.getLogCount());
+    }
+
+    @Test
+    void testGetReport_ClipsPeriodsToRequestedRange() {
+        stubSettings();
+        LocalDate from = LocalDate.of(2025, 1, 15);
+        LocalDate to = LocalDate.of(2025, 1, 31);
+        when(timeLogRepository.streamTimesheet(any(), any(), eq(3L), eq("month"), any(), any(), anyDouble()))
+                .thenReturn(Stream.of(row(3L, "Bob", LocalDate.of(2025, 1, 1), 58.5, 58.5, 0, 58.5, 0, 9)));
+
+        EmployeeTimesheetDTO row = timesheetReportService.getReport(from, to, MetricGranularity.MONTH, 3L).get(0);
+
+        assertEquals(from, row.getPeriodStart());
+        assertEquals(to, row.getPeriodEnd());
+        assertEquals(13 * 9.0, row.getAvailableHours());
+        assertEquals(50.0, row.getUtilizationPercent());
+    }
+
+    @Test
+    void testGetReport_NoWorkingDaysHasNoUtilization() {
+        stubSettings();
+        LocalDate saturday = LocalDate.of(2025, 1, 4);
+        when(timeLogRepository.streamTimesheet(any(), any(), any(), eq("day"), any(), any(), anyDouble()))
+                .thenReturn(Stream.of(row(1L, "Alice", saturday, 3, 3, 0, 0, 3, 1)));
+
+        EmployeeTimesheetDTO row = timesheetReportService.getReport(saturday, saturday, MetricGranularity.DAY, null).get(0);
+
+        assertEquals(0.0, row.getAvailableHours());
+        assertNull(row.getUtilizationPercent());
+    }
+
+    @Test
+    void testWriteCsv_StreamsHeaderAndEscapedRows() throws Exception {
+        stubSettings();
+        when(timeLogRepository.streamTimesheet(any(), any(), any(), any(), any(), any(), anyDouble()))
+                .thenReturn(Stream.of(row(1L, "Smith, \"Jo\"", FROM, 27, 20, 7, 18, 2, 5)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        timesheetReportService.writeCsv(FROM, TO, MetricGranularity.WEEK, null, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("employee_id,employee_name,period_start"));
+        assertEquals("1,\"Smith, \"\"Jo\"\"\",2024-12-30,2025-01-05,27.0,36.0,75.0,20.0,7.0,18.0,9.0,2.0,5", lines[1]);
+    }
+
+    @Test
+    void testWriteJson_StreamsArrayOfRows() throws Exception {
+        stubSettings();
+        when(timeLogRepository.streamTimesheet(any(), any(), any(), any(), any(), any(), anyDouble()))
+                .thenReturn(Stream.of(row(1L, "Alice", FROM, 27, 20, 7, 18, 2, 5),
+                        row(2L, "Bob", FROM, 9, 0, 9, 0, 0, 2)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        timesheetReportService.writeJson(FROM, TO, MetricGranularity.WEEK, null, out);
+
+        JsonNode json = objectMapper.readTree(out.toByteArray());
+        assertEquals(2, json.size());
+        assertEquals("2024-12-30", json.get(0).get("periodStart").asText());
+        assertEquals(75.0, json.get(0).get("utilizationPercent").asDouble());
+        assertEquals("Bob", json.get(1).get("employeeName").asText());
+    }
+
+    @Test
+    void testGetReport_RejectsInvalidRange() {
+        assertThrows(IllegalArgumentException.class,
+                () -> timesheetReportService.getReport(TO, FROM, MetricGranularity.WEEK, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> timesheetReportService.getReport(FROM, FROM.plusDays(400), MetricGranularity.WEEK, null));
+        verifyNoInteractions(timeLogRepository);
+    }
+
+    // Helper methods
+
+    private void stubSettings() {
+        when(shopSettingsService.getShopSettings()).thenReturn(ShopSettingsDTO.builder()
+                .openingTime(LocalTime.of(9, 0))
+                .closingTime(LocalTime.of(18, 0))
+                .operatingDays(List.of(5, 1, 2, 3, 4))
+                .isShopOpen(true)
+                .closedDates(List.of("2025-01-01"))
+                .build());
+    }
+
+    private static TimesheetRowProjection row(Long employeeId, String name, LocalDate periodStart, double logged,
+                                              double project, double appointment, double billable,
+                                              double overtime, long logCount) {
+        return new TimesheetRowProjection() {
+            public Long getEmployeeId() { return employeeId; }
+            public String getEmployeeName() { return name; }
+            public LocalDate getPeriodStart() { return periodStart; }
+            public double getLoggedHours() { return logged; }
+            public double getProjectHours() { return project; }
+            public double getAppointmentHours() { return appointment; }
+            public double getBillableHours() { return billable; }
+            public double getOvertimeHours() { return overtime; }
+            public long getLogCount() { return logCount; }
+        };
+    }
+}
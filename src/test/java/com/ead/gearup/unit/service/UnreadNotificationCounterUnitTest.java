@@ -0,0 +1,105 @@
+package com.ead.gearup.unit.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.ead.gearup.repository.NotificationRepository;
+import com.ead.gearup.service.SseConnectionManager;
+import com.ead.gearup.service.UnreadNotificationCounter;
+
+// Unit tests for UnreadNotificationCounter
+@ExtendWith(MockitoExtension.class)
+class UnreadNotificationCounterUnitTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private SseConnectionManager sseConnectionManager;
+
+    private UnreadNotificationCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        counter = new UnreadNotificationCounter(notificationRepository, sseConnectionManager, 1800);
+    }
+
+    @Test
+    void testGet_LoadsFromDatabaseOnce() {
+        when(notificationRepository.countByUserIdAndIsReadFalse("user123")).thenReturn(4L);
+
+        assertEquals(4L, counter.get("user123"));
+        assertEquals(4L, counter.get("user123"));
+
+        verify(notificationRepository, times(1)).countByUserIdAndIsReadFalse("user123");
+    }
+
+    @Test
+    void testAdjust_UpdatesCachedCounterAndPushes() {
+        when(notificationRepository.countByUserIdAndIsReadFalse("user123")).thenReturn(2L);
+        counter.get("user123");
+
+        counter.adjust("user123", 1);
+        counter.adjust("user123", -1);
+        counter.adjust("user123", -1);
+
+        assertEquals(1L, counter.get("user123"));
+        verify(sseConnectionManager).sendUnreadCount("user123", 3L);
+        verify(sseConnectionManager).sendUnreadCount("user123", 1L);
+    }
+
+    @Test
+    void testAdjust_NeverGoesNegative() {
+        when(notificationRepository.countByUserIdAndIsReadFalse("user123")).thenReturn(0L);
+        counter.get("user123");
+
+        counter.adjust("user123", -1);
+
+        assertEquals(0L, counter.get("user123"));
+    }
+
+    @Test
+    void testAdjust_UncachedAndDisconnected_DoesNotQueryDatabase() {
+        when(sseConnectionManager.getConnectionCount("user123")).thenReturn(0);
+
+        counter.adjust("user123", 1);
+
+        verify(notificationRepository, never()).countByUserIdAndIsReadFalse(anyString());
+        verify(sseConnectionManager, never()).sendUnreadCount(anyString(), anyLong());
+    }
+
+    @Test
+    void testReset_SetsCounterToZero() {
+        when(notificationRepository.countByUserIdAndIsReadFalse("user123")).thenReturn(7L);
+        counter.get("user123");
+
+        counter.reset("user123");
+
+        assertEquals(0L, counter.get("user123"));
+        verify(sseConnectionManager).sendUnreadCount("user123", 0L);
+    }
+
+    @Test
+    void testReconcile_CorrectsDrift() {
+        when(notificationRepository.countByUserIdAndIsReadFalse("user123")).thenReturn(1L);
+        counter.get("user123");
+        when(notificationRepository.countUnreadGroupedByUserId(anyCollection()))
+                .thenReturn(List.<Object[]>of(new Object[] {"user123", 6L}));
+
+        counter.reconcile();
+
+        assertEquals(6L, counter.get("user123"));
+        verify(sseConnectionManager).sendUnreadCount("user123", 6L);
+    }
+}